@@ -0,0 +1,60 @@
+package com.voting.system.api.benchmark;
+
+import com.voting.system.api.VotingSystemApiApplication;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.repository.AssociateRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private AssociateRepository associateRepository;
+    private TransactionTemplate transactionTemplate;
+    private long cpfSequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VotingSystemApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                "--logging.level.root=WARN"
+            );
+        associateRepository = context.getBean(AssociateRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Associate> saveAllAssociates() {
+        List<Associate> associates = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Associate associate = new Associate();
+            associate.setName("Associado " + cpfSequence);
+            associate.setCpf(String.format("%011d", cpfSequence++));
+            associates.add(associate);
+        }
+        return transactionTemplate.execute(status -> associateRepository.saveAll(associates));
+    }
+}
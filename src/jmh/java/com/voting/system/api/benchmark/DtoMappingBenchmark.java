@@ -0,0 +1,150 @@
+package com.voting.system.api.benchmark;
+
+import com.voting.system.api.mapper.AgendaMapper;
+import com.voting.system.api.mapper.AssociateMapper;
+import com.voting.system.api.mapper.VoteMapper;
+import com.voting.system.api.mapper.VotingSessionMapper;
+import com.voting.system.api.model.dto.request.AgendaRequestDTO;
+import com.voting.system.api.model.dto.request.AssociateRequestDTO;
+import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.dto.response.AssociateResponseDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the explicit mappers with the STRICT, field-access ModelMapper the services
+ * used before, including the fields the services patched in after each map call. Run
+ * with {@code -prof gc} to see allocation per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoMappingBenchmark {
+
+    @Param({"modelmapper", "explicit"})
+    private String mapper;
+
+    private boolean explicit;
+    private ModelMapper modelMapper;
+    private final AgendaMapper agendaMapper = new AgendaMapper();
+    private final AssociateMapper associateMapper = new AssociateMapper();
+    private final VotingSessionMapper votingSessionMapper = new VotingSessionMapper();
+    private final VoteMapper voteMapper = new VoteMapper();
+
+    private Agenda agenda;
+    private Associate associate;
+    private VotingSession votingSession;
+    private Vote vote;
+    private AgendaRequestDTO agendaRequest;
+    private AssociateRequestDTO associateRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        explicit = "explicit".equals(mapper);
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setMatchingStrategy(MatchingStrategies.STRICT)
+            .setFieldMatchingEnabled(true)
+            .setFieldAccessLevel(AccessLevel.PRIVATE);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        agenda = new Agenda();
+        agenda.setId(1L);
+        agenda.setTitle("Aprovação do orçamento 2025");
+        agenda.setDescription("Discussão e votação do orçamento anual");
+        agenda.setDtCreated(now);
+        agenda.setDtUpdated(now);
+
+        associate = new Associate();
+        associate.setId(2L);
+        associate.setName("João da Silva");
+        associate.setCpf("12345678901");
+        associate.setDtCreated(now);
+
+        votingSession = new VotingSession();
+        votingSession.setId(3L);
+        votingSession.setAgenda(agenda);
+        votingSession.setStatus(VotingSessionStatusEnum.ACTIVE);
+        votingSession.setStartTime(now);
+        votingSession.setEndTime(now.plusMinutes(5));
+        votingSession.setDurationMinutes(5);
+        votingSession.setDtCreated(now);
+
+        vote = new Vote();
+        vote.setId(4L);
+        vote.setVotingSession(votingSession);
+        vote.setAssociate(associate);
+        vote.setValue(VoteValue.YES);
+        vote.setVoteTime(now);
+
+        agendaRequest = new AgendaRequestDTO();
+        agendaRequest.setTitle(agenda.getTitle());
+        agendaRequest.setDescription(agenda.getDescription());
+
+        associateRequest = new AssociateRequestDTO();
+        associateRequest.setName(associate.getName());
+        associateRequest.setCpf(associate.getCpf());
+    }
+
+    @Benchmark
+    public VoteResponseDTO vote() {
+        if (explicit) {
+            return voteMapper.toResponseDTO(vote);
+        }
+        VoteResponseDTO responseDTO = modelMapper.map(vote, VoteResponseDTO.class);
+        responseDTO.setVotingSessionId(vote.getVotingSession().getId());
+        responseDTO.setAssociateId(vote.getAssociate().getId());
+        responseDTO.setAssociateName(vote.getAssociate().getName());
+        return responseDTO;
+    }
+
+    @Benchmark
+    public VotingSessionResponseDTO votingSession() {
+        if (explicit) {
+            return votingSessionMapper.toResponseDTO(votingSession);
+        }
+        VotingSessionResponseDTO responseDTO = modelMapper.map(votingSession, VotingSessionResponseDTO.class);
+        responseDTO.setAgendaTitle(votingSession.getAgenda().getTitle());
+        return responseDTO;
+    }
+
+    @Benchmark
+    public AssociateResponseDTO associate() {
+        if (explicit) {
+            return associateMapper.toResponseDTO(associate);
+        }
+        AssociateResponseDTO responseDTO = modelMapper.map(associate, AssociateResponseDTO.class);
+        responseDTO.setStatus(associate.getStatus());
+        return responseDTO;
+    }
+
+    @Benchmark
+    public AgendaResponseDTO agenda() {
+        return explicit ? agendaMapper.toResponseDTO(agenda) : modelMapper.map(agenda, AgendaResponseDTO.class);
+    }
+
+    @Benchmark
+    public Agenda agendaRequest() {
+        return explicit ? agendaMapper.toEntity(agendaRequest) : modelMapper.map(agendaRequest, Agenda.class);
+    }
+
+    @Benchmark
+    public Associate associateRequest() {
+        return explicit ? associateMapper.toEntity(associateRequest) : modelMapper.map(associateRequest, Associate.class);
+    }
+}
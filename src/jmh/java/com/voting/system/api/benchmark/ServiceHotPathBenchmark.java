@@ -0,0 +1,170 @@
+package com.voting.system.api.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.voting.system.api.VotingSystemApiApplication;
+import com.voting.system.api.client.CpfValidationClient;
+import com.voting.system.api.model.dto.external.CpfValidationResponseDTO;
+import com.voting.system.api.model.dto.request.AgendaRequestDTO;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.validation.ICreateValidationGroup;
+import com.voting.system.api.repository.AssociateRepository;
+import com.voting.system.api.repository.VoteRepository;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
+import com.voting.system.api.service.interfaces.IAgendaService;
+import com.voting.system.api.service.interfaces.IVoteService;
+import com.voting.system.api.service.interfaces.IVotingSessionService;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import com.voting.system.api.service.validator.GenericValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-layer hot paths against an embedded in-memory H2: casting a vote, reading a
+ * result from the live tally (through both services) and recounting it with the
+ * database GROUP BY the tally falls back to, the CPF checksum and bean validation of a vote request. Reports throughput
+ * and latency percentiles; add {@code -prof gc} for allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+public class ServiceHotPathBenchmark {
+
+    private static final int ASSOCIATES = 5_000;
+    private static final int SESSIONS = 200;
+    private static final String[] CPFS = {"11144477735", "52998224725", "12345678900", "11111111111", "1234"};
+
+    private ConfigurableApplicationContext context;
+    private IVoteService voteService;
+    private IVotingSessionService votingSessionService;
+    private VoteRepository voteRepository;
+    private GenericValidator genericValidator;
+    private CpfValidationClient cpfValidationClient;
+
+    private long[] associateIds;
+    private long[] sessionIds;
+    private long resultSessionId;
+    private VoteRequestDTO validRequest;
+    private long votes;
+    private int cpf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(VotingSystemApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:service-hot-path;DB_CLOSE_DELAY=-1",
+                "--voting.voted-index.directory=" + Files.createTempDirectory("voted-index"),
+                "--voting.associate-cache.eligibility-ttl-seconds=3600",
+                "--logging.level.root=WARN"
+            );
+        voteService = context.getBean(IVoteService.class);
+        votingSessionService = context.getBean(IVotingSessionService.class);
+        voteRepository = context.getBean(VoteRepository.class);
+        genericValidator = context.getBean(GenericValidator.class);
+
+        cpfValidationClient = new CpfValidationClient(new RestTemplate(), new VotingMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(cpfValidationClient, "cpfValidationEnabled", false);
+        ((Logger) LoggerFactory.getLogger(CpfValidationClient.class)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        List<Associate> associates = new ArrayList<>(ASSOCIATES);
+        for (int i = 0; i < ASSOCIATES; i++) {
+            Associate associate = new Associate();
+            associate.setName("Associado " + i);
+            associate.setCpf(String.format("%011d", i));
+            associates.add(associate);
+        }
+        AssociateEligibilityCache eligibilityCache = context.getBean(AssociateEligibilityCache.class);
+        associateIds = context.getBean(AssociateRepository.class).saveAll(associates).stream()
+            .filter(associate -> eligibilityCache.put(associate).eligible())
+            .mapToLong(Associate::getId)
+            .toArray();
+
+        sessionIds = new long[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            sessionIds[i] = startSession("Pauta " + i);
+        }
+
+        resultSessionId = startSession("Pauta apurada");
+        for (int i = 0; i < associateIds.length; i++) {
+            voteService.vote(request(resultSessionId, associateIds[i], i));
+        }
+        validRequest = request(resultSessionId, associateIds[0], 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public VoteResponseDTO vote() {
+        long sequence = votes++;
+        long sessionId = sessionIds[(int) (sequence / associateIds.length % SESSIONS)];
+        return voteService.vote(request(sessionId, associateIds[(int) (sequence % associateIds.length)], sequence));
+    }
+
+    @Benchmark
+    public VotingResultDTO voteServiceResult() {
+        return voteService.getVotingResult(resultSessionId);
+    }
+
+    @Benchmark
+    public VotingResultDTO votingSessionServiceResult() {
+        return votingSessionService.getResult(resultSessionId);
+    }
+
+    @Benchmark
+    public List<Object[]> recountResult() {
+        return voteRepository.countVotesByValueForSession(resultSessionId);
+    }
+
+    @Benchmark
+    public CpfValidationResponseDTO cpfChecksum() {
+        return cpfValidationClient.validateCpf(CPFS[cpf++ % CPFS.length]);
+    }
+
+    @Benchmark
+    public VoteRequestDTO validate() {
+        genericValidator.validate(validRequest, ICreateValidationGroup.class);
+        return validRequest;
+    }
+
+    private long startSession(String title) {
+        IAgendaService agendaService = context.getBean(IAgendaService.class);
+        AgendaRequestDTO agenda = new AgendaRequestDTO();
+        agenda.setTitle(title);
+        VotingSessionRequestDTO session = new VotingSessionRequestDTO();
+        session.setAgendaId(agendaService.create(agenda).getId());
+        session.setDurationMinutes(600);
+        long sessionId = votingSessionService.create(session).getId();
+        votingSessionService.start(sessionId);
+        return sessionId;
+    }
+
+    private VoteRequestDTO request(long sessionId, long associateId, long sequence) {
+        VoteRequestDTO request = new VoteRequestDTO();
+        request.setVotingSessionId(sessionId);
+        request.setAssociateId(associateId);
+        request.setValue(sequence % 2 == 0 ? VoteValue.YES : VoteValue.NO);
+        return request;
+    }
+}
@@ -0,0 +1,90 @@
+package com.voting.system.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.validation.ICreateValidationGroup;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what POST /api/v2/votes and /api/v2/votes/batch pay before reaching the
+ * service: reading the body through the message converter and validating the
+ * {@link ICreateValidationGroup} constraints, for JSON and CBOR bodies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VoteCodecBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final Type BATCH_TYPE = new TypeReference<List<VoteRequestDTO>>() { }.getType();
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    private AbstractJackson2HttpMessageConverter converter;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private byte[] vote;
+    private byte[] batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        converter = "cbor".equals(format)
+            ? new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build())
+            : new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        List<VoteRequestDTO> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            VoteRequestDTO request = new VoteRequestDTO();
+            request.setVotingSessionId(1_000L + i % 7);
+            request.setAssociateId(50_000L + i);
+            request.setValue(i % 2 == 0 ? VoteValue.YES : VoteValue.NO);
+            requests.add(request);
+        }
+        vote = converter.getObjectMapper().writeValueAsBytes(requests.get(0));
+        batch = converter.getObjectMapper().writeValueAsBytes(requests);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public int vote() throws IOException {
+        VoteRequestDTO request = (VoteRequestDTO) converter.read(VoteRequestDTO.class, new MockHttpInputMessage(vote));
+        return validator.validate(request, ICreateValidationGroup.class).size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    @SuppressWarnings("unchecked")
+    public int batch() throws IOException {
+        List<VoteRequestDTO> requests = (List<VoteRequestDTO>) converter.read(BATCH_TYPE, null, new MockHttpInputMessage(batch));
+        int violations = 0;
+        for (VoteRequestDTO request : requests) {
+            violations += validator.validate(request, ICreateValidationGroup.class).size();
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,105 @@
+package com.voting.system.api.benchmark;
+
+import com.voting.system.api.VotingSystemApiApplication;
+import com.voting.system.api.model.dto.request.AgendaRequestDTO;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.repository.AssociateRepository;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
+import com.voting.system.api.service.interfaces.IAgendaService;
+import com.voting.system.api.service.interfaces.IVoteService;
+import com.voting.system.api.service.interfaces.IVotingSessionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the direct JPA insert against the single-writer ingestion lanes with many
+ * concurrent voters. Every invocation casts a new, eligible vote.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class VoteIngestionBenchmark {
+
+    private static final int ASSOCIATES = 10_000;
+    private static final int SESSIONS = 200;
+
+    @Param({"DIRECT", "LANES"})
+    private String ingestionMode;
+
+    private ConfigurableApplicationContext context;
+    private IVoteService voteService;
+    private long[] sessionIds;
+    private long[] eligibleAssociateIds;
+    private final AtomicLong votes = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(VotingSystemApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:ingestion-" + ingestionMode + ";DB_CLOSE_DELAY=-1",
+                "--voting.ingestion.mode=" + ingestionMode,
+                "--voting.voted-index.directory=" + Files.createTempDirectory("voted-index"),
+                "--voting.associate-cache.eligibility-ttl-seconds=3600",
+                "--logging.level.root=WARN"
+            );
+        voteService = context.getBean(IVoteService.class);
+
+        List<Associate> associates = new ArrayList<>(ASSOCIATES);
+        for (int i = 0; i < ASSOCIATES; i++) {
+            Associate associate = new Associate();
+            associate.setName("Associado " + i);
+            associate.setCpf(String.format("%011d", i));
+            associates.add(associate);
+        }
+        AssociateEligibilityCache eligibilityCache = context.getBean(AssociateEligibilityCache.class);
+        eligibleAssociateIds = context.getBean(AssociateRepository.class).saveAll(associates).stream()
+            .filter(associate -> eligibilityCache.put(associate).eligible())
+            .mapToLong(Associate::getId)
+            .toArray();
+
+        IAgendaService agendaService = context.getBean(IAgendaService.class);
+        IVotingSessionService votingSessionService = context.getBean(IVotingSessionService.class);
+        sessionIds = new long[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            AgendaRequestDTO agenda = new AgendaRequestDTO();
+            agenda.setTitle("Pauta " + i);
+            VotingSessionRequestDTO session = new VotingSessionRequestDTO();
+            session.setAgendaId(agendaService.create(agenda).getId());
+            session.setDurationMinutes(60);
+            sessionIds[i] = votingSessionService.create(session).getId();
+            votingSessionService.start(sessionIds[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public VoteResponseDTO vote() {
+        long sequence = votes.getAndIncrement();
+        VoteRequestDTO request = new VoteRequestDTO();
+        request.setVotingSessionId(sessionIds[(int) (sequence / eligibleAssociateIds.length % SESSIONS)]);
+        request.setAssociateId(eligibleAssociateIds[(int) (sequence % eligibleAssociateIds.length)]);
+        request.setValue(sequence % 2 == 0 ? VoteValue.YES : VoteValue.NO);
+        return voteService.vote(request);
+    }
+}
@@ -0,0 +1,215 @@
+package com.voting.system.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.VotingSystemApiApplication;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.repository.AssociateRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on a random port and plays a full assembly against it over HTTP:
+ * every associate votes once at {@code --vote-rate} votes per second, a share of them
+ * retries the same vote {@code --retry-delay-ms} later, and {@code --pollers} clients poll
+ * the session result every {@code --poll-interval-ms} while the voting lasts. All three
+ * streams are open-loop. A per-endpoint summary goes to {@code --report} and an HdrHistogram
+ * percentile distribution per endpoint is written next to it.
+ *
+ * <pre>mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--associates=20000 --vote-rate=1000"</pre>
+ */
+public final class AssemblyLoadTest {
+
+    private static final String VOTES = "/api/v1/votes";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient client;
+    private URI baseUri;
+
+    private AssemblyLoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+        new AssemblyLoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        int associates = intOption("associates", 5_000);
+        double voteRate = doubleOption("vote-rate", 500);
+        double duplicateRatio = doubleOption("duplicate-ratio", 0.05);
+        int pollers = intOption("pollers", 2_000);
+        long pollIntervalMillis = intOption("poll-interval-ms", 1_000);
+        long retryDelayMillis = intOption("retry-delay-ms", 200);
+        Path report = Path.of(options.getOrDefault("report", "target/loadtest/assembly-report.txt"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VotingSystemApiApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:assembly;DB_CLOSE_DELAY=-1",
+            "--voting.voted-index.directory=" + Files.createTempDirectory("voted-index"),
+            "--logging.level.root=WARN"
+        );
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(
+            intOption("client-threads", Math.max(4, Runtime.getRuntime().availableProcessors() * 2)));
+        try {
+            baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+            long[] associateIds = seedAssociates(context.getBean(AssociateRepository.class), associates);
+            long agendaId = post("/api/v1/agendas", "{\"title\":\"Assembleia geral\"}").get("id").asLong();
+            long sessionId = post("/api/v1/voting-sessions",
+                "{\"agendaId\":" + agendaId + ",\"durationMinutes\":600}").get("id").asLong();
+            send(HttpRequest.newBuilder(baseUri.resolve("/api/v1/voting-sessions/" + sessionId + "/start"))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()).build());
+
+            EndpointStats votes = new EndpointStats("POST " + VOTES);
+            EndpointStats retries = new EndpointStats("POST " + VOTES + " (retry of an accepted or rejected vote)");
+            EndpointStats results = new EndpointStats("GET /api/v1/voting-sessions/{id}/result");
+
+            long voteIntervalNanos = (long) (1e9 / voteRate);
+            long votingNanos = associates * voteIntervalNanos;
+            long retryDelayNanos = TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+            long pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMillis) / Math.max(1, pollers);
+            long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+            HttpRequest result = HttpRequest.newBuilder(baseUri.resolve("/api/v1/voting-sessions/" + sessionId + "/result"))
+                .timeout(REQUEST_TIMEOUT).GET().build();
+
+            List<OpenLoopStream> streams = List.of(
+                new OpenLoopStream(client, votes, i -> vote(sessionId, associateIds[(int) i], i),
+                    startNanos, voteIntervalNanos, associates),
+                new OpenLoopStream(client, retries, i -> {
+                        int associate = (int) (i / duplicateRatio);
+                        return vote(sessionId, associateIds[associate], associate);
+                    },
+                    startNanos + retryDelayNanos, (long) (voteIntervalNanos / duplicateRatio),
+                    duplicateRatio > 0 ? (long) (associates * duplicateRatio) : 0),
+                new OpenLoopStream(client, results, i -> result,
+                    startNanos, pollIntervalNanos, pollers > 0 ? (votingNanos + retryDelayNanos) / pollIntervalNanos : 0)
+            );
+            List<Thread> dispatchers = new ArrayList<>();
+            for (OpenLoopStream stream : streams) {
+                Thread dispatcher = new Thread(stream, "load-dispatcher-" + dispatchers.size());
+                dispatcher.start();
+                dispatchers.add(dispatcher);
+            }
+            for (int i = 0; i < dispatchers.size(); i++) {
+                dispatchers.get(i).join();
+                streams.get(i).completion().join();
+            }
+
+            String finalResult = send(result).body();
+            writeReport(report, List.of(votes, retries, results), finalResult, associates, voteRate, pollers, pollIntervalMillis);
+        } finally {
+            clientExecutor.shutdownNow();
+            clientExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            context.close();
+        }
+    }
+
+    private long[] seedAssociates(AssociateRepository associateRepository, int count) {
+        long[] ids = new long[count];
+        List<Associate> chunk = new ArrayList<>(1_000);
+        int seeded = 0;
+        for (int i = 0; i < count; i++) {
+            Associate associate = new Associate();
+            associate.setName("Associado " + i);
+            associate.setCpf(String.format("%011d", i));
+            chunk.add(associate);
+            if (chunk.size() == 1_000 || i == count - 1) {
+                for (Associate saved : associateRepository.saveAll(chunk)) {
+                    ids[seeded++] = saved.getId();
+                }
+                chunk.clear();
+            }
+        }
+        return ids;
+    }
+
+    private HttpRequest vote(long sessionId, long associateId, long sequence) {
+        String body = "{\"votingSessionId\":" + sessionId + ",\"associateId\":" + associateId
+            + ",\"value\":\"" + (sequence % 2 == 0 ? "YES" : "NO") + "\"}";
+        return HttpRequest.newBuilder(baseUri.resolve(VOTES))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private JsonNode post(String path, String body) throws IOException, InterruptedException {
+        return objectMapper.readTree(send(HttpRequest.newBuilder(baseUri.resolve(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build()).body());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private void writeReport(Path report, List<EndpointStats> endpoints, String finalResult, int associates,
+                             double voteRate, int pollers, long pollIntervalMillis) throws IOException {
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            out.printf("Assembly load test: %d associates at %.0f votes/s, %d result pollers every %d ms, %d CPUs%n%n",
+                associates, voteRate, pollers, pollIntervalMillis, Runtime.getRuntime().availableProcessors());
+            for (EndpointStats endpoint : endpoints) {
+                if (endpoint.count() == 0) {
+                    continue;
+                }
+                endpoint.report(out);
+                String histogram = report.getFileName().toString().replaceFirst("\\.[^.]*$", "")
+                    + "-" + endpoints.indexOf(endpoint) + ".hgrm";
+                endpoint.writePercentileDistribution(report.resolveSibling(histogram));
+                out.printf("  histogram    %s%n%n", histogram);
+            }
+            out.printf("Final result: %s%n", finalResult);
+        }
+        Files.write(report, buffer.toByteArray());
+        System.out.print(buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private double doubleOption(String name, double defaultValue) {
+        return options.containsKey(name) ? Double.parseDouble(options.get(name)) : defaultValue;
+    }
+}
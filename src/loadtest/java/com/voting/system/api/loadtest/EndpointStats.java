@@ -0,0 +1,78 @@
+package com.voting.system.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and status codes of one endpoint. Latency is measured from the instant the
+ * open-loop schedule intended to send the request, so queueing in the generator or the
+ * server is not hidden (no coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentSkipListMap<>();
+    private final AtomicLong firstIntendedNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastCompletedNanos = new AtomicLong();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long intendedNanos, int status) {
+        complete(intendedNanos, Integer.toString(status));
+    }
+
+    void recordFailure(long intendedNanos, Throwable error) {
+        complete(intendedNanos, error.getClass().getSimpleName());
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    void report(PrintStream out) {
+        double seconds = (lastCompletedNanos.get() - firstIntendedNanos.get()) / 1e9;
+        out.printf("%s%n", name);
+        out.printf("  requests     %d (%.1f req/s)%n", count(), seconds > 0 ? count() / seconds : 0.0);
+        out.printf("  outcomes     %s%n", outcomes);
+        out.printf("  latency ms   p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+            percentile(50), percentile(90), percentile(99), percentile(99.9),
+            latency.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    void writePercentileDistribution(Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private void complete(long intendedNanos, String outcome) {
+        long now = System.nanoTime();
+        latency.recordValue(TimeUnit.NANOSECONDS.toMicros(Math.max(0, now - intendedNanos)));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        firstIntendedNanos.accumulateAndGet(intendedNanos, Math::min);
+        lastCompletedNanos.accumulateAndGet(now, Math::max);
+    }
+
+    private double percentile(double percentile) {
+        return latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
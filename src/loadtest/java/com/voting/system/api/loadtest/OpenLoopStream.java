@@ -0,0 +1,62 @@
+package com.voting.system.api.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Sends {@code count} requests on a fixed schedule, whatever the server's response
+ * time: request {@code i} is due at {@code startNanos + i * intervalNanos} and is sent
+ * asynchronously, so a slow server makes requests pile up instead of slowing the
+ * arrival rate down.
+ */
+final class OpenLoopStream implements Runnable {
+
+    private final HttpClient client;
+    private final EndpointStats stats;
+    private final LongFunction<HttpRequest> requests;
+    private final long startNanos;
+    private final long intervalNanos;
+    private final long count;
+    private final List<CompletableFuture<Void>> responses;
+
+    OpenLoopStream(HttpClient client, EndpointStats stats, LongFunction<HttpRequest> requests,
+                   long startNanos, long intervalNanos, long count) {
+        this.client = client;
+        this.stats = stats;
+        this.requests = requests;
+        this.startNanos = startNanos;
+        this.intervalNanos = intervalNanos;
+        this.count = count;
+        this.responses = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void run() {
+        for (long i = 0; i < count; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            long wait;
+            while ((wait = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            responses.add(client.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        stats.recordFailure(intendedNanos, error);
+                    } else {
+                        stats.record(intendedNanos, response.statusCode());
+                    }
+                    return null;
+                }));
+        }
+    }
+
+    CompletableFuture<Void> completion() {
+        return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new));
+    }
+}
@@ -1,6 +1,7 @@
 package com.voting.system.api.client;
 
 import com.voting.system.api.model.dto.external.CpfValidationResponseDTO;
+import com.voting.system.api.service.metrics.VotingMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +16,7 @@ import org.springframework.web.client.RestTemplate;
 public class CpfValidationClient {
 
     private final RestTemplate restTemplate;
+    private final VotingMetrics votingMetrics;
 
     @Value("${external.cpf-validation.url:https://api.validacpf.com.br}")
     private String cpfValidationBaseUrl;
@@ -24,6 +26,13 @@ public class CpfValidationClient {
 
     @Cacheable(value = "cpfValidation", key = "#cpf")
     public CpfValidationResponseDTO validateCpf(String cpf) {
+        long start = System.nanoTime();
+        CpfValidationResponseDTO response = requestValidation(cpf);
+        votingMetrics.recordCpfValidation(outcome(response), System.nanoTime() - start);
+        return response;
+    }
+
+    private CpfValidationResponseDTO requestValidation(String cpf) {
         log.info("Validating CPF: {}", cpf);
 
         if (!cpfValidationEnabled) {
@@ -44,6 +53,13 @@ public class CpfValidationClient {
         }
     }
 
+    private String outcome(CpfValidationResponseDTO response) {
+        if ("UNKNOWN".equals(response.getStatus())) {
+            return VotingMetrics.CPF_FALLBACK;
+        }
+        return Boolean.TRUE.equals(response.getValid()) ? VotingMetrics.CPF_VALID : VotingMetrics.CPF_INVALID;
+    }
+
     private CpfValidationResponseDTO createMockResponse(String cpf) {
         boolean isValidFormat = cpf != null && cpf.matches("\\d{11}");
         
@@ -1,19 +1,40 @@
 package com.voting.system.api.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class ApiVersioningConfig implements WebMvcConfigurer {
 
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
     @Override
     public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
         configurer
                 .favorParameter(true)
                 .parameterName("version")
-                .defaultContentType(org.springframework.http.MediaType.APPLICATION_JSON)
-                .mediaType("v1", org.springframework.http.MediaType.APPLICATION_JSON)
-                .mediaType("v2", org.springframework.http.MediaType.APPLICATION_JSON);
+                .defaultContentType(MediaType.APPLICATION_JSON)
+                .mediaType("v1", MediaType.APPLICATION_JSON)
+                .mediaType("v2", MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Spring MVC registers a CBOR converter for every endpoint once jackson-dataformat-cbor is on
+     * the classpath; it is swapped for one that only serves handlers declaring application/cbor.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(new HandlerScopedCborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build()));
     }
 }
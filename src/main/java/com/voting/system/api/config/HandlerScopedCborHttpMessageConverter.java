@@ -0,0 +1,62 @@
+package com.voting.system.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * CBOR converter that only reads bodies for handlers declaring {@code application/cbor}
+ * in {@code consumes} and only writes them for handlers declaring it in {@code produces}.
+ * Every other endpoint keeps answering 415/406 to CBOR like before.
+ */
+class HandlerScopedCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    HandlerScopedCborHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return handlerDeclares(RequestMapping::consumes) && super.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return handlerDeclares(RequestMapping::consumes) && super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return handlerDeclares(RequestMapping::produces) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return handlerDeclares(RequestMapping::produces) && super.canWrite(type, clazz, mediaType);
+    }
+
+    private boolean handlerDeclares(Function<RequestMapping, String[]> mediaTypes) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RequestMapping.class);
+        return mapping != null && Arrays.stream(mediaTypes.apply(mapping))
+            .map(MediaType::parseMediaType)
+            .anyMatch(MediaType.APPLICATION_CBOR::equalsTypeAndSubtype);
+    }
+}
@@ -0,0 +1,31 @@
+package com.voting.system.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.filter.IdempotencyKeyFilter;
+import com.voting.system.api.filter.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "voting.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${voting.idempotency.paths:/api/v1/votes,/api/v2/votes,/api/v2/votes/batch}") List<String> paths) {
+
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(
+            new IdempotencyKeyFilter(idempotencyStore, objectMapper, meterRegistry, paths));
+        registration.addUrlPatterns(paths.toArray(String[]::new));
+        return registration;
+    }
+}
@@ -0,0 +1,40 @@
+package com.voting.system.api.config;
+
+import com.voting.system.api.filter.SqlStatementBudgetFilter;
+import com.voting.system.api.filter.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "voting.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${voting.sql-budget.default-max-statements:10}") int defaultBudget,
+            @Value("${voting.sql-budget.fail-on-exceeded:false}") boolean failOnExceeded) {
+
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(
+            new SqlStatementBudgetFilter(sqlStatementCounter, meterRegistry, defaultBudget, failOnExceeded));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -37,4 +37,9 @@ public interface OpenAPIConstants {
     
     String IS_ACTIVE = "isActive";
     String IS_ACTIVE_TITLE = "Indica se o registro está ativo";
+
+    String PAGE_COUNT_MODE = "count";
+    String PAGE_COUNT_MODE_SLICE = PAGE_COUNT_MODE + "!=EXACT";
+    String PAGE_COUNT_MODE_TITLE = "EXACT (padrão) retorna Page com total; NONE retorna SliceDTO apenas com 'hasNext', sem COUNT; " +
+                                   "CACHED retorna SliceDTO com o total de uma contagem em cache";
 }
@@ -7,6 +7,13 @@ public class TableConstants {
     public static final String TABLE_VOTING_SESSION = "voting_session";
     public static final String TABLE_VOTE = "vote";
 
+    public static final String SEQ_AGENDA = "seq_agenda";
+    public static final String SEQ_ASSOCIATE = "seq_associate";
+    public static final String SEQ_VOTING_SESSION = "seq_voting_session";
+    public static final String SEQ_VOTE = "seq_vote";
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     private TableConstants() {
     }
 }
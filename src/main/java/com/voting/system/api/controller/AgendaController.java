@@ -1,12 +1,17 @@
 package com.voting.system.api.controller;
 
+import com.voting.system.api.constants.OpenAPIConstants;
 import com.voting.system.api.model.dto.request.AgendaRequestDTO;
 import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.model.validation.IUpdateValidationGroup;
 import com.voting.system.api.service.interfaces.IAgendaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +24,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/agendas")
@@ -46,18 +52,25 @@ public class AgendaController {
     @Operation(summary = "Buscar pauta por ID", description = "Retorna uma pauta específica pelo seu ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Pauta encontrada"),
+        @ApiResponse(responseCode = "304", description = "Pauta não modificada desde o ETag informado em If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
     })
     public ResponseEntity<AgendaResponseDTO> findById(
             @Parameter(description = "ID da pauta", example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         
+        if (webRequest.checkNotModified(agendaService.getVersion(id))) {
+            return null;
+        }
         AgendaResponseDTO response = agendaService.findById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
     @Operation(summary = "Listar pautas", description = "Lista todas as pautas ativas com paginação")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de pautas retornada com sucesso"),
         @ApiResponse(responseCode = "204", description = "Nenhuma pauta encontrada")
@@ -69,8 +82,20 @@ public class AgendaController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<AgendaResponseDTO>> findAllSlice(
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<AgendaResponseDTO> response = agendaService.findAll(pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Buscar pautas por título", description = "Busca pautas que contenham o título especificado")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Pautas encontradas"),
         @ApiResponse(responseCode = "204", description = "Nenhuma pauta encontrada")
@@ -84,6 +109,18 @@ public class AgendaController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(value = "/search", params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<AgendaResponseDTO>> findByTitleSlice(
+            @Parameter(description = "Título da pauta para busca", example = "orçamento")
+            @RequestParam String title,
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<AgendaResponseDTO> response = agendaService.findByTitle(title, pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar pauta", description = "Atualiza uma pauta existente")
     @ApiResponses(value = {
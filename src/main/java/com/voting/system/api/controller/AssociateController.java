@@ -1,12 +1,17 @@
 package com.voting.system.api.controller;
 
+import com.voting.system.api.constants.OpenAPIConstants;
 import com.voting.system.api.model.dto.request.AssociateRequestDTO;
 import com.voting.system.api.model.dto.response.AssociateResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.model.validation.IUpdateValidationGroup;
 import com.voting.system.api.service.interfaces.IAssociateService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -58,6 +63,8 @@ public class AssociateController {
 
     @GetMapping
     @Operation(summary = "Listar associados", description = "Lista todos os associados ativos com paginação")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de associados retornada com sucesso"),
         @ApiResponse(responseCode = "204", description = "Nenhum associado encontrado")
@@ -69,8 +76,20 @@ public class AssociateController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<AssociateResponseDTO>> findAllSlice(
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<AssociateResponseDTO> response = associateService.findAll(pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Buscar associados por nome", description = "Busca associados que contenham o nome especificado")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Associados encontrados"),
         @ApiResponse(responseCode = "204", description = "Nenhum associado encontrado")
@@ -84,6 +103,18 @@ public class AssociateController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(value = "/search", params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<AssociateResponseDTO>> findByNameSlice(
+            @Parameter(description = "Nome do associado para busca", example = "João")
+            @RequestParam String name,
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<AssociateResponseDTO> response = associateService.findByName(name, pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @GetMapping("/cpf/{cpf}")
     @Operation(summary = "Buscar associado por CPF", description = "Retorna um associado específico pelo seu CPF")
     @ApiResponses(value = {
@@ -1,12 +1,20 @@
 package com.voting.system.api.controller;
 
+import com.voting.system.api.constants.OpenAPIConstants;
+import com.voting.system.api.filter.SqlStatementBudget;
 import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.dto.response.VoteResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
+import com.voting.system.api.service.export.VoteExport;
 import com.voting.system.api.service.interfaces.IVoteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,10 +23,15 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/votes")
@@ -29,6 +42,7 @@ public class VoteController {
     private final IVoteService voteService;
 
     @PostMapping
+    @SqlStatementBudget(4)
     @Operation(summary = "Registrar voto", description = "Registra o voto de um associado em uma sessão de votação")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Voto registrado com sucesso"),
@@ -44,7 +58,10 @@ public class VoteController {
     }
 
     @GetMapping("/session/{sessionId}")
+    @SqlStatementBudget(2)
     @Operation(summary = "Listar votos por sessão", description = "Lista todos os votos de uma sessão de votação específica")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Votos encontrados"),
         @ApiResponse(responseCode = "204", description = "Nenhum voto encontrado")
@@ -58,16 +75,57 @@ public class VoteController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(value = "/session/{sessionId}", params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @SqlStatementBudget(2)
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<VoteResponseDTO>> findByVotingSessionIdSlice(
+            @Parameter(description = "ID da sessão de votação", example = "1")
+            @PathVariable Long sessionId,
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 50) Pageable pageable) {
+        
+        SliceDTO<VoteResponseDTO> response = voteService.findByVotingSessionId(sessionId, pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/session/{sessionId}/export")
+    @Operation(summary = "Exportar votos por sessão",
+               description = "Exporta todos os votos de uma sessão em NDJSON ou CSV, transmitidos diretamente do banco " +
+                             "sem paginação")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+        @ApiResponse(responseCode = "404", description = "Sessão de votação não encontrada")
+    })
+    public ResponseEntity<StreamingResponseBody> exportByVotingSessionId(
+            @Parameter(description = "ID da sessão de votação", example = "1")
+            @PathVariable Long sessionId,
+            @Parameter(description = "Formato do arquivo exportado", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") VoteExportFormatEnum format) {
+
+        VoteExport export = voteService.exportByVotingSessionId(sessionId, format);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("votes-session-" + sessionId + "." + format.getExtension()).build().toString())
+            .body(export::writeTo);
+    }
+
     @GetMapping("/session/{sessionId}/result")
+    @SqlStatementBudget(2)
     @Operation(summary = "Obter resultado detalhado da votação", description = "Retorna o resultado detalhado de uma sessão de votação")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Resultado obtido com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Resultado não modificado desde o ETag informado em If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Sessão de votação não encontrada")
     })
     public ResponseEntity<VotingResultDTO> getVotingResult(
             @Parameter(description = "ID da sessão de votação", example = "1")
-            @PathVariable Long sessionId) {
+            @PathVariable Long sessionId,
+            WebRequest webRequest) {
         
+        if (webRequest.checkNotModified(voteService.getVotingResultVersion(sessionId))) {
+            return null;
+        }
         VotingResultDTO response = voteService.getVotingResult(sessionId);
         return ResponseEntity.ok(response);
     }
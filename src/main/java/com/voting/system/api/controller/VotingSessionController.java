@@ -1,13 +1,19 @@
 package com.voting.system.api.controller;
 
+import com.voting.system.api.constants.OpenAPIConstants;
+import com.voting.system.api.filter.SqlStatementBudget;
 import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
 import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.service.interfaces.IVotingSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +26,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/voting-sessions")
@@ -45,21 +52,30 @@ public class VotingSessionController {
     }
 
     @GetMapping("/{id}")
+    @SqlStatementBudget(2)
     @Operation(summary = "Buscar sessão por ID", description = "Retorna uma sessão de votação específica pelo seu ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Sessão encontrada"),
+        @ApiResponse(responseCode = "304", description = "Sessão não modificada desde o ETag informado em If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
     })
     public ResponseEntity<VotingSessionResponseDTO> findById(
             @Parameter(description = "ID da sessão de votação", example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         
+        if (webRequest.checkNotModified(votingSessionService.getVersion(id))) {
+            return null;
+        }
         VotingSessionResponseDTO response = votingSessionService.findById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
+    @SqlStatementBudget(2)
     @Operation(summary = "Listar sessões", description = "Lista todas as sessões de votação ativas com paginação")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de sessões retornada com sucesso"),
         @ApiResponse(responseCode = "204", description = "Nenhuma sessão encontrada")
@@ -71,8 +87,22 @@ public class VotingSessionController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @SqlStatementBudget(2)
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<VotingSessionResponseDTO>> findAllSlice(
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<VotingSessionResponseDTO> response = votingSessionService.findAll(pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @GetMapping("/agenda/{agendaId}")
+    @SqlStatementBudget(2)
     @Operation(summary = "Listar sessões por pauta", description = "Lista todas as sessões de votação de uma pauta específica")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Sessões encontradas"),
         @ApiResponse(responseCode = "204", description = "Nenhuma sessão encontrada")
@@ -86,8 +116,24 @@ public class VotingSessionController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(value = "/agenda/{agendaId}", params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @SqlStatementBudget(2)
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<VotingSessionResponseDTO>> findByAgendaIdSlice(
+            @Parameter(description = "ID da pauta", example = "1")
+            @PathVariable Long agendaId,
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<VotingSessionResponseDTO> response = votingSessionService.findByAgendaId(agendaId, pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @GetMapping("/status/{status}")
+    @SqlStatementBudget(2)
     @Operation(summary = "Listar sessões por status", description = "Lista todas as sessões com um status específico")
+    @Parameter(name = OpenAPIConstants.PAGE_COUNT_MODE, in = ParameterIn.QUERY, description = OpenAPIConstants.PAGE_COUNT_MODE_TITLE,
+               example = "NONE", schema = @Schema(implementation = PageCountModeEnum.class))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Sessões encontradas"),
         @ApiResponse(responseCode = "204", description = "Nenhuma sessão encontrada")
@@ -101,6 +147,19 @@ public class VotingSessionController {
         return response.hasContent() ? ResponseEntity.ok(response) : ResponseEntity.noContent().build();
     }
 
+    @GetMapping(value = "/status/{status}", params = {OpenAPIConstants.PAGE_COUNT_MODE, OpenAPIConstants.PAGE_COUNT_MODE_SLICE})
+    @SqlStatementBudget(2)
+    @Operation(hidden = true)
+    public ResponseEntity<SliceDTO<VotingSessionResponseDTO>> findByStatusSlice(
+            @Parameter(description = "Status da sessão", example = "ACTIVE")
+            @PathVariable VotingSessionStatusEnum status,
+            @RequestParam(name = OpenAPIConstants.PAGE_COUNT_MODE) PageCountModeEnum count,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        
+        SliceDTO<VotingSessionResponseDTO> response = votingSessionService.findByStatus(status, pageable, count);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/start")
     @Operation(summary = "Iniciar sessão de votação", description = "Inicia uma sessão de votação pendente")
     @ApiResponses(value = {
@@ -132,16 +191,22 @@ public class VotingSessionController {
     }
 
     @GetMapping("/{id}/result")
+    @SqlStatementBudget(2)
     @Operation(summary = "Obter resultado da votação", description = "Retorna o resultado de uma sessão de votação")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Resultado obtido com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Resultado não modificado desde o ETag informado em If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada"),
         @ApiResponse(responseCode = "422", description = "Sessão ainda não foi iniciada")
     })
     public ResponseEntity<VotingResultDTO> getResult(
             @Parameter(description = "ID da sessão de votação", example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         
+        if (webRequest.checkNotModified(votingSessionService.getResultVersion(id))) {
+            return null;
+        }
         VotingResultDTO response = votingSessionService.getResult(id);
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,119 @@
+package com.voting.system.api.controller.v2;
+
+import com.voting.system.api.filter.SqlStatementBudget;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.VoteBatchResponseDTO;
+import com.voting.system.api.model.dto.response.VoteReceiptDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.validation.ICreateValidationGroup;
+import com.voting.system.api.service.interfaces.IVoteReceiptService;
+import com.voting.system.api.service.interfaces.IVoteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v2/votes")
+@RequiredArgsConstructor
+@Tag(name = "Vote V2", description = "API V2 - Operações relacionadas aos votos com registro em lote e assíncrono")
+public class VoteV2Controller {
+
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private final IVoteService voteService;
+    private final IVoteReceiptService voteReceiptService;
+
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+                 produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @SqlStatementBudget(4)
+    @Operation(summary = "Registrar voto V2",
+               description = "Registra o voto de um associado. Com o cabeçalho 'Prefer: respond-async' o voto é aceito " +
+                             "com um recibo e processado em segundo plano")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Voto registrado com sucesso"),
+        @ApiResponse(responseCode = "202", description = "Voto recebido para processamento assíncrono"),
+        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos"),
+        @ApiResponse(responseCode = "404", description = "Sessão de votação ou associado não encontrado"),
+        @ApiResponse(responseCode = "422", description = "Sessão inativa, expirada ou associado já votou"),
+        @ApiResponse(responseCode = "503", description = "Fila de votos assíncronos cheia")
+    })
+    public ResponseEntity<?> vote(
+            @RequestBody @Validated(ICreateValidationGroup.class) VoteRequestDTO requestDTO,
+            @Parameter(description = "Use 'respond-async' para receber um recibo e processar o voto em segundo plano")
+            @RequestHeader(value = PREFER_HEADER, required = false) String prefer) {
+
+        if (prefer != null && prefer.contains(RESPOND_ASYNC) && voteReceiptService.isEnabled()) {
+            VoteReceiptDTO receipt = voteReceiptService.submit(requestDTO);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/v2/votes/receipts/" + receipt.getReceiptId()))
+                .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                .body(receipt);
+        }
+
+        VoteResponseDTO response = voteService.vote(requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/receipts/{receiptId}")
+    @Operation(summary = "Consultar recibo de voto V2",
+               description = "Retorna a situação de um voto recebido de forma assíncrona: PENDING, ACCEPTED ou REJECTED")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recibo encontrado"),
+        @ApiResponse(responseCode = "404", description = "Recibo não encontrado ou expirado")
+    })
+    public ResponseEntity<VoteReceiptDTO> findReceipt(
+            @Parameter(description = "ID do recibo do voto")
+            @PathVariable String receiptId) {
+
+        return ResponseEntity.ok(voteReceiptService.findReceipt(receiptId));
+    }
+
+    @GetMapping("/session/{sessionId}")
+    @SqlStatementBudget(1)
+    @Operation(summary = "Listar votos por sessão V2",
+               description = "Lista os votos de uma sessão do mais recente para o mais antigo com paginação por cursor. " +
+                             "Envie o 'nextCursor' da resposta no parâmetro 'after' para obter a próxima página")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Votos encontrados"),
+        @ApiResponse(responseCode = "204", description = "Nenhum voto encontrado"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public ResponseEntity<CursorPageDTO<VoteResponseDTO>> findByVotingSessionId(
+            @Parameter(description = "ID da sessão de votação", example = "1")
+            @PathVariable Long sessionId,
+            @Parameter(description = "Cursor retornado em 'nextCursor' pela página anterior")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de votos por página (máximo 200)", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+
+        CursorPageDTO<VoteResponseDTO> response = voteService.findByVotingSessionId(sessionId, after, size);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+                 produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Registrar lote de votos V2",
+               description = "Registra vários votos em uma única requisição e retorna o resultado de cada voto do lote")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote processado; cada voto indica se foi aceito ou rejeitado"),
+        @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    public ResponseEntity<VoteBatchResponseDTO> voteBatch(@RequestBody List<VoteRequestDTO> requestDTOs) {
+        VoteBatchResponseDTO response = voteService.voteBatch(requestDTOs);
+        return ResponseEntity.ok(response);
+    }
+}
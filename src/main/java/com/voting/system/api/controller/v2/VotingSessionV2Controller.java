@@ -0,0 +1,87 @@
+package com.voting.system.api.controller.v2;
+
+import com.voting.system.api.filter.SqlStatementBudget;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.service.interfaces.IVotingSessionService;
+import com.voting.system.api.service.tally.VotingResultBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v2/voting-sessions")
+@RequiredArgsConstructor
+@Tag(name = "Voting Session V2", description = "API V2 - Operações relacionadas às sessões de votação com resultado em tempo real e paginação por cursor")
+public class VotingSessionV2Controller {
+
+    private final IVotingSessionService votingSessionService;
+    private final VotingResultBroadcaster votingResultBroadcaster;
+
+    @GetMapping("/{id}/result/stream")
+    @Operation(summary = "Acompanhar resultado da votação V2",
+               description = "Abre um stream Server-Sent Events que envia o resultado atual e um novo evento 'result' " +
+                             "sempre que a apuração muda. O stream é encerrado quando a sessão é fechada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream de resultados aberto"),
+        @ApiResponse(responseCode = "404", description = "Sessão não encontrada"),
+        @ApiResponse(responseCode = "422", description = "Sessão ainda não foi iniciada")
+    })
+    public SseEmitter streamResult(
+            @Parameter(description = "ID da sessão de votação", example = "1")
+            @PathVariable Long id) {
+
+        VotingResultDTO current = votingSessionService.getResult(id);
+        return votingResultBroadcaster.subscribe(id, current);
+    }
+
+    @GetMapping("/agenda/{agendaId}")
+    @SqlStatementBudget(1)
+    @Operation(summary = "Listar sessões por pauta V2",
+               description = "Lista as sessões de uma pauta da mais recente para a mais antiga com paginação por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sessões encontradas"),
+        @ApiResponse(responseCode = "204", description = "Nenhuma sessão encontrada"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public ResponseEntity<CursorPageDTO<VotingSessionResponseDTO>> findByAgendaId(
+            @Parameter(description = "ID da pauta", example = "1")
+            @PathVariable Long agendaId,
+            @Parameter(description = "Cursor retornado em 'nextCursor' pela página anterior")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de sessões por página (máximo 200)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageDTO<VotingSessionResponseDTO> response = votingSessionService.findByAgendaId(agendaId, after, size);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/status/{status}")
+    @SqlStatementBudget(1)
+    @Operation(summary = "Listar sessões por status V2",
+               description = "Lista as sessões com um status específico da mais recente para a mais antiga com paginação por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sessões encontradas"),
+        @ApiResponse(responseCode = "204", description = "Nenhuma sessão encontrada"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public ResponseEntity<CursorPageDTO<VotingSessionResponseDTO>> findByStatus(
+            @Parameter(description = "Status da sessão", example = "ACTIVE")
+            @PathVariable VotingSessionStatusEnum status,
+            @Parameter(description = "Cursor retornado em 'nextCursor' pela página anterior")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de sessões por página (máximo 200)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageDTO<VotingSessionResponseDTO> response = votingSessionService.findByStatus(status, after, size);
+        return response.getContent().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,12 @@
+package com.voting.system.api.exception;
+
+public class IngestionOverloadException extends RuntimeException {
+
+    public IngestionOverloadException(String message) {
+        super(message);
+    }
+
+    public IngestionOverloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
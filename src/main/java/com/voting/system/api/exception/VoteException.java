@@ -1,12 +1,32 @@
 package com.voting.system.api.exception;
 
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+
 public class VoteException extends BusinessException {
 
+    private final VoteRejectionReasonEnum reason;
+
     public VoteException(String message) {
         super(message, "VOTE_ERROR");
+        this.reason = null;
     }
 
     public VoteException(String message, Throwable cause) {
         super(message, "VOTE_ERROR", cause);
+        this.reason = null;
+    }
+
+    public VoteException(VoteRejectionReasonEnum reason) {
+        super(reason.getMessage(), "VOTE_ERROR");
+        this.reason = reason;
+    }
+
+    public VoteException(VoteRejectionReasonEnum reason, Throwable cause) {
+        super(reason.getMessage(), "VOTE_ERROR", cause);
+        this.reason = reason;
+    }
+
+    public VoteRejectionReasonEnum getReason() {
+        return reason;
     }
 }
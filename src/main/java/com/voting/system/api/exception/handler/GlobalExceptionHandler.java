@@ -2,12 +2,14 @@ package com.voting.system.api.exception.handler;
 
 import com.voting.system.api.exception.BusinessException;
 import com.voting.system.api.exception.DuplicateResourceException;
+import com.voting.system.api.exception.IngestionOverloadException;
 import com.voting.system.api.exception.ResourceNotFoundException;
 import com.voting.system.api.exception.VoteException;
 import com.voting.system.api.exception.VotingSessionException;
 import com.voting.system.api.model.dto.response.ErrorResponseDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -76,6 +78,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
     }
 
+    @ExceptionHandler(IngestionOverloadException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIngestionOverloadException(
+            IngestionOverloadException ex, HttpServletRequest request) {
+        
+        ErrorResponseDTO error = new ErrorResponseDTO(
+            ex.getMessage(),
+            "INGESTION_OVERLOADED",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDTO> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,81 @@
+package com.voting.system.api.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory store of responses keyed by {@code Idempotency-Key}. Entries expire
+ * after {@code ttl-seconds} and the least recently used entry is evicted once
+ * {@code max-entries} is reached.
+ */
+@Component
+public class IdempotencyStore {
+
+    @Value("${voting.idempotency.max-entries:50000}")
+    private int maxEntries = 50000;
+
+    @Value("${voting.idempotency.ttl-seconds:3600}")
+    private long ttlSeconds = 3600;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public synchronized Entry reserve(String key, String fingerprint) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return entry;
+        }
+        entries.put(key, new Entry(fingerprint, null, System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        return null;
+    }
+
+    public synchronized void complete(String key, StoredResponse response) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entries.put(key, new Entry(entry.fingerprint(), response, entry.expiresAtNanos()));
+        }
+    }
+
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.response() == null) {
+            entries.remove(key);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${voting.idempotency.cleanup-interval-ms:60000}")
+    public synchronized void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    public record Entry(String fingerprint, StoredResponse response, long expiresAtNanos) {
+
+        public boolean isInProgress() {
+            return response == null;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+
+    public record StoredResponse(int status, String contentType, Map<String, String> headers, byte[] body) {
+
+        public StoredResponse {
+            headers = Map.copyOf(headers);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.voting.system.api.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request issues on its own thread, records them per
+ * endpoint and warns when an endpoint goes over its {@link SqlStatementBudget} (or the
+ * default budget). With {@code failOnExceeded} the filter throws instead of warning.
+ * The count is only known after the chain has run, when a real container has usually
+ * committed the response already: the client still gets the original status and the
+ * exception only reaches the container's error log. The flag is therefore meant for
+ * MockMvc tests, where the exception propagates to the test that issued the request.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final boolean failOnExceeded;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementCounter.Scope scope = sqlStatementCounter.open();
+        int statements;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements = scope.close();
+            record(request, statements);
+        }
+
+        int budget = budget(request);
+        if (statements > budget) {
+            String endpoint = request.getMethod() + " " + uri(request);
+            meterRegistry.counter("voting.http.sql.budget.exceeded", "method", request.getMethod(), "uri", uri(request))
+                .increment();
+            if (failOnExceeded) {
+                throw new IllegalStateException(String.format(
+                    "%s issued %d SQL statements, budget is %d", endpoint, statements, budget));
+            }
+            log.warn("{} issued {} SQL statements, budget is {}", endpoint, statements, budget);
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        DistributionSummary.builder("voting.http.sql.statements")
+            .description("SQL statements issued by each HTTP request")
+            .baseUnit("statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri(request))
+            .register(meterRegistry)
+            .record(statements);
+    }
+
+    private int budget(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            SqlStatementBudget budget = handlerMethod.getMethodAnnotation(SqlStatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,60 @@
+package com.voting.system.api.filter;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a scope is
+ * open. Statements run by other threads (ingestion lanes, journal, async receipts) or
+ * through {@code JdbcTemplate} are not seen. Sequence calls are skipped: the pooled-lo
+ * optimizer fetches one per {@code ID_ALLOCATION_SIZE} inserts, so counting them would
+ * make a request's count depend on how many ids earlier requests used.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final Pattern SEQUENCE_CALL =
+        Pattern.compile("^\\s*(select|call|values)\\s+(next\\s+value\\s+for|nextval)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        if (SEQUENCE_CALL.matcher(sql).find()) {
+            return sql;
+        }
+        for (Scope scope = current.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+        }
+        return sql;
+    }
+
+    public Scope open() {
+        Scope scope = new Scope(current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    public final class Scope {
+
+        private final Scope parent;
+        private int statements;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public int close() {
+            if (parent == null) {
+                current.remove();
+            } else {
+                current.set(parent);
+            }
+            return statements;
+        }
+    }
+}
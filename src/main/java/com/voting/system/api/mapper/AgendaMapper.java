@@ -0,0 +1,28 @@
+package com.voting.system.api.mapper;
+
+import com.voting.system.api.model.dto.request.AgendaRequestDTO;
+import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.entity.Agenda;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AgendaMapper {
+
+    public Agenda toEntity(AgendaRequestDTO requestDTO) {
+        Agenda agenda = new Agenda();
+        agenda.setTitle(requestDTO.getTitle());
+        agenda.setDescription(requestDTO.getDescription());
+        return agenda;
+    }
+
+    public AgendaResponseDTO toResponseDTO(Agenda agenda) {
+        AgendaResponseDTO responseDTO = new AgendaResponseDTO();
+        responseDTO.setId(agenda.getId());
+        responseDTO.setTitle(agenda.getTitle());
+        responseDTO.setDescription(agenda.getDescription());
+        responseDTO.setIsActive(agenda.getIsActive());
+        responseDTO.setDtCreated(agenda.getDtCreated());
+        responseDTO.setDtUpdated(agenda.getDtUpdated());
+        return responseDTO;
+    }
+}
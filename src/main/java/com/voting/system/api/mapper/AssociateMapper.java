@@ -0,0 +1,28 @@
+package com.voting.system.api.mapper;
+
+import com.voting.system.api.model.dto.request.AssociateRequestDTO;
+import com.voting.system.api.model.dto.response.AssociateResponseDTO;
+import com.voting.system.api.model.entity.Associate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssociateMapper {
+
+    public Associate toEntity(AssociateRequestDTO requestDTO) {
+        Associate associate = new Associate();
+        associate.setName(requestDTO.getName());
+        associate.setCpf(requestDTO.getCpf());
+        return associate;
+    }
+
+    public AssociateResponseDTO toResponseDTO(Associate associate) {
+        AssociateResponseDTO responseDTO = new AssociateResponseDTO();
+        responseDTO.setId(associate.getId());
+        responseDTO.setName(associate.getName());
+        responseDTO.setCpf(associate.getCpf());
+        responseDTO.setIsActive(associate.getIsActive());
+        responseDTO.setStatus(associate.getStatus());
+        responseDTO.setDtCreated(associate.getDtCreated());
+        return responseDTO;
+    }
+}
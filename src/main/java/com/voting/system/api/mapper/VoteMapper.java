@@ -0,0 +1,38 @@
+package com.voting.system.api.mapper;
+
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VotingSession;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+@Component
+public class VoteMapper {
+
+    public Vote toEntity(VoteRequestDTO requestDTO, VotingSession votingSession, Associate associate, OffsetDateTime voteTime) {
+        Vote vote = new Vote();
+        vote.setVotingSession(votingSession);
+        vote.setAssociate(associate);
+        vote.setValue(requestDTO.getValue());
+        vote.setVoteTime(voteTime);
+        return vote;
+    }
+
+    public VoteResponseDTO toResponseDTO(Vote vote) {
+        return toResponseDTO(vote, vote.getAssociate().getName());
+    }
+
+    public VoteResponseDTO toResponseDTO(Vote vote, String associateName) {
+        VoteResponseDTO responseDTO = new VoteResponseDTO();
+        responseDTO.setId(vote.getId());
+        responseDTO.setVotingSessionId(vote.getVotingSession().getId());
+        responseDTO.setAssociateId(vote.getAssociate().getId());
+        responseDTO.setAssociateName(associateName);
+        responseDTO.setValue(vote.getValue());
+        responseDTO.setVoteTime(vote.getVoteTime());
+        return responseDTO;
+    }
+}
@@ -0,0 +1,34 @@
+package com.voting.system.api.mapper;
+
+import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VotingSessionMapper {
+
+    public VotingSession toEntity(VotingSessionRequestDTO requestDTO, Agenda agenda) {
+        VotingSession votingSession = new VotingSession();
+        votingSession.setAgenda(agenda);
+        votingSession.setStatus(VotingSessionStatusEnum.PENDING);
+        votingSession.setDurationMinutes(requestDTO.getDurationMinutes() != null ?
+            requestDTO.getDurationMinutes() : 1);
+        return votingSession;
+    }
+
+    public VotingSessionResponseDTO toResponseDTO(VotingSession votingSession) {
+        VotingSessionResponseDTO responseDTO = new VotingSessionResponseDTO();
+        responseDTO.setId(votingSession.getId());
+        responseDTO.setAgendaId(votingSession.getAgenda().getId());
+        responseDTO.setAgendaTitle(votingSession.getAgenda().getTitle());
+        responseDTO.setStatus(votingSession.getStatus());
+        responseDTO.setStartTime(votingSession.getStartTime());
+        responseDTO.setEndTime(votingSession.getEndTime());
+        responseDTO.setDurationMinutes(votingSession.getDurationMinutes());
+        responseDTO.setDtCreated(votingSession.getDtCreated());
+        return responseDTO;
+    }
+}
@@ -0,0 +1,27 @@
+package com.voting.system.api.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Itens da página atual")
+    private List<T> content;
+
+    @Schema(description = "Quantidade de itens na página atual", example = "20")
+    private Integer size;
+
+    @Schema(description = "Indica se existe uma próxima página", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "Cursor opaco a ser enviado no parâmetro 'after' para obter a próxima página",
+            example = "MjAyNi0xMC0xOFQxMjowMDowMFp8NDI")
+    private String nextCursor;
+}
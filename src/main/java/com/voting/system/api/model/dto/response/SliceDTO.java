@@ -0,0 +1,32 @@
+package com.voting.system.api.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceDTO<T> {
+
+    @Schema(description = "Itens da página atual")
+    private List<T> content;
+
+    @Schema(description = "Número da página atual (começando em 0)", example = "0")
+    private Integer page;
+
+    @Schema(description = "Tamanho da página solicitada", example = "20")
+    private Integer size;
+
+    @Schema(description = "Indica se existe uma próxima página", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "Total aproximado de itens, obtido de uma contagem em cache (apenas com count=CACHED)",
+            example = "1500")
+    private Long totalElements;
+}
@@ -0,0 +1,41 @@
+package com.voting.system.api.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.voting.system.api.constants.OpenAPIConstants;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteBatchItemStatusEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+public class VoteBatchItemResultDTO {
+
+    @Schema(description = "Posição do voto no lote enviado", example = "0")
+    private Integer index;
+
+    @JsonProperty(OpenAPIConstants.ID_VOTING_SESSION)
+    @Schema(description = "ID da sessão de votação", example = "1")
+    private Long votingSessionId;
+
+    @JsonProperty(OpenAPIConstants.ID_ASSOCIATE)
+    @Schema(description = "ID do associado que votou", example = "1")
+    private Long associateId;
+
+    @JsonProperty(OpenAPIConstants.VOTE_VALUE)
+    @Schema(description = OpenAPIConstants.VOTE_VALUE_TITLE, example = "YES")
+    private VoteValue value;
+
+    @Schema(description = "Situação do voto no lote", example = "ACCEPTED", allowableValues = {"ACCEPTED", "REJECTED"})
+    private VoteBatchItemStatusEnum status;
+
+    @JsonProperty(OpenAPIConstants.ID_VOTE)
+    @Schema(description = OpenAPIConstants.ID_VOTE_TITLE, example = "1")
+    private Long voteId;
+
+    @Schema(description = "Motivo da rejeição do voto", example = "ALREADY_VOTED")
+    private VoteRejectionReasonEnum reason;
+
+    @Schema(description = "Mensagem da rejeição do voto", example = "Associado já votou nesta sessão")
+    private String message;
+}
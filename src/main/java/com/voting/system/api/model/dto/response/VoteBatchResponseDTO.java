@@ -0,0 +1,26 @@
+package com.voting.system.api.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteBatchResponseDTO {
+
+    @Schema(description = "Total de votos recebidos no lote", example = "3")
+    private Integer total;
+
+    @Schema(description = "Quantidade de votos registrados", example = "2")
+    private Integer accepted;
+
+    @Schema(description = "Quantidade de votos rejeitados", example = "1")
+    private Integer rejected;
+
+    @Schema(description = "Resultado de cada voto, na ordem em que foi enviado")
+    private List<VoteBatchItemResultDTO> results;
+}
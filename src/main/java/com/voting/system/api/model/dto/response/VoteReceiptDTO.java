@@ -0,0 +1,49 @@
+package com.voting.system.api.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.voting.system.api.constants.OpenAPIConstants;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteReceiptStatusEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+@Data
+public class VoteReceiptDTO {
+
+    @Schema(description = "ID do recibo do voto", example = "6f1c2d7e-0b8a-4f43-9a55-2f4f1f1b9c3e")
+    private String receiptId;
+
+    @Schema(description = "Situação do voto", example = "PENDING", allowableValues = {"PENDING", "ACCEPTED", "REJECTED"})
+    private VoteReceiptStatusEnum status;
+
+    @JsonProperty(OpenAPIConstants.ID_VOTING_SESSION)
+    @Schema(description = "ID da sessão de votação", example = "1")
+    private Long votingSessionId;
+
+    @JsonProperty(OpenAPIConstants.ID_ASSOCIATE)
+    @Schema(description = "ID do associado que votou", example = "1")
+    private Long associateId;
+
+    @JsonProperty(OpenAPIConstants.VOTE_VALUE)
+    @Schema(description = OpenAPIConstants.VOTE_VALUE_TITLE, example = "YES")
+    private VoteValue value;
+
+    @JsonProperty(OpenAPIConstants.ID_VOTE)
+    @Schema(description = OpenAPIConstants.ID_VOTE_TITLE, example = "1")
+    private Long voteId;
+
+    @Schema(description = "Motivo da rejeição do voto", example = "ALREADY_VOTED")
+    private VoteRejectionReasonEnum reason;
+
+    @Schema(description = "Mensagem da rejeição do voto", example = "Associado já votou nesta sessão")
+    private String message;
+
+    @Schema(description = "Data e hora do recebimento do voto")
+    private OffsetDateTime submittedAt;
+
+    @Schema(description = "Data e hora do processamento do voto")
+    private OffsetDateTime completedAt;
+}
@@ -21,7 +21,8 @@ public class Agenda extends SoftDelete {
 
     @Id
     @Column(name = "id", unique = true, nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = TableConstants.SEQ_AGENDA)
+    @SequenceGenerator(name = TableConstants.SEQ_AGENDA, sequenceName = TableConstants.SEQ_AGENDA, allocationSize = TableConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "tx_title", length = 255, nullable = false)
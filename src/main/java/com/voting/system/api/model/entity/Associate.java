@@ -22,7 +22,8 @@ public class Associate extends SoftDelete {
 
     @Id
     @Column(name = "id", unique = true, nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = TableConstants.SEQ_ASSOCIATE)
+    @SequenceGenerator(name = TableConstants.SEQ_ASSOCIATE, sequenceName = TableConstants.SEQ_ASSOCIATE, allocationSize = TableConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "tx_cpf", length = 11, nullable = false, unique = true)
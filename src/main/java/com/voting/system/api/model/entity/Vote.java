@@ -21,14 +21,15 @@ public class Vote implements Serializable {
 
     @Id
     @Column(name = "id", unique = true, nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = TableConstants.SEQ_VOTE)
+    @SequenceGenerator(name = TableConstants.SEQ_VOTE, sequenceName = TableConstants.SEQ_VOTE, allocationSize = TableConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_voting_session", referencedColumnName = "id", nullable = false)
     private VotingSession votingSession;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_associate", referencedColumnName = "id", nullable = false)
     private Associate associate;
 
@@ -19,10 +19,11 @@ public class VotingSession implements java.io.Serializable {
 
     @Id
     @Column(name = "id", unique = true, nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = TableConstants.SEQ_VOTING_SESSION)
+    @SequenceGenerator(name = TableConstants.SEQ_VOTING_SESSION, sequenceName = TableConstants.SEQ_VOTING_SESSION, allocationSize = TableConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_agenda", referencedColumnName = "id", nullable = false)
     private Agenda agenda;
 
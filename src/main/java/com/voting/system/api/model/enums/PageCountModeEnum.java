@@ -0,0 +1,7 @@
+package com.voting.system.api.model.enums;
+
+public enum PageCountModeEnum {
+    EXACT,
+    NONE,
+    CACHED
+}
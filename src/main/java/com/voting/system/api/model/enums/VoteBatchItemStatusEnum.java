@@ -0,0 +1,6 @@
+package com.voting.system.api.model.enums;
+
+public enum VoteBatchItemStatusEnum {
+    ACCEPTED,
+    REJECTED
+}
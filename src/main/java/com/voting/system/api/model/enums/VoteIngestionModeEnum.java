@@ -0,0 +1,9 @@
+package com.voting.system.api.model.enums;
+
+public enum VoteIngestionModeEnum {
+    DIRECT,
+    WRITE_BEHIND,
+    LANES,
+    SINGLE_STATEMENT,
+    JOURNAL
+}
@@ -0,0 +1,7 @@
+package com.voting.system.api.model.enums;
+
+public enum VoteReceiptStatusEnum {
+    PENDING,
+    ACCEPTED,
+    REJECTED
+}
@@ -0,0 +1,21 @@
+package com.voting.system.api.model.enums;
+
+public enum VoteRejectionReasonEnum {
+    INVALID_REQUEST(null),
+    SESSION_NOT_FOUND(null),
+    SESSION_NOT_ACTIVE("Só é possível votar em sessões ativas"),
+    SESSION_EXPIRED("Sessão de votação expirada"),
+    ASSOCIATE_NOT_FOUND(null),
+    ASSOCIATE_NOT_ELIGIBLE("Associado não habilitado para votar no momento"),
+    ALREADY_VOTED("Associado já votou nesta sessão");
+
+    private final String message;
+
+    VoteRejectionReasonEnum(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -3,11 +3,13 @@ package com.voting.system.api.repository;
 import com.voting.system.api.model.entity.Agenda;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +20,8 @@ public interface AgendaRepository extends JpaRepository<Agenda, Long> {
     
     Page<Agenda> findByIsActiveTrue(Pageable pageable);
 
+    Slice<Agenda> findSliceByIsActiveTrue(Pageable pageable);
+
     Optional<Agenda> findByIdAndIsActiveTrue(Long id);
     
     boolean existsByTitleIgnoreCaseAndIsActiveTrue(String title);
@@ -28,6 +32,15 @@ public interface AgendaRepository extends JpaRepository<Agenda, Long> {
     @Query("SELECT a FROM Agenda a WHERE a.isActive = true AND LOWER(a.title) LIKE LOWER(CONCAT('%', :title, '%'))")
     Page<Agenda> findByTitleContainingIgnoreCaseAndIsActiveTrue(@Param("title") String title, Pageable pageable);
 
+    @Query("SELECT a FROM Agenda a WHERE a.isActive = true AND LOWER(a.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    Slice<Agenda> findSliceByTitleContainingIgnoreCaseAndIsActiveTrue(@Param("title") String title, Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM Agenda a WHERE a.isActive = true AND LOWER(a.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    long countByTitleContainingIgnoreCaseAndIsActiveTrue(@Param("title") String title);
+
     @Query("SELECT COUNT(a) FROM Agenda a WHERE a.isActive = true")
     long countActiveAgendas();
+
+    @Query("SELECT COALESCE(a.dtUpdated, a.dtCreated) FROM Agenda a WHERE a.id = :id AND a.isActive = true")
+    Optional<OffsetDateTime> findVersionById(@Param("id") Long id);
 }
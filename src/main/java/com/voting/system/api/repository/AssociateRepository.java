@@ -3,6 +3,7 @@ package com.voting.system.api.repository;
 import com.voting.system.api.model.entity.Associate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,8 @@ public interface AssociateRepository extends JpaRepository<Associate, Long> {
     
     Page<Associate> findByIsActiveTrue(Pageable pageable);
 
+    Slice<Associate> findSliceByIsActiveTrue(Pageable pageable);
+
     Optional<Associate> findByIdAndIsActiveTrue(Long id);
 
     Optional<Associate> findByCpf(String cpf);
@@ -36,6 +39,12 @@ public interface AssociateRepository extends JpaRepository<Associate, Long> {
     @Query("SELECT a FROM Associate a WHERE a.isActive = true AND LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Associate> findByNameContainingIgnoreCaseAndIsActiveTrue(@Param("name") String name, Pageable pageable);
 
+    @Query("SELECT a FROM Associate a WHERE a.isActive = true AND LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Slice<Associate> findSliceByNameContainingIgnoreCaseAndIsActiveTrue(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM Associate a WHERE a.isActive = true AND LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    long countByNameContainingIgnoreCaseAndIsActiveTrue(@Param("name") String name);
+
     @Query("SELECT COUNT(a) FROM Associate a WHERE a.isActive = true")
     long countActiveAssociates();
 }
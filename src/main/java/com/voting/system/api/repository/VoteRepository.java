@@ -4,11 +4,15 @@ import com.voting.system.api.model.entity.Vote;
 import com.voting.system.api.model.entity.VoteValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,14 +21,44 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
 
     List<Vote> findByVotingSessionId(Long votingSessionId);
     
+    @EntityGraph(attributePaths = "associate")
     Page<Vote> findByVotingSessionIdOrderByVoteTimeDesc(Long votingSessionId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "associate")
+    Slice<Vote> findSliceByVotingSessionIdOrderByVoteTimeDesc(Long votingSessionId, Pageable pageable);
+
+    @Query("SELECT v FROM Vote v JOIN FETCH v.associate WHERE v.votingSession.id = :votingSessionId " +
+           "ORDER BY v.votingSession.id, v.voteTime DESC, v.id DESC")
+    List<Vote> findFirstKeysetPage(@Param("votingSessionId") Long votingSessionId, Pageable pageable);
+
+    @Query("SELECT v FROM Vote v JOIN FETCH v.associate WHERE v.votingSession.id = :votingSessionId " +
+           "AND v.voteTime <= :voteTime AND (v.voteTime < :voteTime OR v.id < :id) " +
+           "ORDER BY v.votingSession.id, v.voteTime DESC, v.id DESC")
+    List<Vote> findKeysetPageAfter(@Param("votingSessionId") Long votingSessionId,
+                                   @Param("voteTime") OffsetDateTime voteTime,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
     List<Vote> findByAssociateId(Long associateId);
 
     Optional<Vote> findByVotingSessionIdAndAssociateId(Long votingSessionId, Long associateId);
 
     boolean existsByVotingSessionIdAndAssociateId(Long votingSessionId, Long associateId);
 
+    @Transactional
+    @Query(nativeQuery = true, value = "SELECT id FROM FINAL TABLE (" +
+        "INSERT INTO vote (id_voting_session, id_associate, ck_vote_value, dt_vote_time) " +
+        "SELECT s.id, a.id, :value, :voteTime FROM voting_session s " +
+        "JOIN associate a ON a.id = :associateId AND a.ck_active = TRUE " +
+        "WHERE s.id = :votingSessionId AND s.ck_status = 'ACTIVE' AND (s.dt_end IS NULL OR s.dt_end >= :voteTime))")
+    Optional<Long> insertIfSessionOpen(@Param("votingSessionId") Long votingSessionId,
+                                       @Param("associateId") Long associateId,
+                                       @Param("value") String value,
+                                       @Param("voteTime") OffsetDateTime voteTime);
+
+    @Query("SELECT v.associate.id FROM Vote v WHERE v.votingSession.id = :votingSessionId")
+    List<Long> findAssociateIdsByVotingSessionId(@Param("votingSessionId") Long votingSessionId);
+
     @Query("SELECT COUNT(v) FROM Vote v WHERE v.votingSession.id = :votingSessionId")
     long countByVotingSessionId(@Param("votingSessionId") Long votingSessionId);
 
@@ -34,6 +68,9 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     @Query("SELECT v.value, COUNT(v) FROM Vote v WHERE v.votingSession.id = :votingSessionId GROUP BY v.value")
     List<Object[]> countVotesByValueForSession(@Param("votingSessionId") Long votingSessionId);
 
+    @Query("SELECT v.votingSession.id, v.value, COUNT(v) FROM Vote v GROUP BY v.votingSession.id, v.value")
+    List<Object[]> countVotesGroupedBySessionAndValue();
+
     @Query("SELECT COUNT(v) FROM Vote v WHERE v.associate.id = :associateId")
     long countByAssociateId(@Param("associateId") Long associateId);
 
@@ -2,8 +2,11 @@ package com.voting.system.api.repository;
 
 import com.voting.system.api.model.entity.VotingSession;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.projection.VotingSessionVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,14 +19,47 @@ import java.util.Optional;
 @Repository
 public interface VotingSessionRepository extends JpaRepository<VotingSession, Long> {
 
+    @EntityGraph(attributePaths = "agenda")
     Optional<VotingSession> findById(Long id);
-    
+
+    @EntityGraph(attributePaths = "agenda")
     Page<VotingSession> findAll(Pageable pageable);
+
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda")
+    Slice<VotingSession> findSliceBy(Pageable pageable);
     
+    @EntityGraph(attributePaths = "agenda")
     Page<VotingSession> findByStatus(VotingSessionStatusEnum status, Pageable pageable);
-    
+
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.status = :status")
+    Slice<VotingSession> findSliceByStatus(@Param("status") VotingSessionStatusEnum status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "agenda")
     Page<VotingSession> findByAgendaId(Long agendaId, Pageable pageable);
 
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.agenda.id = :agendaId")
+    Slice<VotingSession> findSliceByAgendaId(@Param("agendaId") Long agendaId, Pageable pageable);
+
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.status = :status " +
+           "ORDER BY vs.status, vs.id DESC")
+    List<VotingSession> findFirstKeysetPageByStatus(@Param("status") VotingSessionStatusEnum status, Pageable pageable);
+
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.status = :status AND vs.id < :id " +
+           "ORDER BY vs.status, vs.id DESC")
+    List<VotingSession> findKeysetPageByStatusAfter(@Param("status") VotingSessionStatusEnum status,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.agenda.id = :agendaId " +
+           "ORDER BY vs.agenda.id, vs.id DESC")
+    List<VotingSession> findFirstKeysetPageByAgendaId(@Param("agendaId") Long agendaId, Pageable pageable);
+
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.agenda.id = :agendaId AND vs.id < :id " +
+           "ORDER BY vs.agenda.id, vs.id DESC")
+    List<VotingSession> findKeysetPageByAgendaIdAfter(@Param("agendaId") Long agendaId,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
     List<VotingSession> findByAgendaId(Long agendaId);
 
     List<VotingSession> findByStatus(VotingSessionStatusEnum status);
@@ -37,11 +73,20 @@ public interface VotingSessionRepository extends JpaRepository<VotingSession, Lo
     @Query("SELECT vs FROM VotingSession vs WHERE vs.status = 'ACTIVE' AND vs.endTime < :currentTime")
     List<VotingSession> findExpiredSessions(@Param("currentTime") OffsetDateTime currentTime);
 
+    @Query("SELECT vs FROM VotingSession vs JOIN FETCH vs.agenda WHERE vs.status <> 'PENDING'")
+    List<VotingSession> findStartedSessions();
+
     @Query("SELECT vs FROM VotingSession vs WHERE vs.agenda.id = :agendaId AND vs.status IN ('ACTIVE', 'CLOSED')")
     List<VotingSession> findActiveSessionsByAgendaId(@Param("agendaId") Long agendaId);
 
     @Query("SELECT COUNT(vs) FROM VotingSession vs WHERE vs.agenda.id = :agendaId")
     long countByAgendaId(@Param("agendaId") Long agendaId);
 
+    long countByStatus(VotingSessionStatusEnum status);
+
     boolean existsByAgendaIdAndStatus(Long agendaId, VotingSessionStatusEnum status);
+
+    @Query("SELECT new com.voting.system.api.repository.projection.VotingSessionVersion(vs.id, vs.status, vs.endTime, " +
+           "COALESCE(a.dtUpdated, a.dtCreated)) FROM VotingSession vs JOIN vs.agenda a WHERE vs.id = :id")
+    Optional<VotingSessionVersion> findVersionById(@Param("id") Long id);
 }
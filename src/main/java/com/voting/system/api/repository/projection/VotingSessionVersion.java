@@ -0,0 +1,15 @@
+package com.voting.system.api.repository.projection;
+
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+
+import java.time.OffsetDateTime;
+
+public record VotingSessionVersion(Long votingSessionId, VotingSessionStatusEnum status, OffsetDateTime endTime,
+                                   OffsetDateTime agendaVersion) {
+
+    public String tag() {
+        return "session-" + votingSessionId + "-" + status
+            + "-" + (endTime != null ? endTime.toInstant().toEpochMilli() : 0)
+            + "-" + agendaVersion.toEpochSecond() + "." + agendaVersion.getNano();
+    }
+}
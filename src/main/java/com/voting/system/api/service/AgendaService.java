@@ -2,28 +2,38 @@ package com.voting.system.api.service;
 
 import com.voting.system.api.exception.DuplicateResourceException;
 import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.mapper.AgendaMapper;
 import com.voting.system.api.model.dto.request.AgendaRequestDTO;
 import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.model.validation.IUpdateValidationGroup;
 import com.voting.system.api.repository.AgendaRepository;
 import com.voting.system.api.service.interfaces.IAgendaService;
+import com.voting.system.api.service.pagination.ListingCountCache;
+import com.voting.system.api.service.pagination.SlicePages;
+import com.voting.system.api.service.tally.VoteTallyEngine;
 import com.voting.system.api.service.validator.GenericValidator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class AgendaService implements IAgendaService {
 
     private final AgendaRepository agendaRepository;
     private final GenericValidator genericValidator;
-    private final ModelMapper modelMapper;
+    private final AgendaMapper agendaMapper;
+    private final VoteTallyEngine voteTallyEngine;
+    private final ListingCountCache listingCountCache;
 
     @Override
     @Transactional
@@ -34,12 +44,11 @@ public class AgendaService implements IAgendaService {
             throw new DuplicateResourceException("Agenda", "título", requestDTO.getTitle());
         }
         
-        Agenda agenda = modelMapper.map(requestDTO, Agenda.class);
-        agenda.setId(null);
+        Agenda agenda = agendaMapper.toEntity(requestDTO);
         agenda.setIsActive(true);
         
         Agenda savedAgenda = agendaRepository.save(agenda);
-        return modelMapper.map(savedAgenda, AgendaResponseDTO.class);
+        return agendaMapper.toResponseDTO(savedAgenda);
     }
 
     @Override
@@ -48,21 +57,46 @@ public class AgendaService implements IAgendaService {
         Agenda agenda = agendaRepository.findByIdAndIsActiveTrue(id)
             .orElseThrow(() -> new ResourceNotFoundException("Agenda", id));
         
-        return modelMapper.map(agenda, AgendaResponseDTO.class);
+        return agendaMapper.toResponseDTO(agenda);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getVersion(Long id) {
+        OffsetDateTime version = agendaRepository.findVersionById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Agenda", id));
+        return "agenda-" + id + "-" + version.toEpochSecond() + "." + version.getNano();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AgendaResponseDTO> findAll(Pageable pageable) {
         Page<Agenda> agendas = agendaRepository.findByIsActiveTrue(pageable);
-        return agendas.map(agenda -> modelMapper.map(agenda, AgendaResponseDTO.class));
+        return agendas.map(agendaMapper::toResponseDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AgendaResponseDTO> findByTitle(String title, Pageable pageable) {
         Page<Agenda> agendas = agendaRepository.findByTitleContainingIgnoreCaseAndIsActiveTrue(title, pageable);
-        return agendas.map(agenda -> modelMapper.map(agenda, AgendaResponseDTO.class));
+        return agendas.map(agendaMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<AgendaResponseDTO> findAll(Pageable pageable, PageCountModeEnum count) {
+        Slice<Agenda> agendas = agendaRepository.findSliceByIsActiveTrue(pageable);
+        return SlicePages.of(agendas.map(agendaMapper::toResponseDTO), count,
+            listingCountCache, "agenda", agendaRepository::countActiveAgendas);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<AgendaResponseDTO> findByTitle(String title, Pageable pageable, PageCountModeEnum count) {
+        Slice<Agenda> agendas = agendaRepository.findSliceByTitleContainingIgnoreCaseAndIsActiveTrue(title, pageable);
+        return SlicePages.of(agendas.map(agendaMapper::toResponseDTO), count,
+            listingCountCache, "agenda:title:" + title.toLowerCase(),
+            () -> agendaRepository.countByTitleContainingIgnoreCaseAndIsActiveTrue(title));
     }
 
     @Override
@@ -83,8 +117,9 @@ public class AgendaService implements IAgendaService {
             existingAgenda.setDescription(requestDTO.getDescription());
         }
         
-        Agenda updatedAgenda = agendaRepository.save(existingAgenda);
-        return modelMapper.map(updatedAgenda, AgendaResponseDTO.class);
+        Agenda updatedAgenda = agendaRepository.saveAndFlush(existingAgenda);
+        voteTallyEngine.renameAgendaAfterCommit(updatedAgenda);
+        return agendaMapper.toResponseDTO(updatedAgenda);
     }
 
     @Override
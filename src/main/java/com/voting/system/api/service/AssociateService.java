@@ -2,18 +2,24 @@ package com.voting.system.api.service;
 
 import com.voting.system.api.exception.DuplicateResourceException;
 import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.mapper.AssociateMapper;
 import com.voting.system.api.model.dto.request.AssociateRequestDTO;
 import com.voting.system.api.model.dto.response.AssociateResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.model.validation.IUpdateValidationGroup;
 import com.voting.system.api.repository.AssociateRepository;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
 import com.voting.system.api.service.interfaces.IAssociateService;
+import com.voting.system.api.service.pagination.ListingCountCache;
+import com.voting.system.api.service.pagination.SlicePages;
 import com.voting.system.api.service.validator.GenericValidator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +29,10 @@ public class AssociateService implements IAssociateService {
 
     private final AssociateRepository associateRepository;
     private final GenericValidator genericValidator;
-    private final ModelMapper modelMapper;
+    private final AssociateMapper associateMapper;
     private final UserInfoService userInfoService;
+    private final AssociateEligibilityCache associateEligibilityCache;
+    private final ListingCountCache listingCountCache;
 
     @Override
     @Transactional
@@ -37,12 +45,12 @@ public class AssociateService implements IAssociateService {
             throw new DuplicateResourceException("Associado", "CPF", requestDTO.getCpf());
         }
         
-        Associate associate = modelMapper.map(requestDTO, Associate.class);
-        associate.setId(null);
+        Associate associate = associateMapper.toEntity(requestDTO);
         associate.setIsActive(true);
         
         Associate savedAssociate = associateRepository.save(associate);
-        return mapToResponseDTO(savedAssociate);
+        associateEligibilityCache.invalidateAfterCommit(savedAssociate.getId());
+        return associateMapper.toResponseDTO(savedAssociate);
     }
 
     @Override
@@ -51,21 +59,38 @@ public class AssociateService implements IAssociateService {
         Associate associate = associateRepository.findByIdAndIsActiveTrue(id)
             .orElseThrow(() -> new ResourceNotFoundException("Associado", id));
         
-        return mapToResponseDTO(associate);
+        return associateMapper.toResponseDTO(associate);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AssociateResponseDTO> findAll(Pageable pageable) {
         Page<Associate> associates = associateRepository.findByIsActiveTrue(pageable);
-        return associates.map(this::mapToResponseDTO);
+        return associates.map(associateMapper::toResponseDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AssociateResponseDTO> findByName(String name, Pageable pageable) {
         Page<Associate> associates = associateRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(name, pageable);
-        return associates.map(this::mapToResponseDTO);
+        return associates.map(associateMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<AssociateResponseDTO> findAll(Pageable pageable, PageCountModeEnum count) {
+        Slice<Associate> associates = associateRepository.findSliceByIsActiveTrue(pageable);
+        return SlicePages.of(associates.map(associateMapper::toResponseDTO), count,
+            listingCountCache, "associate", associateRepository::countActiveAssociates);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<AssociateResponseDTO> findByName(String name, Pageable pageable, PageCountModeEnum count) {
+        Slice<Associate> associates = associateRepository.findSliceByNameContainingIgnoreCaseAndIsActiveTrue(name, pageable);
+        return SlicePages.of(associates.map(associateMapper::toResponseDTO), count,
+            listingCountCache, "associate:name:" + name.toLowerCase(),
+            () -> associateRepository.countByNameContainingIgnoreCaseAndIsActiveTrue(name));
     }
 
     @Override
@@ -74,7 +99,7 @@ public class AssociateService implements IAssociateService {
         Associate associate = associateRepository.findByCpfAndIsActiveTrue(cpf)
             .orElseThrow(() -> new ResourceNotFoundException("Associado com CPF " + cpf + " não encontrado"));
         
-        return mapToResponseDTO(associate);
+        return associateMapper.toResponseDTO(associate);
     }
 
     @Override
@@ -94,7 +119,8 @@ public class AssociateService implements IAssociateService {
         existingAssociate.setCpf(requestDTO.getCpf());
         
         Associate updatedAssociate = associateRepository.save(existingAssociate);
-        return mapToResponseDTO(updatedAssociate);
+        associateEligibilityCache.invalidateAfterCommit(id);
+        return associateMapper.toResponseDTO(updatedAssociate);
     }
 
     @Override
@@ -105,6 +131,7 @@ public class AssociateService implements IAssociateService {
         
         associate.setIsActive(true);
         associateRepository.save(associate);
+        associateEligibilityCache.invalidateAfterCommit(id);
     }
 
     @Override
@@ -115,11 +142,6 @@ public class AssociateService implements IAssociateService {
         
         associate.setIsActive(false);
         associateRepository.save(associate);
-    }
-    
-    private AssociateResponseDTO mapToResponseDTO(Associate associate) {
-        AssociateResponseDTO responseDTO = modelMapper.map(associate, AssociateResponseDTO.class);
-        responseDTO.setStatus(associate.getStatus());
-        return responseDTO;
+        associateEligibilityCache.invalidateAfterCommit(id);
     }
 }
@@ -1,5 +1,6 @@
 package com.voting.system.api.service;
 
+import com.voting.system.api.service.metrics.VotingMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,22 +13,38 @@ public class ScheduledTaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScheduledTaskService.class);
 
+    /**
+     * Poll interval in milliseconds. Unless set explicitly it is 10 minutes while the exact expiration
+     * scheduler closes sessions at their end time, and 60 seconds when that scheduler is disabled.
+     */
+    static final String CHECK_INTERVAL = "${scheduling.session.expiration-check-interval:"
+        + "#{${scheduling.session.exact-expiration.enabled:true} ? 600000 : 60000}}";
+
     @Autowired
     private VotingSessionService votingSessionService;
 
-    @Value("${scheduling.session.expiration-check-interval:60000}")
+    @Autowired
+    private VotingMetrics votingMetrics;
+
+    @Value(CHECK_INTERVAL)
     private long checkInterval;
 
-    @Scheduled(fixedRateString = "${scheduling.session.expiration-check-interval:60000}")
+    @Scheduled(fixedRateString = CHECK_INTERVAL)
     public void closeExpiredVotingSessions() {
         logger.info("Executando verificacao de sessoes de votacao expiradas");
+        long start = System.nanoTime();
+        String outcome = VotingMetrics.SWEEP_FAILED;
+        int closedSessions = 0;
         try {
-            int closedSessions = votingSessionService.closeExpiredSessions();
+            closedSessions = votingSessionService.closeExpiredSessions();
+            outcome = VotingMetrics.SWEEP_COMPLETED;
             if (closedSessions > 0) {
                 logger.info("Fechadas {} sessoes de votacao expiradas", closedSessions);
             }
         } catch (Exception e) {
             logger.error("Erro ao fechar sessoes expiradas", e);
+        } finally {
+            votingMetrics.recordExpirationSweep(outcome, closedSessions, System.nanoTime() - start);
         }
     }
 }
@@ -0,0 +1,188 @@
+package com.voting.system.api.service;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.VoteReceiptDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.enums.VoteReceiptStatusEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import com.voting.system.api.model.validation.ICreateValidationGroup;
+import com.voting.system.api.service.interfaces.IVoteReceiptService;
+import com.voting.system.api.service.interfaces.IVoteService;
+import com.voting.system.api.service.validator.GenericValidator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts votes asynchronously: the request is validated, a receipt is issued and
+ * a bounded worker pool runs the regular vote flow. Receipts are kept in memory
+ * until {@code receipt-ttl-seconds} after completion.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteReceiptService implements IVoteReceiptService {
+
+    private final IVoteService voteService;
+    private final GenericValidator genericValidator;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, VoteReceiptDTO> receipts = new ConcurrentHashMap<>();
+
+    @Value("${voting.async.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${voting.async.workers:4}")
+    private int workers = 4;
+
+    @Value("${voting.async.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${voting.async.receipt-ttl-seconds:600}")
+    private long receiptTtlSeconds = 600;
+
+    @Value("${voting.async.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs = 30000;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "vote-async-" + threads.incrementAndGet()),
+            new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("voting.async.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Votes accepted asynchronously and waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("voting.async.receipts", receipts, Map::size)
+            .description("Vote receipts kept in memory")
+            .register(meterRegistry);
+        log.info("Asynchronous vote acceptance started (workers={}, queue-capacity={})", workers, queueCapacity);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public VoteReceiptDTO submit(VoteRequestDTO requestDTO) {
+        genericValidator.validate(requestDTO, ICreateValidationGroup.class);
+        if (executor == null || executor.isShutdown()) {
+            throw new IngestionOverloadException("Recebimento assíncrono de votos indisponível no momento");
+        }
+
+        VoteReceiptDTO receipt = new VoteReceiptDTO();
+        receipt.setReceiptId(UUID.randomUUID().toString());
+        receipt.setStatus(VoteReceiptStatusEnum.PENDING);
+        receipt.setVotingSessionId(requestDTO.getVotingSessionId());
+        receipt.setAssociateId(requestDTO.getAssociateId());
+        receipt.setValue(requestDTO.getValue());
+        receipt.setSubmittedAt(OffsetDateTime.now());
+        receipts.put(receipt.getReceiptId(), receipt);
+
+        try {
+            executor.execute(() -> process(receipt, requestDTO));
+        } catch (RejectedExecutionException e) {
+            receipts.remove(receipt.getReceiptId());
+            throw new IngestionOverloadException("Fila de votos cheia, tente novamente em instantes", e);
+        }
+        return copy(receipt);
+    }
+
+    @Override
+    public VoteReceiptDTO findReceipt(String receiptId) {
+        VoteReceiptDTO receipt = receipts.get(receiptId);
+        if (receipt == null) {
+            throw new ResourceNotFoundException("Recibo de voto", receiptId);
+        }
+        return copy(receipt);
+    }
+
+    @Scheduled(fixedDelayString = "${voting.async.receipt-cleanup-interval-ms:60000}")
+    public void evictExpiredReceipts() {
+        OffsetDateTime limit = OffsetDateTime.now().minusSeconds(receiptTtlSeconds);
+        receipts.values().removeIf(receipt -> receipt.getCompletedAt() != null && receipt.getCompletedAt().isBefore(limit));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("{} asynchronous votes still pending after {} ms, stopping workers", executor.getQueue().size(), shutdownTimeoutMs);
+            executor.shutdownNow();
+        }
+        log.info("Asynchronous vote acceptance stopped");
+    }
+
+    private void process(VoteReceiptDTO pending, VoteRequestDTO requestDTO) {
+        VoteReceiptDTO receipt = copy(pending);
+        try {
+            VoteResponseDTO vote = voteService.vote(requestDTO);
+            receipt.setStatus(VoteReceiptStatusEnum.ACCEPTED);
+            receipt.setVoteId(vote.getId());
+        } catch (VoteException e) {
+            reject(receipt, e.getReason(), e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            reject(receipt, "Associado".equals(e.getResourceName())
+                ? VoteRejectionReasonEnum.ASSOCIATE_NOT_FOUND
+                : VoteRejectionReasonEnum.SESSION_NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            reject(receipt, VoteRejectionReasonEnum.INVALID_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Error processing asynchronous vote {}", receipt.getReceiptId(), e);
+            reject(receipt, null, "Erro ao registrar o voto");
+        }
+        receipt.setCompletedAt(OffsetDateTime.now());
+        receipts.put(receipt.getReceiptId(), receipt);
+    }
+
+    private void reject(VoteReceiptDTO receipt, VoteRejectionReasonEnum reason, String message) {
+        receipt.setStatus(VoteReceiptStatusEnum.REJECTED);
+        receipt.setReason(reason);
+        receipt.setMessage(message);
+    }
+
+    private VoteReceiptDTO copy(VoteReceiptDTO receipt) {
+        VoteReceiptDTO copy = new VoteReceiptDTO();
+        copy.setReceiptId(receipt.getReceiptId());
+        copy.setStatus(receipt.getStatus());
+        copy.setVotingSessionId(receipt.getVotingSessionId());
+        copy.setAssociateId(receipt.getAssociateId());
+        copy.setValue(receipt.getValue());
+        copy.setVoteId(receipt.getVoteId());
+        copy.setReason(receipt.getReason());
+        copy.setMessage(receipt.getMessage());
+        copy.setSubmittedAt(receipt.getSubmittedAt());
+        copy.setCompletedAt(receipt.getCompletedAt());
+        return copy;
+    }
+}
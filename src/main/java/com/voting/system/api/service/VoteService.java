@@ -2,121 +2,479 @@ package com.voting.system.api.service;
 
 import com.voting.system.api.exception.ResourceNotFoundException;
 import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.mapper.VoteMapper;
 import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.dto.response.VoteBatchItemResultDTO;
+import com.voting.system.api.model.dto.response.VoteBatchResponseDTO;
 import com.voting.system.api.model.dto.response.VoteResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
-import com.voting.system.api.model.entity.Associate;
 import com.voting.system.api.model.entity.Vote;
-import com.voting.system.api.model.entity.VoteValue;
 import com.voting.system.api.model.entity.VotingSession;
-import com.voting.system.api.model.enums.AssociateStatusEnum;
+import com.voting.system.api.model.enums.PageCountModeEnum;
+import com.voting.system.api.model.enums.VoteBatchItemStatusEnum;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.repository.AssociateRepository;
 import com.voting.system.api.repository.VoteRepository;
 import com.voting.system.api.repository.VotingSessionRepository;
+import com.voting.system.api.service.associate.AssociateEligibility;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
+import com.voting.system.api.service.export.VoteExport;
+import com.voting.system.api.service.export.VoteExportWriter;
+import com.voting.system.api.service.ingestion.PendingVote;
+import com.voting.system.api.service.ingestion.VoteBatchWriter;
+import com.voting.system.api.service.ingestion.VoteIngestionLanes;
+import com.voting.system.api.service.ingestion.VoteIngestionMetrics;
+import com.voting.system.api.service.ingestion.VoteWriteBehindQueue;
 import com.voting.system.api.service.interfaces.IVoteService;
+import com.voting.system.api.service.journal.VoteJournalIngestion;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import com.voting.system.api.service.pagination.KeysetCursor;
+import com.voting.system.api.service.pagination.KeysetPages;
+import com.voting.system.api.service.pagination.ListingCountCache;
+import com.voting.system.api.service.pagination.SlicePages;
+import com.voting.system.api.service.session.VotingSessionState;
+import com.voting.system.api.service.session.VotingSessionStateCache;
+import com.voting.system.api.service.tally.VoteTallyEngine;
+import com.voting.system.api.service.voted.VotedAssociateIndex;
 import com.voting.system.api.service.validator.GenericValidator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoteService implements IVoteService {
 
+    private static final String SESSION_RESOURCE = "Sessão de Votação";
+    private static final String ASSOCIATE_RESOURCE = "Associado";
+
     private final VoteRepository voteRepository;
     private final VotingSessionRepository votingSessionRepository;
     private final AssociateRepository associateRepository;
     private final GenericValidator genericValidator;
-    private final ModelMapper modelMapper;
+    private final VoteMapper voteMapper;
+    private final VoteTallyEngine voteTallyEngine;
+    private final VoteWriteBehindQueue voteWriteBehindQueue;
+    private final VoteIngestionLanes voteIngestionLanes;
+    private final VoteJournalIngestion voteJournalIngestion;
+    private final VoteIngestionMetrics voteIngestionMetrics;
+    private final VoteBatchWriter voteBatchWriter;
+    private final VoteExportWriter voteExportWriter;
+    private final VotedAssociateIndex votedAssociateIndex;
+    private final VotingSessionStateCache votingSessionStateCache;
+    private final AssociateEligibilityCache associateEligibilityCache;
+    private final ListingCountCache listingCountCache;
+    private final VotingMetrics votingMetrics;
+
+    @Value("${voting.ingestion.mode:DIRECT}")
+    private VoteIngestionModeEnum ingestionMode = VoteIngestionModeEnum.DIRECT;
+
+    @Value("${voting.batch.max-size:500}")
+    private int maxBatchSize = 500;
 
     @Override
-    @Transactional
     public VoteResponseDTO vote(VoteRequestDTO requestDTO) {
+        long start = System.nanoTime();
+        try {
+            VoteResponseDTO responseDTO = castVote(requestDTO);
+            votingMetrics.recordVote(VotingMetrics.VOTE_ACCEPTED, System.nanoTime() - start);
+            return responseDTO;
+        } catch (VoteException e) {
+            votingMetrics.recordVote(VotingMetrics.VOTE_REJECTED, System.nanoTime() - start);
+            votingMetrics.recordRejection(e.getReason());
+            throw e;
+        } catch (ResourceNotFoundException e) {
+            votingMetrics.recordVote(VotingMetrics.VOTE_REJECTED, System.nanoTime() - start);
+            votingMetrics.recordRejection(ASSOCIATE_RESOURCE.equals(e.getResourceName())
+                ? VoteRejectionReasonEnum.ASSOCIATE_NOT_FOUND
+                : VoteRejectionReasonEnum.SESSION_NOT_FOUND);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            votingMetrics.recordVote(VotingMetrics.VOTE_REJECTED, System.nanoTime() - start);
+            votingMetrics.recordRejection(VoteRejectionReasonEnum.INVALID_REQUEST);
+            throw e;
+        } catch (RuntimeException e) {
+            votingMetrics.recordVote(VotingMetrics.VOTE_ERROR, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private VoteResponseDTO castVote(VoteRequestDTO requestDTO) {
         genericValidator.validate(requestDTO, ICreateValidationGroup.class);
         
-        VotingSession votingSession = votingSessionRepository.findById(requestDTO.getVotingSessionId())
-            .orElseThrow(() -> new ResourceNotFoundException("Sessão de Votação", requestDTO.getVotingSessionId()));
-        
-        if (votingSession.getStatus() != VotingSessionStatusEnum.ACTIVE) {
-            throw new VoteException("Só é possível votar em sessões ativas");
+        if (ingestionMode == VoteIngestionModeEnum.SINGLE_STATEMENT) {
+            return voteInSingleStatement(requestDTO);
         }
         
+        VotingSessionState sessionState = findSessionState(requestDTO.getVotingSessionId());
+        
         OffsetDateTime now = OffsetDateTime.now();
-        if (votingSession.getEndTime() != null && now.isAfter(votingSession.getEndTime())) {
-            throw new VoteException("Sessão de votação expirada");
-        }
+        checkSessionOpen(sessionState, now);
         
-        Associate associate = associateRepository.findByIdAndIsActiveTrue(requestDTO.getAssociateId())
-            .orElseThrow(() -> new ResourceNotFoundException("Associado", requestDTO.getAssociateId()));
+        AssociateEligibility associate = findAssociateEligibility(requestDTO.getAssociateId());
         
-        if (associate.getStatus() == AssociateStatusEnum.UNABLE_TO_VOTE) {
-            throw new VoteException("Associado não habilitado para votar no momento");
-        }
+        checkAssociateEligible(associate);
         
-        if (voteRepository.existsByVotingSessionIdAndAssociateId(requestDTO.getVotingSessionId(), requestDTO.getAssociateId())) {
-            throw new VoteException("Associado já votou nesta sessão");
+        if (!votedAssociateIndex.claim(sessionState.votingSessionId(), associate.associateId())) {
+            throw new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED);
         }
         
-        Vote vote = new Vote();
-        vote.setVotingSession(votingSession);
-        vote.setAssociate(associate);
-        vote.setValue(requestDTO.getValue());
-        vote.setVoteTime(now);
-        
-        Vote savedVote = voteRepository.save(vote);
+        Vote vote = voteMapper.toEntity(requestDTO,
+            votingSessionRepository.getReferenceById(sessionState.votingSessionId()),
+            associateRepository.getReferenceById(associate.associateId()), now);
         
-        return mapToResponseDTO(savedVote);
+        try {
+            Vote savedVote = switch (ingestionMode) {
+                case LANES -> submitToLane(vote);
+                case JOURNAL -> submitToJournal(vote);
+                case WRITE_BEHIND -> writeBehind(vote);
+                default -> save(vote);
+            };
+            return voteMapper.toResponseDTO(savedVote, associate.name());
+        } catch (RuntimeException e) {
+            releaseUnlessAlreadyVoted(sessionState.votingSessionId(), associate.associateId(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public VoteBatchResponseDTO voteBatch(List<VoteRequestDTO> requestDTOs) {
+        if (requestDTOs == null || requestDTOs.isEmpty()) {
+            throw new IllegalArgumentException("O lote de votos não pode ser vazio");
+        }
+        if (requestDTOs.size() > maxBatchSize) {
+            throw new IllegalArgumentException(String.format("O lote de votos excede o limite de %d itens", maxBatchSize));
+        }
+
+        List<VoteBatchItemResultDTO> results = new ArrayList<>(requestDTOs.size());
+        Set<Long> votingSessionIds = new HashSet<>();
+        Set<Long> associateIds = new HashSet<>();
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            VoteRequestDTO requestDTO = requestDTOs.get(i);
+            VoteBatchItemResultDTO result = newBatchItem(i, requestDTO);
+            results.add(result);
+            if (requestDTO == null) {
+                reject(result, VoteRejectionReasonEnum.INVALID_REQUEST, "O voto não pode ser nulo");
+                continue;
+            }
+            try {
+                genericValidator.validate(requestDTO, ICreateValidationGroup.class);
+                votingSessionIds.add(requestDTO.getVotingSessionId());
+                associateIds.add(requestDTO.getAssociateId());
+            } catch (IllegalArgumentException e) {
+                reject(result, VoteRejectionReasonEnum.INVALID_REQUEST, e.getMessage());
+            }
+        }
+
+        Map<Long, VotingSessionState> votingSessions = new HashMap<>();
+        List<Long> uncachedSessionIds = new ArrayList<>();
+        for (Long votingSessionId : votingSessionIds) {
+            votingSessionStateCache.find(votingSessionId).ifPresentOrElse(
+                state -> votingSessions.put(votingSessionId, state),
+                () -> uncachedSessionIds.add(votingSessionId));
+        }
+        if (!uncachedSessionIds.isEmpty()) {
+            votingSessionRepository.findAllById(uncachedSessionIds)
+                .forEach(session -> votingSessions.put(session.getId(), votingSessionStateCache.remember(session)));
+        }
+        Map<Long, AssociateEligibility> associates = new HashMap<>();
+        List<Long> uncachedAssociateIds = new ArrayList<>();
+        for (Long associateId : associateIds) {
+            AssociateEligibility eligibility = associateEligibilityCache.find(associateId);
+            if (eligibility != null) {
+                associates.put(associateId, eligibility);
+            } else {
+                uncachedAssociateIds.add(associateId);
+            }
+        }
+        if (!uncachedAssociateIds.isEmpty()) {
+            associateRepository.findAllById(uncachedAssociateIds)
+                .forEach(associate -> associates.put(associate.getId(), associateEligibilityCache.put(associate)));
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<PendingVote> pendingVotes = new ArrayList<>();
+        List<VoteBatchItemResultDTO> pendingResults = new ArrayList<>();
+        for (VoteBatchItemResultDTO result : results) {
+            if (result.getStatus() == VoteBatchItemStatusEnum.REJECTED) {
+                continue;
+            }
+
+            VotingSessionState votingSession = votingSessions.get(result.getVotingSessionId());
+            AssociateEligibility associate = associates.get(result.getAssociateId());
+            try {
+                if (votingSession == null) {
+                    reject(result, VoteRejectionReasonEnum.SESSION_NOT_FOUND,
+                        new ResourceNotFoundException(SESSION_RESOURCE, result.getVotingSessionId()).getMessage());
+                    continue;
+                }
+                checkSessionOpen(votingSession, now);
+                if (associate == null || !associate.active()) {
+                    reject(result, VoteRejectionReasonEnum.ASSOCIATE_NOT_FOUND,
+                        new ResourceNotFoundException(ASSOCIATE_RESOURCE, result.getAssociateId()).getMessage());
+                    continue;
+                }
+                checkAssociateEligible(associate);
+                if (!votedAssociateIndex.claim(result.getVotingSessionId(), result.getAssociateId())) {
+                    throw new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED);
+                }
+            } catch (VoteException e) {
+                reject(result, e.getReason(), e.getMessage());
+                continue;
+            }
+
+            pendingVotes.add(new PendingVote(result.getVotingSessionId(), result.getAssociateId(), result.getValue(), now));
+            pendingResults.add(result);
+        }
+
+        try {
+            voteBatchWriter.write(pendingVotes, VoteIngestionMetrics.SOURCE_BATCH);
+            for (int i = 0; i < pendingVotes.size(); i++) {
+                VoteBatchItemResultDTO result = pendingResults.get(i);
+                try {
+                    result.setVoteId(pendingVotes.get(i).getResult().join());
+                    result.setStatus(VoteBatchItemStatusEnum.ACCEPTED);
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof VoteException voteException) {
+                        releaseUnlessAlreadyVoted(result.getVotingSessionId(), result.getAssociateId(), voteException);
+                        reject(result, voteException.getReason(), voteException.getMessage());
+                        continue;
+                    }
+                    log.error("Error registering batch vote at index {}", result.getIndex(), e.getCause());
+                    votedAssociateIndex.release(result.getVotingSessionId(), result.getAssociateId());
+                    reject(result, null, "Erro ao registrar o voto");
+                }
+            }
+        } catch (RuntimeException e) {
+            pendingResults.stream()
+                .filter(result -> result.getStatus() == null)
+                .forEach(result -> votedAssociateIndex.release(result.getVotingSessionId(), result.getAssociateId()));
+            throw e;
+        }
+
+        int accepted = (int) results.stream().filter(r -> r.getStatus() == VoteBatchItemStatusEnum.ACCEPTED).count();
+        return new VoteBatchResponseDTO(results.size(), accepted, results.size() - accepted, results);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VoteResponseDTO> findByVotingSessionId(Long votingSessionId, Pageable pageable) {
         Page<Vote> votes = voteRepository.findByVotingSessionIdOrderByVoteTimeDesc(votingSessionId, pageable);
-        return votes.map(this::mapToResponseDTO);
+        return votes.map(voteMapper::toResponseDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public VotingResultDTO getVotingResult(Long votingSessionId) {
-        VotingSession session = votingSessionRepository.findById(votingSessionId)
-            .orElseThrow(() -> new ResourceNotFoundException("Sessão de Votação", votingSessionId));
-        
-        Long totalVotes = voteRepository.countByVotingSessionId(votingSessionId);
-        Long yesVotes = voteRepository.countByVotingSessionIdAndValue(votingSessionId, VoteValue.YES);
-        Long noVotes = voteRepository.countByVotingSessionIdAndValue(votingSessionId, VoteValue.NO);
-        
-        String result = yesVotes > noVotes ? "APROVADA" : 
-                       noVotes > yesVotes ? "REJEITADA" : "EMPATE";
-        
-        return new VotingResultDTO(
-            session.getAgenda().getId(),
-            session.getAgenda().getTitle(),
-            session.getId(),
-            totalVotes,
-            yesVotes,
-            noVotes,
-            result
-        );
+    public SliceDTO<VoteResponseDTO> findByVotingSessionId(Long votingSessionId, Pageable pageable, PageCountModeEnum count) {
+        Slice<Vote> votes = voteRepository.findSliceByVotingSessionIdOrderByVoteTimeDesc(votingSessionId, pageable);
+        return SlicePages.of(votes.map(voteMapper::toResponseDTO), count,
+            listingCountCache, "vote:session:" + votingSessionId,
+            () -> voteRepository.countByVotingSessionId(votingSessionId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPageDTO<VoteResponseDTO> findByVotingSessionId(Long votingSessionId, String after, int size) {
+        int pageSize = KeysetPages.size(size);
+        List<Vote> votes;
+        if (after == null) {
+            votes = voteRepository.findFirstKeysetPage(votingSessionId, KeysetPages.probe(pageSize));
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            if (cursor.timestamp() == null) {
+                throw new IllegalArgumentException("Cursor de paginação inválido: " + after);
+            }
+            votes = voteRepository.findKeysetPageAfter(votingSessionId, cursor.timestamp(), cursor.id(),
+                KeysetPages.probe(pageSize));
+        }
+        return KeysetPages.of(votes, pageSize, vote -> KeysetCursor.of(vote.getVoteTime(), vote.getId()),
+            voteMapper::toResponseDTO);
+    }
+
+    @Override
+    public VoteExport exportByVotingSessionId(Long votingSessionId, VoteExportFormatEnum format) {
+        findSessionState(votingSessionId);
+        return outputStream -> voteExportWriter.write(votingSessionId, format, outputStream);
+    }
+
+    @Override
+    public VotingResultDTO getVotingResult(Long votingSessionId) {
+        return voteTallyEngine.findResult(votingSessionId)
+            .orElseGet(() -> voteTallyEngine.load(findVotingSession(votingSessionId)));
+    }
+
+    @Override
+    public String getVotingResultVersion(Long votingSessionId) {
+        return voteTallyEngine.findVersion(votingSessionId)
+            .orElseGet(() -> voteTallyEngine.loadVersion(findVotingSession(votingSessionId)));
+    }
+
+    private VotingSession findVotingSession(Long votingSessionId) {
+        return votingSessionRepository.findById(votingSessionId)
+            .orElseThrow(() -> new ResourceNotFoundException(SESSION_RESOURCE, votingSessionId));
+    }
+
+    @Override
     public boolean hasAssociateVoted(Long votingSessionId, Long associateId) {
-        return voteRepository.existsByVotingSessionIdAndAssociateId(votingSessionId, associateId);
+        return votedAssociateIndex.hasVoted(votingSessionId, associateId);
+    }
+    private VotingSessionState findSessionState(Long votingSessionId) {
+        return votingSessionStateCache.find(votingSessionId)
+            .orElseGet(() -> votingSessionStateCache.remember(votingSessionRepository.findById(votingSessionId)
+                .orElseThrow(() -> new ResourceNotFoundException(SESSION_RESOURCE, votingSessionId))));
+    }
+
+    private void checkSessionOpen(VotingSessionState sessionState, OffsetDateTime now) {
+        if (sessionState.status() != VotingSessionStatusEnum.ACTIVE) {
+            throw new VoteException(VoteRejectionReasonEnum.SESSION_NOT_ACTIVE);
+        }
+        if (sessionState.endTime() != null && now.isAfter(sessionState.endTime())) {
+            throw new VoteException(VoteRejectionReasonEnum.SESSION_EXPIRED);
+        }
+    }
+
+    private AssociateEligibility findAssociateEligibility(Long associateId) {
+        AssociateEligibility eligibility = associateEligibilityCache.find(associateId);
+        if (eligibility == null) {
+            eligibility = associateRepository.findById(associateId)
+                .map(associateEligibilityCache::put)
+                .orElseThrow(() -> new ResourceNotFoundException(ASSOCIATE_RESOURCE, associateId));
+        }
+        if (!eligibility.active()) {
+            throw new ResourceNotFoundException(ASSOCIATE_RESOURCE, associateId);
+        }
+        return eligibility;
+    }
+
+    private void checkAssociateEligible(AssociateEligibility associate) {
+        if (!associate.eligible()) {
+            throw new VoteException(VoteRejectionReasonEnum.ASSOCIATE_NOT_ELIGIBLE);
+        }
+    }
+
+    private void releaseUnlessAlreadyVoted(Long votingSessionId, Long associateId, RuntimeException cause) {
+        if (!(cause instanceof VoteException voteException && voteException.getReason() == VoteRejectionReasonEnum.ALREADY_VOTED)) {
+            votedAssociateIndex.release(votingSessionId, associateId);
+        }
+    }
+
+    private VoteBatchItemResultDTO newBatchItem(int index, VoteRequestDTO requestDTO) {
+        VoteBatchItemResultDTO result = new VoteBatchItemResultDTO();
+        result.setIndex(index);
+        if (requestDTO != null) {
+            result.setVotingSessionId(requestDTO.getVotingSessionId());
+            result.setAssociateId(requestDTO.getAssociateId());
+            result.setValue(requestDTO.getValue());
+        }
+        return result;
+    }
+
+    private void reject(VoteBatchItemResultDTO result, VoteRejectionReasonEnum reason, String message) {
+        result.setStatus(VoteBatchItemStatusEnum.REJECTED);
+        result.setReason(reason);
+        result.setMessage(message);
+        votingMetrics.recordRejection(reason);
     }
     
-    private VoteResponseDTO mapToResponseDTO(Vote vote) {
-        VoteResponseDTO responseDTO = modelMapper.map(vote, VoteResponseDTO.class);
-        responseDTO.setVotingSessionId(vote.getVotingSession().getId());
-        responseDTO.setAssociateId(vote.getAssociate().getId());
-        responseDTO.setAssociateName(vote.getAssociate().getName());
-        return responseDTO;
+    private Vote save(Vote vote) {
+        long start = System.nanoTime();
+        try {
+            Vote savedVote = voteRepository.save(vote);
+            voteIngestionMetrics.recordCommit(VoteIngestionMetrics.SOURCE_DIRECT, 1, System.nanoTime() - start);
+            voteTallyEngine.recordAfterCommit(vote.getVotingSession().getId(), vote.getValue());
+            return savedVote;
+        } catch (DataIntegrityViolationException e) {
+            throw new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED, e);
+        }
+    }
+
+    private VoteResponseDTO voteInSingleStatement(VoteRequestDTO requestDTO) {
+        Long votingSessionId = requestDTO.getVotingSessionId();
+        OffsetDateTime now = OffsetDateTime.now();
+        votingSessionStateCache.find(votingSessionId).ifPresent(state -> checkSessionOpen(state, now));
+        
+        AssociateEligibility associate = findAssociateEligibility(requestDTO.getAssociateId());
+        checkAssociateEligible(associate);
+        
+        long start = System.nanoTime();
+        Optional<Long> voteId;
+        try {
+            voteId = voteRepository.insertIfSessionOpen(votingSessionId, associate.associateId(), requestDTO.getValue().name(), now);
+        } catch (DataIntegrityViolationException e) {
+            votedAssociateIndex.claim(votingSessionId, associate.associateId());
+            throw new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED, e);
+        }
+        if (voteId.isEmpty()) {
+            throw explainRejectedInsert(votingSessionId, associate.associateId(), now);
+        }
+        voteIngestionMetrics.recordCommit(VoteIngestionMetrics.SOURCE_SINGLE_STATEMENT, 1, System.nanoTime() - start);
+        votedAssociateIndex.claim(votingSessionId, associate.associateId());
+        voteTallyEngine.record(votingSessionId, requestDTO.getValue());
+        
+        Vote vote = voteMapper.toEntity(requestDTO,
+            votingSessionRepository.getReferenceById(votingSessionId),
+            associateRepository.getReferenceById(associate.associateId()), now);
+        vote.setId(voteId.get());
+        return voteMapper.toResponseDTO(vote, associate.name());
+    }
+
+    private RuntimeException explainRejectedInsert(Long votingSessionId, Long associateId, OffsetDateTime now) {
+        VotingSession session = votingSessionRepository.findById(votingSessionId)
+            .orElseThrow(() -> new ResourceNotFoundException(SESSION_RESOURCE, votingSessionId));
+        checkSessionOpen(VotingSessionState.of(session), now);
+        
+        associateRepository.findByIdAndIsActiveTrue(associateId)
+            .orElseThrow(() -> {
+                associateEligibilityCache.invalidate(associateId);
+                return new ResourceNotFoundException(ASSOCIATE_RESOURCE, associateId);
+            });
+        return new VoteException(VoteRejectionReasonEnum.SESSION_NOT_ACTIVE);
+    }
+
+    private Vote writeBehind(Vote vote) {
+        vote.setId(voteWriteBehindQueue.submit(toPendingVote(vote)));
+        return vote;
+    }
+
+    private Vote submitToLane(Vote vote) {
+        vote.setId(voteIngestionLanes.submit(toPendingVote(vote)));
+        return vote;
+    }
+
+    private Vote submitToJournal(Vote vote) {
+        vote.setId(voteJournalIngestion.submit(toPendingVote(vote)));
+        return vote;
+    }
+
+    private PendingVote toPendingVote(Vote vote) {
+        return new PendingVote(
+            vote.getVotingSession().getId(),
+            vote.getAssociate().getId(),
+            vote.getValue(),
+            vote.getVoteTime()
+        );
     }
 }
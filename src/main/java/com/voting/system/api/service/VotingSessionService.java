@@ -2,26 +2,39 @@ package com.voting.system.api.service;
 
 import com.voting.system.api.exception.ResourceNotFoundException;
 import com.voting.system.api.exception.VotingSessionException;
+import com.voting.system.api.mapper.VotingSessionMapper;
 import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
 import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
 import com.voting.system.api.model.entity.Agenda;
 import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.repository.AgendaRepository;
 import com.voting.system.api.repository.VotingSessionRepository;
-import com.voting.system.api.repository.VoteRepository;
+import com.voting.system.api.repository.projection.VotingSessionVersion;
 import com.voting.system.api.service.interfaces.IVotingSessionService;
+import com.voting.system.api.service.pagination.KeysetCursor;
+import com.voting.system.api.service.pagination.KeysetPages;
+import com.voting.system.api.service.pagination.ListingCountCache;
+import com.voting.system.api.service.pagination.SlicePages;
+import com.voting.system.api.service.session.VotingSessionExpirationScheduler;
+import com.voting.system.api.service.session.VotingSessionStateCache;
+import com.voting.system.api.service.tally.VoteTallyEngine;
 import com.voting.system.api.service.validator.GenericValidator;
+import com.voting.system.api.service.voted.VotedAssociateIndex;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +42,13 @@ public class VotingSessionService implements IVotingSessionService {
 
     private final VotingSessionRepository votingSessionRepository;
     private final AgendaRepository agendaRepository;
-    private final VoteRepository voteRepository;
     private final GenericValidator genericValidator;
-    private final ModelMapper modelMapper;
+    private final VotingSessionMapper votingSessionMapper;
+    private final VoteTallyEngine voteTallyEngine;
+    private final VotingSessionStateCache votingSessionStateCache;
+    private final VotingSessionExpirationScheduler votingSessionExpirationScheduler;
+    private final VotedAssociateIndex votedAssociateIndex;
+    private final ListingCountCache listingCountCache;
 
     @Override
     @Transactional
@@ -46,17 +63,9 @@ public class VotingSessionService implements IVotingSessionService {
             throw new VotingSessionException("Já existe uma sessão de votação ativa ou pendente para esta pauta");
         }
         
-        VotingSession votingSession = new VotingSession();
-        votingSession.setAgenda(agenda);
-        votingSession.setStatus(VotingSessionStatusEnum.PENDING);
-        votingSession.setDurationMinutes(requestDTO.getDurationMinutes() != null ? 
-            requestDTO.getDurationMinutes() : 1);
+        VotingSession savedSession = votingSessionRepository.save(votingSessionMapper.toEntity(requestDTO, agenda));
         
-        VotingSession savedSession = votingSessionRepository.save(votingSession);
-        
-        VotingSessionResponseDTO responseDTO = modelMapper.map(savedSession, VotingSessionResponseDTO.class);
-        responseDTO.setAgendaTitle(agenda.getTitle());
-        return responseDTO;
+        return votingSessionMapper.toResponseDTO(savedSession);
     }
 
     @Override
@@ -65,42 +74,83 @@ public class VotingSessionService implements IVotingSessionService {
         VotingSession session = votingSessionRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Sessão de Votação", id));
         
-        VotingSessionResponseDTO responseDTO = modelMapper.map(session, VotingSessionResponseDTO.class);
-        responseDTO.setAgendaTitle(session.getAgenda().getTitle());
-        return responseDTO;
+        return votingSessionMapper.toResponseDTO(session);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getVersion(Long id) {
+        return votingSessionRepository.findVersionById(id)
+            .map(VotingSessionVersion::tag)
+            .orElseThrow(() -> new ResourceNotFoundException("Sessão de Votação", id));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VotingSessionResponseDTO> findAll(Pageable pageable) {
         Page<VotingSession> sessions = votingSessionRepository.findAll(pageable);
-        return sessions.map(session -> {
-            VotingSessionResponseDTO dto = modelMapper.map(session, VotingSessionResponseDTO.class);
-            dto.setAgendaTitle(session.getAgenda().getTitle());
-            return dto;
-        });
+        return sessions.map(votingSessionMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<VotingSessionResponseDTO> findAll(Pageable pageable, PageCountModeEnum count) {
+        Slice<VotingSession> sessions = votingSessionRepository.findSliceBy(pageable);
+        return SlicePages.of(sessions.map(votingSessionMapper::toResponseDTO), count,
+            listingCountCache, "voting-session", votingSessionRepository::count);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VotingSessionResponseDTO> findByStatus(VotingSessionStatusEnum status, Pageable pageable) {
         Page<VotingSession> sessions = votingSessionRepository.findByStatus(status, pageable);
-        return sessions.map(session -> {
-            VotingSessionResponseDTO dto = modelMapper.map(session, VotingSessionResponseDTO.class);
-            dto.setAgendaTitle(session.getAgenda().getTitle());
-            return dto;
-        });
+        return sessions.map(votingSessionMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<VotingSessionResponseDTO> findByStatus(VotingSessionStatusEnum status, Pageable pageable,
+                                                          PageCountModeEnum count) {
+        Slice<VotingSession> sessions = votingSessionRepository.findSliceByStatus(status, pageable);
+        return SlicePages.of(sessions.map(votingSessionMapper::toResponseDTO), count,
+            listingCountCache, "voting-session:status:" + status, () -> votingSessionRepository.countByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VotingSessionResponseDTO> findByAgendaId(Long agendaId, Pageable pageable) {
         Page<VotingSession> sessions = votingSessionRepository.findByAgendaId(agendaId, pageable);
-        return sessions.map(session -> {
-            VotingSessionResponseDTO dto = modelMapper.map(session, VotingSessionResponseDTO.class);
-            dto.setAgendaTitle(session.getAgenda().getTitle());
-            return dto;
-        });
+        return sessions.map(votingSessionMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDTO<VotingSessionResponseDTO> findByAgendaId(Long agendaId, Pageable pageable, PageCountModeEnum count) {
+        Slice<VotingSession> sessions = votingSessionRepository.findSliceByAgendaId(agendaId, pageable);
+        return SlicePages.of(sessions.map(votingSessionMapper::toResponseDTO), count,
+            listingCountCache, "voting-session:agenda:" + agendaId, () -> votingSessionRepository.countByAgendaId(agendaId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<VotingSessionResponseDTO> findByStatus(VotingSessionStatusEnum status, String after, int size) {
+        int pageSize = KeysetPages.size(size);
+        List<VotingSession> sessions = after == null
+            ? votingSessionRepository.findFirstKeysetPageByStatus(status, KeysetPages.probe(pageSize))
+            : votingSessionRepository.findKeysetPageByStatusAfter(status, KeysetCursor.decode(after).id(),
+                KeysetPages.probe(pageSize));
+        return KeysetPages.of(sessions, pageSize, session -> KeysetCursor.of(session.getId()), votingSessionMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<VotingSessionResponseDTO> findByAgendaId(Long agendaId, String after, int size) {
+        int pageSize = KeysetPages.size(size);
+        List<VotingSession> sessions = after == null
+            ? votingSessionRepository.findFirstKeysetPageByAgendaId(agendaId, KeysetPages.probe(pageSize))
+            : votingSessionRepository.findKeysetPageByAgendaIdAfter(agendaId, KeysetCursor.decode(after).id(),
+                KeysetPages.probe(pageSize));
+        return KeysetPages.of(sessions, pageSize, session -> KeysetCursor.of(session.getId()), votingSessionMapper::toResponseDTO);
     }
 
     @Override
@@ -119,10 +169,11 @@ public class VotingSessionService implements IVotingSessionService {
         session.setEndTime(now.plusMinutes(session.getDurationMinutes()));
         
         VotingSession savedSession = votingSessionRepository.save(session);
+        voteTallyEngine.registerAfterCommit(savedSession);
+        votingSessionStateCache.putAfterCommit(savedSession);
+        votingSessionExpirationScheduler.scheduleAfterCommit(savedSession);
         
-        VotingSessionResponseDTO responseDTO = modelMapper.map(savedSession, VotingSessionResponseDTO.class);
-        responseDTO.setAgendaTitle(savedSession.getAgenda().getTitle());
-        return responseDTO;
+        return votingSessionMapper.toResponseDTO(savedSession);
     }
 
     @Override
@@ -137,15 +188,25 @@ public class VotingSessionService implements IVotingSessionService {
         
         session.setStatus(VotingSessionStatusEnum.CLOSED);
         VotingSession savedSession = votingSessionRepository.save(session);
+        votingSessionStateCache.putAfterCommit(savedSession);
+        votedAssociateIndex.evictAfterCommit(savedSession.getId());
         
-        VotingSessionResponseDTO responseDTO = modelMapper.map(savedSession, VotingSessionResponseDTO.class);
-        responseDTO.setAgendaTitle(savedSession.getAgenda().getTitle());
-        return responseDTO;
+        return votingSessionMapper.toResponseDTO(savedSession);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public VotingResultDTO getResult(Long id) {
+        return voteTallyEngine.findResult(id)
+            .orElseGet(() -> voteTallyEngine.load(findStartedSession(id)));
+    }
+
+    @Override
+    public String getResultVersion(Long id) {
+        return voteTallyEngine.findVersion(id)
+            .orElseGet(() -> voteTallyEngine.loadVersion(findStartedSession(id)));
+    }
+
+    private VotingSession findStartedSession(Long id) {
         VotingSession session = votingSessionRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Sessão de Votação", id));
         
@@ -153,22 +214,7 @@ public class VotingSessionService implements IVotingSessionService {
             throw new VotingSessionException("Não é possível obter resultado de sessão que ainda não foi iniciada");
         }
         
-        Long totalVotes = voteRepository.countByVotingSessionId(id);
-        Long yesVotes = voteRepository.countByVotingSessionIdAndValue(id, com.voting.system.api.model.entity.VoteValue.YES);
-        Long noVotes = voteRepository.countByVotingSessionIdAndValue(id, com.voting.system.api.model.entity.VoteValue.NO);
-        
-        String result = yesVotes > noVotes ? "APROVADA" : 
-                       noVotes > yesVotes ? "REJEITADA" : "EMPATE";
-        
-        return new VotingResultDTO(
-            session.getAgenda().getId(),
-            session.getAgenda().getTitle(),
-            session.getId(),
-            totalVotes,
-            yesVotes,
-            noVotes,
-            result
-        );
+        return session;
     }
 
     @Override
@@ -178,7 +224,8 @@ public class VotingSessionService implements IVotingSessionService {
         votingSessionRepository.findExpiredSessions(now)
             .forEach(session -> {
                 session.setStatus(VotingSessionStatusEnum.CLOSED);
-                votingSessionRepository.save(session);
+                votingSessionStateCache.putAfterCommit(votingSessionRepository.save(session));
+                votedAssociateIndex.evictAfterCommit(session.getId());
             });
     }
 
@@ -189,7 +236,8 @@ public class VotingSessionService implements IVotingSessionService {
             .stream()
             .mapToInt(session -> {
                 session.setStatus(VotingSessionStatusEnum.CLOSED);
-                votingSessionRepository.save(session);
+                votingSessionStateCache.putAfterCommit(votingSessionRepository.save(session));
+                votedAssociateIndex.evictAfterCommit(session.getId());
                 return 1;
             })
             .sum();
@@ -0,0 +1,4 @@
+package com.voting.system.api.service.associate;
+
+public record AssociateEligibility(long associateId, boolean active, boolean eligible, String name, long expiresAtNanos) {
+}
@@ -0,0 +1,105 @@
+package com.voting.system.api.service.associate;
+
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.enums.AssociateStatusEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Direct-mapped cache of associate eligibility indexed by the primitive associate id.
+ * Sequential ids map to distinct slots until the capacity is exceeded, after which a
+ * newer associate simply replaces the one sharing its slot.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssociateEligibilityCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${voting.associate-cache.capacity:1048576}")
+    private int capacity = 1 << 20;
+
+    @Value("${voting.associate-cache.eligibility-ttl-seconds:300}")
+    private long eligibilityTtlSeconds = 300;
+
+    private AtomicReferenceArray<AssociateEligibility> slots;
+    private int mask;
+    private long ttlNanos;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+        ttlNanos = TimeUnit.SECONDS.toNanos(eligibilityTtlSeconds);
+        hits = Counter.builder("voting.associate.cache.requests")
+            .description("Associate eligibility cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        misses = Counter.builder("voting.associate.cache.requests")
+            .description("Associate eligibility cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("voting.associate.cache.capacity", slots, AtomicReferenceArray::length)
+            .description("Slots available in the associate eligibility cache")
+            .register(meterRegistry);
+    }
+
+    public AssociateEligibility find(long associateId) {
+        AssociateEligibility entry = slots.get(slot(associateId));
+        if (entry != null && entry.associateId() == associateId && System.nanoTime() - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    public AssociateEligibility put(Associate associate) {
+        AssociateEligibility entry = new AssociateEligibility(
+            associate.getId(),
+            Boolean.TRUE.equals(associate.getIsActive()),
+            associate.getStatus() == AssociateStatusEnum.ABLE_TO_VOTE,
+            associate.getName(),
+            System.nanoTime() + ttlNanos
+        );
+        slots.set(slot(entry.associateId()), entry);
+        return entry;
+    }
+
+    public void invalidate(long associateId) {
+        int slot = slot(associateId);
+        AssociateEligibility entry = slots.get(slot);
+        if (entry != null && entry.associateId() == associateId) {
+            slots.compareAndSet(slot, entry, null);
+        }
+    }
+
+    public void invalidateAfterCommit(long associateId) {
+        invalidate(associateId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(associateId);
+                }
+            });
+        }
+    }
+
+    private int slot(long associateId) {
+        return (int) (associateId & mask);
+    }
+}
@@ -0,0 +1,10 @@
+package com.voting.system.api.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface VoteExport {
+
+    long writeTo(OutputStream outputStream) throws IOException;
+}
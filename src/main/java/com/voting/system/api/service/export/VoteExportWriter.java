@@ -0,0 +1,139 @@
+package com.voting.system.api.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.constants.OpenAPIConstants;
+import com.voting.system.api.constants.TableConstants;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+
+/**
+ * Streams every vote of a session straight from a forward-only JDBC cursor to the
+ * response, one row at a time. H2 lazy query execution is switched on for the
+ * cursor so the result is not materialized before the first row is written; the
+ * query has no ORDER BY and resolves the associate name per row so the planner
+ * walks the session index instead of sorting or scanning every associate.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteExportWriter {
+
+    private static final String SELECT_VOTES_SQL = "SELECT v.id, v.id_voting_session, v.id_associate,"
+        + " (SELECT a.tx_name FROM " + TableConstants.TABLE_ASSOCIATE + " a WHERE a.id = v.id_associate),"
+        + " v.ck_vote_value, v.dt_vote_time FROM " + TableConstants.TABLE_VOTE + " v"
+        + " WHERE v.id_voting_session = ?";
+
+    private static final String CSV_HEADER = String.join(",", "id", OpenAPIConstants.ID_VOTING_SESSION,
+        OpenAPIConstants.ID_ASSOCIATE, "associateName", OpenAPIConstants.VOTE_VALUE, "voteTime");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${voting.export.fetch-size:1000}")
+    private int fetchSize = 1000;
+
+    public long write(Long votingSessionId, VoteExportFormatEnum format, OutputStream outputStream) throws IOException {
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                setLazyQueryExecution(connection, true);
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_VOTES_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, votingSessionId);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        return format == VoteExportFormatEnum.CSV
+                            ? writeCsv(resultSet, outputStream)
+                            : writeNdjson(resultSet, outputStream);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    setLazyQueryExecution(connection, false);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeNdjson(ResultSet resultSet, OutputStream outputStream) throws SQLException, IOException {
+        long rows = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (resultSet.next()) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", resultSet.getLong(1));
+            generator.writeNumberField(OpenAPIConstants.ID_VOTING_SESSION, resultSet.getLong(2));
+            generator.writeNumberField(OpenAPIConstants.ID_ASSOCIATE, resultSet.getLong(3));
+            generator.writeStringField("associateName", resultSet.getString(4));
+            generator.writeStringField(OpenAPIConstants.VOTE_VALUE, resultSet.getString(5));
+            generator.writeStringField("voteTime", String.valueOf(resultSet.getObject(6, OffsetDateTime.class)));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            rows++;
+        }
+        generator.close();
+        return rows;
+    }
+
+    private long writeCsv(ResultSet resultSet, OutputStream outputStream) throws SQLException, IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (resultSet.next()) {
+            writer.write(Long.toString(resultSet.getLong(1)));
+            writer.write(',');
+            writer.write(Long.toString(resultSet.getLong(2)));
+            writer.write(',');
+            writer.write(Long.toString(resultSet.getLong(3)));
+            writer.write(',');
+            writeCsvField(writer, resultSet.getString(4));
+            writer.write(',');
+            writer.write(resultSet.getString(5));
+            writer.write(',');
+            writer.write(String.valueOf(resultSet.getObject(6, OffsetDateTime.class)));
+            writer.write('\n');
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void setLazyQueryExecution(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + enabled);
+        }
+    }
+}
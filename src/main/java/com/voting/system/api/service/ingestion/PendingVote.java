@@ -0,0 +1,27 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.model.entity.VoteValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+
+@Getter
+@RequiredArgsConstructor
+public class PendingVote {
+
+    private final Long votingSessionId;
+    private final Long associateId;
+    private final VoteValue value;
+    private final OffsetDateTime voteTime;
+    private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+    public void complete(Long voteId) {
+        result.complete(voteId);
+    }
+
+    public void fail(Throwable cause) {
+        result.completeExceptionally(cause);
+    }
+}
@@ -0,0 +1,94 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.constants.TableConstants;
+import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import com.voting.system.api.service.tally.VoteTallyEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteBatchWriter {
+
+    private static final String INSERT_VOTE_SQL = "INSERT INTO " + TableConstants.TABLE_VOTE
+        + " (id_voting_session, id_associate, ck_vote_value, dt_vote_time) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteTallyEngine voteTallyEngine;
+    private final VoteIngestionMetrics voteIngestionMetrics;
+
+    public void write(List<PendingVote> votes, String source) {
+        if (votes.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insert(votes));
+            voteIngestionMetrics.recordCommit(source, votes.size(), System.nanoTime() - start);
+            for (int i = 0; i < votes.size(); i++) {
+                complete(votes.get(i), ids.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Vote batch of {} rejected by a constraint, writing votes one by one", votes.size());
+            votes.forEach(vote -> writeSingle(vote, source));
+        } catch (RuntimeException e) {
+            log.error("Error writing vote batch of {} votes", votes.size(), e);
+            votes.forEach(vote -> vote.fail(e));
+        }
+    }
+
+    private void writeSingle(PendingVote vote, String source) {
+        long start = System.nanoTime();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insert(List.of(vote)));
+            voteIngestionMetrics.recordCommit(source, 1, System.nanoTime() - start);
+            complete(vote, ids.get(0));
+        } catch (DataIntegrityViolationException e) {
+            vote.fail(new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED, e));
+        } catch (RuntimeException e) {
+            vote.fail(e);
+        }
+    }
+
+    private List<Long> insert(List<PendingVote> votes) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_VOTE_SQL, new String[]{"id"})) {
+                for (PendingVote vote : votes) {
+                    statement.setLong(1, vote.getVotingSessionId());
+                    statement.setLong(2, vote.getAssociateId());
+                    statement.setString(3, vote.getValue().name());
+                    statement.setObject(4, vote.getVoteTime());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(votes.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    private void complete(PendingVote vote, Long id) {
+        voteTallyEngine.record(vote.getVotingSessionId(), vote.getValue());
+        vote.complete(id);
+    }
+}
@@ -0,0 +1,164 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-writer ingestion: each voting session is hashed onto one of a fixed set of
+ * lanes, and every lane is a preallocated ring buffer drained by its own thread. All
+ * inserts of a session are therefore written by the same thread, in JDBC batches of
+ * whatever accumulated while the previous batch was committing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteIngestionLanes {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final VoteBatchWriter voteBatchWriter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${voting.ingestion.mode:DIRECT}")
+    private VoteIngestionModeEnum ingestionMode;
+
+    @Value("${voting.ingestion.lanes.count:4}")
+    private int laneCount = 4;
+
+    @Value("${voting.ingestion.lanes.ring-size:1024}")
+    private int ringSize = 1024;
+
+    @Value("${voting.ingestion.lanes.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${voting.ingestion.lanes.submit-timeout-ms:1000}")
+    private long submitTimeoutMs = 1000;
+
+    @Value("${voting.ingestion.lanes.await-timeout-ms:30000}")
+    private long awaitTimeoutMs = 30000;
+
+    private Lane[] lanes;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (ingestionMode != VoteIngestionModeEnum.LANES) {
+            return;
+        }
+
+        running = true;
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, new VoteRingBuffer(ringSize));
+            Gauge.builder("voting.ingestion.lane.depth", lanes[i].ring, VoteRingBuffer::size)
+                .description("Votes waiting in the ingestion lane")
+                .tag("lane", String.valueOf(i))
+                .register(meterRegistry);
+            lanes[i].thread.start();
+        }
+        log.info("Vote ingestion lanes started (lanes={}, ring-size={}, batch-size={})",
+            laneCount, lanes[0].ring.capacity(), batchSize);
+    }
+
+    public Long submit(PendingVote vote) {
+        if (!running) {
+            throw new IngestionOverloadException("Ingestão de votos indisponível no momento");
+        }
+
+        Lane lane = lanes[Math.floorMod(Long.hashCode(vote.getVotingSessionId()), lanes.length)];
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(submitTimeoutMs);
+        while (!lane.ring.offer(vote)) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IngestionOverloadException("Fila de votos cheia, tente novamente em instantes");
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        lane.wakeUp();
+
+        try {
+            return vote.getResult().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestionOverloadException("Registro do voto interrompido", e);
+        } catch (TimeoutException e) {
+            throw new IngestionOverloadException("Tempo esgotado aguardando a gravação do voto", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Lane lane : lanes) {
+            LockSupport.unpark(lane.thread);
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(awaitTimeoutMs);
+        }
+        log.info("Vote ingestion lanes stopped");
+    }
+
+    private final class Lane {
+
+        private final VoteRingBuffer ring;
+        private final Thread thread;
+        private volatile boolean idle;
+
+        private Lane(int index, VoteRingBuffer ring) {
+            this.ring = ring;
+            this.thread = new Thread(this::drainLoop, "vote-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void wakeUp() {
+            if (idle) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void drainLoop() {
+            List<PendingVote> batch = new ArrayList<>(batchSize);
+            while (running || ring.size() > 0) {
+                if (ring.drainTo(batch, batchSize) == 0) {
+                    idle = true;
+                    if (ring.size() == 0) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    idle = false;
+                    continue;
+                }
+                try {
+                    voteBatchWriter.write(batch, VoteIngestionMetrics.SOURCE_LANES);
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error writing vote batch on {}", thread.getName(), e);
+                    batch.forEach(vote -> vote.fail(e));
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.voting.system.api.service.ingestion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class VoteIngestionMetrics {
+
+    public static final String SOURCE_DIRECT = "direct";
+    public static final String SOURCE_WRITE_BEHIND = "write_behind";
+    public static final String SOURCE_BATCH = "batch";
+    public static final String SOURCE_SINGLE_STATEMENT = "single_statement";
+    public static final String SOURCE_LANES = "lanes";
+    public static final String SOURCE_JOURNAL = "journal";
+    public static final String SOURCE_JOURNAL_REPLAY = "journal_replay";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SourceMeters> meters = new ConcurrentHashMap<>();
+
+    public void recordCommit(String source, int votes, long elapsedNanos) {
+        SourceMeters sourceMeters = meters.computeIfAbsent(source, this::register);
+        sourceMeters.commitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        sourceMeters.voteCounter.increment(votes);
+        sourceMeters.batchSize.record(votes);
+    }
+
+    private SourceMeters register(String source) {
+        return new SourceMeters(
+            Timer.builder("voting.ingestion.commit")
+                .description("Latency of each vote write transaction")
+                .tag("mode", source)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry),
+            Counter.builder("voting.ingestion.votes")
+                .description("Votes written to the database")
+                .tag("mode", source)
+                .register(meterRegistry),
+            DistributionSummary.builder("voting.ingestion.batch.size")
+                .description("Votes written per transaction")
+                .tag("mode", source)
+                .register(meterRegistry)
+        );
+    }
+
+    private record SourceMeters(Timer commitTimer, Counter voteCounter, DistributionSummary batchSize) {
+    }
+}
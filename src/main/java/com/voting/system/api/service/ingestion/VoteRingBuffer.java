@@ -0,0 +1,67 @@
+package com.voting.system.api.service.ingestion;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated slots. Producers claim a
+ * sequence with a CAS and publish the slot by storing {@code sequence + 1}; the single
+ * consumer reads published slots in order and releases them by advancing {@code tail}.
+ */
+final class VoteRingBuffer {
+
+    private final PendingVote[] slots;
+    private final AtomicLongArray published;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+
+    VoteRingBuffer(int requestedCapacity) {
+        capacity = Integer.highestOneBit(Math.max(requestedCapacity - 1, 1)) << 1;
+        mask = capacity - 1;
+        slots = new PendingVote[capacity];
+        published = new AtomicLongArray(capacity);
+    }
+
+    boolean offer(PendingVote vote) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= capacity) {
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        slots[index] = vote;
+        published.lazySet(index, sequence + 1);
+        return true;
+    }
+
+    int drainTo(List<PendingVote> batch, int maxElements) {
+        long sequence = tail;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence + 1) {
+                break;
+            }
+            batch.add(slots[index]);
+            slots[index] = null;
+            sequence++;
+            drained++;
+        }
+        tail = sequence;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, head.get() - tail);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
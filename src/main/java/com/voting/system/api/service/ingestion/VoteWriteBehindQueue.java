@@ -0,0 +1,146 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group-commit ingestion: validated votes are queued and written by a single
+ * flusher thread in JDBC batches, one transaction every {@code batch-size}
+ * votes or {@code max-delay-ms} milliseconds. Callers block until the batch
+ * holding their vote has been committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteWriteBehindQueue {
+
+    private final VoteBatchWriter voteBatchWriter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${voting.ingestion.mode:DIRECT}")
+    private VoteIngestionModeEnum ingestionMode;
+
+    @Value("${voting.ingestion.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${voting.ingestion.write-behind.max-delay-ms:5}")
+    private long maxDelayMs;
+
+    @Value("${voting.ingestion.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${voting.ingestion.write-behind.submit-timeout-ms:1000}")
+    private long submitTimeoutMs;
+
+    @Value("${voting.ingestion.write-behind.await-timeout-ms:30000}")
+    private long awaitTimeoutMs;
+
+    private BlockingQueue<PendingVote> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (ingestionMode != VoteIngestionModeEnum.WRITE_BEHIND) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("voting.ingestion.queue.depth", queue, BlockingQueue::size)
+            .description("Votes waiting for the write-behind flusher")
+            .register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "vote-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Write-behind vote ingestion started (batch-size={}, max-delay-ms={})", batchSize, maxDelayMs);
+    }
+
+    public Long submit(PendingVote vote) {
+        if (!running) {
+            throw new IngestionOverloadException("Ingestão de votos indisponível no momento");
+        }
+
+        try {
+            if (!queue.offer(vote, submitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IngestionOverloadException("Fila de votos cheia, tente novamente em instantes");
+            }
+            return vote.getResult().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestionOverloadException("Registro do voto interrompido", e);
+        } catch (TimeoutException e) {
+            throw new IngestionOverloadException("Tempo esgotado aguardando a gravação do voto", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingVote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingVote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                voteBatchWriter.write(batch, VoteIngestionMetrics.SOURCE_WRITE_BEHIND);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(vote -> vote.fail(new IngestionOverloadException("Ingestão de votos interrompida", e)));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error flushing vote batch", e);
+                batch.forEach(vote -> vote.fail(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusher.join(awaitTimeoutMs);
+        log.info("Write-behind vote ingestion stopped");
+    }
+}
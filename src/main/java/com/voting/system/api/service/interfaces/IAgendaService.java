@@ -2,6 +2,8 @@ package com.voting.system.api.service.interfaces;
 
 import com.voting.system.api.model.dto.request.AgendaRequestDTO;
 import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,10 +12,16 @@ public interface IAgendaService {
     AgendaResponseDTO create(AgendaRequestDTO requestDTO);
     
     AgendaResponseDTO findById(Long id);
+
+    String getVersion(Long id);
     
     Page<AgendaResponseDTO> findAll(Pageable pageable);
     
     Page<AgendaResponseDTO> findByTitle(String title, Pageable pageable);
+
+    SliceDTO<AgendaResponseDTO> findAll(Pageable pageable, PageCountModeEnum count);
+
+    SliceDTO<AgendaResponseDTO> findByTitle(String title, Pageable pageable, PageCountModeEnum count);
     
     AgendaResponseDTO update(Long id, AgendaRequestDTO requestDTO);
     
@@ -2,6 +2,8 @@ package com.voting.system.api.service.interfaces;
 
 import com.voting.system.api.model.dto.request.AssociateRequestDTO;
 import com.voting.system.api.model.dto.response.AssociateResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,6 +16,10 @@ public interface IAssociateService {
     Page<AssociateResponseDTO> findAll(Pageable pageable);
     
     Page<AssociateResponseDTO> findByName(String name, Pageable pageable);
+
+    SliceDTO<AssociateResponseDTO> findAll(Pageable pageable, PageCountModeEnum count);
+
+    SliceDTO<AssociateResponseDTO> findByName(String name, Pageable pageable, PageCountModeEnum count);
     
     AssociateResponseDTO findByCpf(String cpf);
     
@@ -0,0 +1,13 @@
+package com.voting.system.api.service.interfaces;
+
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.VoteReceiptDTO;
+
+public interface IVoteReceiptService {
+
+    boolean isEnabled();
+
+    VoteReceiptDTO submit(VoteRequestDTO requestDTO);
+
+    VoteReceiptDTO findReceipt(String receiptId);
+}
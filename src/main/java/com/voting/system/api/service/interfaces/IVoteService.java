@@ -1,18 +1,36 @@
 package com.voting.system.api.service.interfaces;
 
 import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.dto.response.VoteBatchResponseDTO;
 import com.voting.system.api.model.dto.response.VoteResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
+import com.voting.system.api.service.export.VoteExport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface IVoteService {
 
     VoteResponseDTO vote(VoteRequestDTO requestDTO);
+
+    VoteBatchResponseDTO voteBatch(List<VoteRequestDTO> requestDTOs);
     
     Page<VoteResponseDTO> findByVotingSessionId(Long votingSessionId, Pageable pageable);
+
+    SliceDTO<VoteResponseDTO> findByVotingSessionId(Long votingSessionId, Pageable pageable, PageCountModeEnum count);
+
+    CursorPageDTO<VoteResponseDTO> findByVotingSessionId(Long votingSessionId, String after, int size);
+
+    VoteExport exportByVotingSessionId(Long votingSessionId, VoteExportFormatEnum format);
     
     VotingResultDTO getVotingResult(Long votingSessionId);
+
+    String getVotingResultVersion(Long votingSessionId);
     
     boolean hasAssociateVoted(Long votingSessionId, Long associateId);
 }
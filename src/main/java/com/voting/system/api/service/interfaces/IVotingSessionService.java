@@ -1,8 +1,11 @@
 package com.voting.system.api.service.interfaces;
 
 import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,18 +15,32 @@ public interface IVotingSessionService {
     VotingSessionResponseDTO create(VotingSessionRequestDTO requestDTO);
     
     VotingSessionResponseDTO findById(Long id);
+
+    String getVersion(Long id);
     
     Page<VotingSessionResponseDTO> findAll(Pageable pageable);
+
+    SliceDTO<VotingSessionResponseDTO> findAll(Pageable pageable, PageCountModeEnum count);
     
     Page<VotingSessionResponseDTO> findByStatus(VotingSessionStatusEnum status, Pageable pageable);
+
+    SliceDTO<VotingSessionResponseDTO> findByStatus(VotingSessionStatusEnum status, Pageable pageable, PageCountModeEnum count);
     
     Page<VotingSessionResponseDTO> findByAgendaId(Long agendaId, Pageable pageable);
+
+    SliceDTO<VotingSessionResponseDTO> findByAgendaId(Long agendaId, Pageable pageable, PageCountModeEnum count);
+
+    CursorPageDTO<VotingSessionResponseDTO> findByStatus(VotingSessionStatusEnum status, String after, int size);
+
+    CursorPageDTO<VotingSessionResponseDTO> findByAgendaId(Long agendaId, String after, int size);
     
     VotingSessionResponseDTO start(Long id);
     
     VotingSessionResponseDTO close(Long id);
     
     VotingResultDTO getResult(Long id);
+
+    String getResultVersion(Long id);
     
     void checkExpiredSessions();
 }
@@ -0,0 +1,8 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.model.entity.VoteValue;
+
+import java.time.OffsetDateTime;
+
+public record JournalEntry(long voteId, long votingSessionId, long associateId, VoteValue value, OffsetDateTime voteTime) {
+}
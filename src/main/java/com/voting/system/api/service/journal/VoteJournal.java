@@ -0,0 +1,166 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.model.entity.VoteValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, memory-mapped journal of accepted votes. Records are fixed size and
+ * protected by a CRC32C; a reset bumps the header generation so records left over
+ * from the previous generation are never replayed.
+ */
+final class VoteJournal implements Closeable {
+
+    private static final int MAGIC = 0x564A524E;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int GENERATION_OFFSET = 8;
+    static final int HEADER_BYTES = 16;
+
+    private static final int PAYLOAD_BYTES = Long.BYTES * 5 + Integer.BYTES * 2 + 1;
+    static final int RECORD_BYTES = Integer.BYTES + PAYLOAD_BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private long generation;
+    private int position;
+
+    private VoteJournal(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static VoteJournal open(Path file, int sizeBytes) {
+        try {
+            FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), HEADER_BYTES + (long) RECORD_BYTES * Math.max(1, sizeBytes / RECORD_BYTES));
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            VoteJournal journal = new VoteJournal(channel, buffer);
+            journal.initialize();
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map vote journal " + file, e);
+        }
+    }
+
+    static boolean exists(Path file) {
+        return Files.exists(file);
+    }
+
+    private void initialize() {
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION) {
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putLong(GENERATION_OFFSET, 1);
+            buffer.putInt(HEADER_BYTES, 0);
+            buffer.force();
+        }
+        generation = buffer.getLong(GENERATION_OFFSET);
+        position = HEADER_BYTES;
+        while (position + RECORD_BYTES <= buffer.capacity() && read(position) != null) {
+            position += RECORD_BYTES;
+        }
+    }
+
+    List<JournalEntry> entries() {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int offset = HEADER_BYTES; offset < position; offset += RECORD_BYTES) {
+            entries.add(read(offset));
+        }
+        return entries;
+    }
+
+    boolean hasRoomFor(int records) {
+        return position + (long) records * RECORD_BYTES <= buffer.capacity();
+    }
+
+    int capacityInRecords() {
+        return (buffer.capacity() - HEADER_BYTES) / RECORD_BYTES;
+    }
+
+    boolean isEmpty() {
+        return position == HEADER_BYTES;
+    }
+
+    void append(JournalEntry entry) {
+        int offset = position;
+        buffer.putLong(offset + 4, generation);
+        buffer.putLong(offset + 12, entry.voteId());
+        buffer.putLong(offset + 20, entry.votingSessionId());
+        buffer.putLong(offset + 28, entry.associateId());
+        buffer.putLong(offset + 36, entry.voteTime().toEpochSecond());
+        buffer.putInt(offset + 44, entry.voteTime().getNano());
+        buffer.putInt(offset + 48, entry.voteTime().getOffset().getTotalSeconds());
+        buffer.put(offset + 52, (byte) entry.value().ordinal());
+        buffer.putInt(offset + 4 + PAYLOAD_BYTES, checksum(offset + 4));
+        buffer.putInt(offset, PAYLOAD_BYTES);
+        position += RECORD_BYTES;
+    }
+
+    void force(int fromRecordOffset) {
+        buffer.force(fromRecordOffset, position - fromRecordOffset);
+    }
+
+    int position() {
+        return position;
+    }
+
+    void reset() {
+        generation++;
+        buffer.putLong(GENERATION_OFFSET, generation);
+        buffer.putInt(HEADER_BYTES, 0);
+        buffer.force(0, HEADER_BYTES + Integer.BYTES);
+        position = HEADER_BYTES;
+    }
+
+    private JournalEntry read(int offset) {
+        if (buffer.getInt(offset) != PAYLOAD_BYTES
+            || buffer.getLong(offset + 4) != generation
+            || buffer.getInt(offset + 4 + PAYLOAD_BYTES) != checksum(offset + 4)) {
+            return null;
+        }
+        OffsetDateTime voteTime = OffsetDateTime.ofInstant(
+            Instant.ofEpochSecond(buffer.getLong(offset + 36), buffer.getInt(offset + 44)),
+            ZoneOffset.ofTotalSeconds(buffer.getInt(offset + 48)));
+        return new JournalEntry(
+            buffer.getLong(offset + 12),
+            buffer.getLong(offset + 20),
+            buffer.getLong(offset + 28),
+            VoteValue.values()[buffer.get(offset + 52)],
+            voteTime);
+    }
+
+    private int checksum(int payloadOffset) {
+        crc.reset();
+        crc.update(buffer.slice(payloadOffset, PAYLOAD_BYTES));
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
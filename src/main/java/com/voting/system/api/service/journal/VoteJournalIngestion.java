@@ -0,0 +1,328 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import com.voting.system.api.service.ingestion.PendingVote;
+import com.voting.system.api.service.ingestion.VoteIngestionMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Journal-first ingestion: a single journal thread assigns vote ids, appends a group of
+ * votes to the memory-mapped journal and forces it to disk before acknowledging them.
+ * A second thread copies journaled votes into the {@code vote} table. A group that keeps
+ * failing is quarantined so the groups behind it are not held up; quarantined votes stay in
+ * the journal, are retried periodically and are replayed on startup. On startup any
+ * journaled vote missing from the table is replayed, whatever the ingestion mode.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteJournalIngestion {
+
+    private static final String JOURNAL_FILE = "votes.journal";
+    private static final long RETRY_DELAY_MS = 500;
+
+    private final VoteJournalWriter voteJournalWriter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${voting.ingestion.mode:DIRECT}")
+    private VoteIngestionModeEnum ingestionMode;
+
+    @Value("${voting.journal.directory:./data/vote-journal}")
+    private String directory = "./data/vote-journal";
+
+    @Value("${voting.journal.size-mb:64}")
+    private int sizeMb = 64;
+
+    @Value("${voting.journal.group-size:500}")
+    private int groupSize = 500;
+
+    @Value("${voting.journal.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${voting.journal.submit-timeout-ms:1000}")
+    private long submitTimeoutMs = 1000;
+
+    @Value("${voting.journal.await-timeout-ms:30000}")
+    private long awaitTimeoutMs = 30000;
+
+    @Value("${voting.journal.max-write-attempts:5}")
+    private int maxWriteAttempts = 5;
+
+    @Value("${voting.journal.quarantine-retry-ms:60000}")
+    private long quarantineRetryMs = 60000;
+
+    private final AtomicLong journaled = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong quarantinedVotes = new AtomicLong();
+    private final Queue<List<JournalEntry>> quarantine = new ConcurrentLinkedQueue<>();
+
+    private VoteJournal journal;
+    private BlockingQueue<PendingVote> queue;
+    private BlockingQueue<List<JournalEntry>> unpersisted;
+    private Thread journalThread;
+    private Thread databaseThread;
+    private Timer forceTimer;
+    private Counter writeFailures;
+    private long lastQuarantineRetry;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        Path file = Paths.get(directory, JOURNAL_FILE);
+        if (ingestionMode != VoteIngestionModeEnum.JOURNAL) {
+            if (VoteJournal.exists(file)) {
+                try (VoteJournal leftover = VoteJournal.open(file, journalSizeBytes())) {
+                    replay(leftover);
+                }
+            }
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create vote journal directory " + file.getParent(), e);
+        }
+        journal = VoteJournal.open(file, journalSizeBytes());
+        replay(journal);
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        unpersisted = new LinkedBlockingQueue<>();
+        forceTimer = Timer.builder("voting.journal.force")
+            .description("Latency of each journal group fsync")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("voting.journal.unpersisted", this, ingestion -> ingestion.journaled.get() - ingestion.persisted.get())
+            .description("Journaled votes not yet written to the database")
+            .register(meterRegistry);
+        writeFailures = Counter.builder("voting.journal.write.failures")
+            .description("Failed attempts to copy a journaled vote group to the database")
+            .register(meterRegistry);
+        Gauge.builder("voting.journal.quarantined", quarantinedVotes, AtomicLong::get)
+            .description("Journaled votes held back after repeated database write failures")
+            .register(meterRegistry);
+
+        running = true;
+        journalThread = new Thread(this::journalLoop, "vote-journal");
+        journalThread.setDaemon(true);
+        journalThread.start();
+        databaseThread = new Thread(this::databaseLoop, "vote-journal-db");
+        databaseThread.setDaemon(true);
+        databaseThread.start();
+        log.info("Journaled vote ingestion started (journal={}, capacity={} votes)", file, journal.capacityInRecords());
+    }
+
+    public Long submit(PendingVote vote) {
+        if (!running) {
+            throw new IngestionOverloadException("Ingestão de votos indisponível no momento");
+        }
+
+        try {
+            if (!queue.offer(vote, submitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IngestionOverloadException("Fila de votos cheia, tente novamente em instantes");
+            }
+            return vote.getResult().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestionOverloadException("Registro do voto interrompido", e);
+        } catch (TimeoutException e) {
+            throw new IngestionOverloadException("Tempo esgotado aguardando a gravação do voto", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        journalThread.join(awaitTimeoutMs);
+        databaseThread.join(awaitTimeoutMs);
+        if (journaled.get() == persisted.get()) {
+            journal.reset();
+        }
+        journal.close();
+        log.info("Journaled vote ingestion stopped");
+    }
+
+    private void replay(VoteJournal source) {
+        List<JournalEntry> entries = source.entries();
+        if (!entries.isEmpty()) {
+            int inserted = 0;
+            for (int from = 0; from < entries.size(); from += groupSize) {
+                inserted += voteJournalWriter.write(entries.subList(from, Math.min(entries.size(), from + groupSize)),
+                    VoteIngestionMetrics.SOURCE_JOURNAL_REPLAY);
+            }
+            log.info("Replayed vote journal: {} entries, {} missing from the database", entries.size(), inserted);
+        }
+        source.reset();
+    }
+
+    private void journalLoop() {
+        List<PendingVote> group = new ArrayList<>(groupSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    checkpoint();
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, groupSize - 1);
+                awaitRoomFor(group.size());
+
+                int from = journal.position();
+                long[] ids = voteJournalWriter.nextVoteIds(group.size());
+                List<JournalEntry> entries = new ArrayList<>(group.size());
+                for (int i = 0; i < group.size(); i++) {
+                    PendingVote vote = group.get(i);
+                    JournalEntry entry = new JournalEntry(ids[i], vote.getVotingSessionId(),
+                        vote.getAssociateId(), vote.getValue(), vote.getVoteTime());
+                    journal.append(entry);
+                    entries.add(entry);
+                }
+                long start = System.nanoTime();
+                journal.force(from);
+                forceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                journaled.addAndGet(entries.size());
+                unpersisted.add(entries);
+                for (int i = 0; i < group.size(); i++) {
+                    group.get(i).complete(entries.get(i).voteId());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(vote -> vote.fail(new IngestionOverloadException("Ingestão de votos interrompida", e)));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error journaling vote group", e);
+                group.forEach(vote -> vote.fail(e));
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void awaitRoomFor(int records) throws InterruptedException {
+        while (!journal.hasRoomFor(records)) {
+            long pending = journaled.get() - persisted.get();
+            if (pending == 0) {
+                journal.reset();
+                return;
+            }
+            if (pending == quarantinedVotes.get()) {
+                throw new IngestionOverloadException("Journal de votos cheio, tente novamente em instantes");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private void checkpoint() {
+        if (!journal.isEmpty() && journaled.get() == persisted.get()) {
+            journal.reset();
+        }
+    }
+
+    private void databaseLoop() {
+        while (running || journalThread.isAlive() || !unpersisted.isEmpty()) {
+            List<JournalEntry> entries;
+            try {
+                entries = unpersisted.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            retryQuarantine();
+            if (entries == null) {
+                continue;
+            }
+            for (int attempt = 1; ; attempt++) {
+                if (persist(entries)) {
+                    break;
+                }
+                if (attempt >= maxWriteAttempts) {
+                    quarantine.add(entries);
+                    quarantinedVotes.addAndGet(entries.size());
+                    lastQuarantineRetry = System.currentTimeMillis();
+                    log.error("Quarantined {} journaled votes (ids {} to {}) after {} failed attempts; they stay in the journal",
+                        entries.size(), entries.get(0).voteId(), entries.get(entries.size() - 1).voteId(), attempt);
+                    break;
+                }
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean persist(List<JournalEntry> entries) {
+        try {
+            int inserted = voteJournalWriter.write(entries, VoteIngestionMetrics.SOURCE_JOURNAL);
+            if (inserted < entries.size()) {
+                log.warn("{} of {} journaled votes were already in the database", entries.size() - inserted, entries.size());
+            }
+            persisted.addAndGet(entries.size());
+            return true;
+        } catch (RuntimeException e) {
+            writeFailures.increment();
+            log.error("Error copying {} journaled votes to the database", entries.size(), e);
+            return false;
+        }
+    }
+
+    private void retryQuarantine() {
+        long now = System.currentTimeMillis();
+        if (quarantine.isEmpty() || now - lastQuarantineRetry < quarantineRetryMs) {
+            return;
+        }
+        lastQuarantineRetry = now;
+        for (int i = quarantine.size(); i > 0; i--) {
+            List<JournalEntry> entries = quarantine.poll();
+            if (persist(entries)) {
+                quarantinedVotes.addAndGet(-entries.size());
+                log.info("Copied {} quarantined journaled votes to the database", entries.size());
+            } else {
+                quarantine.add(entries);
+            }
+        }
+    }
+
+    private int journalSizeBytes() {
+        return sizeMb * 1024 * 1024;
+    }
+}
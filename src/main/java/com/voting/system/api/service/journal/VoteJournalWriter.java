@@ -0,0 +1,70 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.constants.TableConstants;
+import com.voting.system.api.service.ingestion.VoteIngestionMetrics;
+import com.voting.system.api.service.tally.VoteTallyEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class VoteJournalWriter {
+
+    private static final String INSERT_JOURNALED_VOTE_SQL = "INSERT INTO " + TableConstants.TABLE_VOTE
+        + " (id, id_voting_session, id_associate, ck_vote_value, dt_vote_time) SELECT ?, ?, ?, ?, ? FROM DUAL"
+        + " WHERE NOT EXISTS (SELECT 1 FROM " + TableConstants.TABLE_VOTE
+        + " WHERE id = ? OR (id_voting_session = ? AND id_associate = ?))";
+
+    private static final String NEXT_VOTE_ID_BLOCK_SQL = "SELECT NEXT VALUE FOR " + TableConstants.SEQ_VOTE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteTallyEngine voteTallyEngine;
+    private final VoteIngestionMetrics voteIngestionMetrics;
+
+    /**
+     * Reserves vote ids the way the pooled-lo optimizer does: every sequence value starts a
+     * block of {@link TableConstants#ID_ALLOCATION_SIZE} ids, so journaled votes never share
+     * an id with votes inserted through Hibernate.
+     */
+    public long[] nextVoteIds(int count) {
+        long[] ids = new long[count];
+        int assigned = 0;
+        while (assigned < count) {
+            Long blockStart = jdbcTemplate.queryForObject(NEXT_VOTE_ID_BLOCK_SQL, Long.class);
+            for (int i = 0; i < TableConstants.ID_ALLOCATION_SIZE && assigned < count; i++) {
+                ids[assigned++] = blockStart + i;
+            }
+        }
+        return ids;
+    }
+
+    public int write(List<JournalEntry> entries, String source) {
+        long start = System.nanoTime();
+        int[][] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+            INSERT_JOURNALED_VOTE_SQL, entries, entries.size(), (statement, entry) -> {
+                statement.setLong(1, entry.voteId());
+                statement.setLong(2, entry.votingSessionId());
+                statement.setLong(3, entry.associateId());
+                statement.setString(4, entry.value().name());
+                statement.setObject(5, entry.voteTime());
+                statement.setLong(6, entry.voteId());
+                statement.setLong(7, entry.votingSessionId());
+                statement.setLong(8, entry.associateId());
+            }));
+
+        int inserted = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            if (counts[0][i] > 0) {
+                voteTallyEngine.record(entries.get(i).votingSessionId(), entries.get(i).value());
+                inserted++;
+            }
+        }
+        voteIngestionMetrics.recordCommit(source, inserted, System.nanoTime() - start);
+        return inserted;
+    }
+}
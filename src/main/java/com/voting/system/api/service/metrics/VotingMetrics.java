@@ -0,0 +1,86 @@
+package com.voting.system.api.service.metrics;
+
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class VotingMetrics {
+
+    public static final String VOTE_ACCEPTED = "accepted";
+    public static final String VOTE_REJECTED = "rejected";
+    public static final String VOTE_ERROR = "error";
+    public static final String RESULT_TALLY = "tally";
+    public static final String RESULT_DATABASE = "database";
+    public static final String CPF_VALID = "valid";
+    public static final String CPF_INVALID = "invalid";
+    public static final String CPF_FALLBACK = "fallback";
+    public static final String SWEEP_COMPLETED = "completed";
+    public static final String SWEEP_FAILED = "failed";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<VoteRejectionReasonEnum, Counter> rejections = new ConcurrentHashMap<>();
+    private final Map<String, Counter> expirations = new ConcurrentHashMap<>();
+
+    public void recordVote(String outcome, long elapsedNanos) {
+        timer("voting.vote", "Latency of casting a single vote", "outcome", outcome)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejection(VoteRejectionReasonEnum reason) {
+        if (reason == null) {
+            return;
+        }
+        rejections.computeIfAbsent(reason, key -> Counter.builder("voting.votes.rejected")
+                .description("Votes rejected, by reason")
+                .tag("reason", key.name().toLowerCase())
+                .register(meterRegistry))
+            .increment();
+    }
+
+    public void recordResult(String source, long elapsedNanos) {
+        timer("voting.result", "Latency of computing a voting result", "source", source)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCpfValidation(String outcome, long elapsedNanos) {
+        timer("voting.cpf.validation", "Latency of validating a CPF not found in the cache", "outcome", outcome)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordExpirationSweep(String outcome, int closedSessions, long elapsedNanos) {
+        timer("voting.sessions.expiration", "Latency of each expired voting session sweep", "outcome", outcome)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        expiredSessions("poll").increment(closedSessions);
+    }
+
+    public void recordSessionExpired(long lateNanos) {
+        timer("voting.sessions.expiration.delay", "Time between a voting session's end time and its closing")
+            .record(Math.max(0, lateNanos), TimeUnit.NANOSECONDS);
+        expiredSessions("timer").increment();
+    }
+
+    private Counter expiredSessions(String trigger) {
+        return expirations.computeIfAbsent(trigger, key -> Counter.builder("voting.sessions.expired")
+            .description("Voting sessions closed because their time ran out")
+            .tag("trigger", key)
+            .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return timers.computeIfAbsent(name + ':' + String.join(":", tags), key -> Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,46 @@
+package com.voting.system.api.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page, exchanged with clients as an opaque
+ * base64url token. Listings ordered only by id leave {@code timestamp} null.
+ */
+public record KeysetCursor(OffsetDateTime timestamp, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(OffsetDateTime timestamp, long id) {
+        return new KeysetCursor(timestamp, id);
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.parseLong(value));
+            }
+            Instant instant = Instant.parse(value.substring(0, separator));
+            return of(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + token);
+        }
+    }
+
+    public String encode() {
+        String value = timestamp == null
+            ? Long.toString(id)
+            : timestamp.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
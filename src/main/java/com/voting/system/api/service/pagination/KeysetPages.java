@@ -0,0 +1,32 @@
+package com.voting.system.api.service.pagination;
+
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class KeysetPages {
+
+    public static final int MAX_SIZE = 200;
+
+    private KeysetPages() {
+    }
+
+    public static int size(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    public static Pageable probe(int size) {
+        return PageRequest.ofSize(size + 1);
+    }
+
+    public static <E, T> CursorPageDTO<T> of(List<E> rows, int size, Function<E, KeysetCursor> cursor,
+                                             Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursor.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageDTO<>(page.stream().map(mapper).toList(), page.size(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,63 @@
+package com.voting.system.api.service.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory cache of listing totals served with {@code count=CACHED}. A total
+ * may be up to {@code ttl-seconds} stale; the least recently used key is evicted once
+ * {@code max-entries} is reached. Counting runs outside the lock, so concurrent misses
+ * on the same key may count twice.
+ */
+@Component
+public class ListingCountCache {
+
+    @Value("${voting.listing-count.max-entries:1000}")
+    private int maxEntries = 1000;
+
+    @Value("${voting.listing-count.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public long count(String key, LongSupplier counter) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired()) {
+                return entry.total();
+            }
+        }
+        long total = counter.getAsLong();
+        synchronized (this) {
+            entries.put(key, new Entry(total, System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        return total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${voting.listing-count.cleanup-interval-ms:60000}")
+    public synchronized void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    private record Entry(long total, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
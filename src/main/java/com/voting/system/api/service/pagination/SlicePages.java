@@ -0,0 +1,19 @@
+package com.voting.system.api.service.pagination;
+
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.LongSupplier;
+
+public final class SlicePages {
+
+    private SlicePages() {
+    }
+
+    public static <T> SliceDTO<T> of(Slice<T> slice, PageCountModeEnum count, ListingCountCache listingCountCache,
+                                     String countKey, LongSupplier counter) {
+        Long total = count == PageCountModeEnum.CACHED ? listingCountCache.count(countKey, counter) : null;
+        return new SliceDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+}
@@ -0,0 +1,146 @@
+package com.voting.system.api.service.session;
+
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.VotingSessionRepository;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import com.voting.system.api.service.voted.VotedAssociateIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes each started voting session at its end time instead of waiting for the next
+ * expiration poll. Sessions wait in a {@link DelayQueue} ordered by end time and a
+ * single thread closes them as they come due. The queue is rebuilt from ACTIVE rows at
+ * startup; the poll in {@code ScheduledTaskService} only catches what this misses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VotingSessionExpirationScheduler {
+
+    private final VotingSessionRepository votingSessionRepository;
+    private final VotingSessionStateCache votingSessionStateCache;
+    private final VotedAssociateIndex votedAssociateIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final VotingMetrics votingMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scheduling.session.exact-expiration.enabled:true}")
+    private boolean enabled = true;
+
+    private final DelayQueue<Expiration> expirations = new DelayQueue<>();
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE).forEach(this::schedule);
+        Gauge.builder("voting.sessions.expiration.pending", expirations, DelayQueue::size)
+            .description("Active voting sessions waiting for their end time")
+            .register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::expireLoop, "voting-session-expiration");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Voting session expiration scheduler started with {} active sessions", expirations.size());
+    }
+
+    public void scheduleAfterCommit(VotingSession session) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(session);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(session);
+            }
+        });
+    }
+
+    private void schedule(VotingSession session) {
+        if (enabled && session.getEndTime() != null) {
+            expirations.add(new Expiration(session.getId(), session.getEndTime()));
+        }
+    }
+
+    private void expireLoop() {
+        while (running) {
+            Expiration expiration;
+            try {
+                expiration = expirations.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                expire(expiration);
+            } catch (RuntimeException e) {
+                log.error("Error closing expired voting session {}, leaving it to the expiration poll",
+                    expiration.votingSessionId(), e);
+            }
+        }
+    }
+
+    private void expire(Expiration expiration) {
+        Boolean closed = transactionTemplate.execute(status -> votingSessionRepository.findById(expiration.votingSessionId())
+            .filter(session -> session.getStatus() == VotingSessionStatusEnum.ACTIVE)
+            .map(session -> {
+                session.setStatus(VotingSessionStatusEnum.CLOSED);
+                votingSessionStateCache.putAfterCommit(votingSessionRepository.save(session));
+                votedAssociateIndex.evictAfterCommit(session.getId());
+                return true;
+            })
+            .orElse(false));
+
+        if (Boolean.TRUE.equals(closed)) {
+            votingMetrics.recordSessionExpired(-expiration.getDelay(TimeUnit.NANOSECONDS));
+            log.info("Closed voting session {} at its end time", expiration.votingSessionId());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private record Expiration(Long votingSessionId, OffsetDateTime endTime) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), endTime.toInstant()));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return endTime.compareTo(((Expiration) other).endTime);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.voting.system.api.service.session;
+
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+
+import java.time.OffsetDateTime;
+
+public record VotingSessionState(Long votingSessionId, Long agendaId, VotingSessionStatusEnum status, OffsetDateTime endTime) {
+
+    public static VotingSessionState of(VotingSession session) {
+        return new VotingSessionState(session.getId(), session.getAgenda().getId(), session.getStatus(), session.getEndTime());
+    }
+}
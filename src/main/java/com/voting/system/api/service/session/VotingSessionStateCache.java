@@ -0,0 +1,107 @@
+package com.voting.system.api.service.session;
+
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.VotingSessionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps status, end time and agenda of active voting sessions in memory so the
+ * vote path can accept or reject a vote without reading {@code voting_session}.
+ * PENDING sessions are never cached because they change when started. Sessions
+ * closed on this node move to a bounded tombstone map, so late votes and live
+ * result streams see the close; closed sessions read on a miss are not cached.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VotingSessionStateCache {
+
+    private final VotingSessionRepository votingSessionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${voting.session-state.closed-max-entries:1024}")
+    private int closedMaxEntries = 1024;
+
+    private final ConcurrentMap<Long, VotingSessionState> states = new ConcurrentHashMap<>();
+    private final Map<Long, VotingSessionState> closed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, VotingSessionState> eldest) {
+            return size() > closedMaxEntries;
+        }
+    });
+
+    @PostConstruct
+    public void load() {
+        states.clear();
+        votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE)
+            .forEach(session -> states.put(session.getId(), VotingSessionState.of(session)));
+        log.info("Voting session state cache loaded with {} active sessions", states.size());
+
+        Gauge.builder("voting.sessions.active", states, Map::size)
+            .description("Voting sessions currently open for votes")
+            .register(meterRegistry);
+    }
+
+    public Optional<VotingSessionState> find(Long votingSessionId) {
+        VotingSessionState state = states.get(votingSessionId);
+        return Optional.ofNullable(state != null ? state : closed.get(votingSessionId));
+    }
+
+    public VotingSessionState remember(VotingSession session) {
+        VotingSessionState state = VotingSessionState.of(session);
+        VotingSessionState closedState = closed.get(state.votingSessionId());
+        if (closedState != null) {
+            return closedState;
+        }
+        if (state.status() != VotingSessionStatusEnum.ACTIVE) {
+            return state;
+        }
+        VotingSessionState current = states.putIfAbsent(state.votingSessionId(), state);
+        return current != null ? current : state;
+    }
+
+    public void putAfterCommit(VotingSession session) {
+        VotingSessionState state = VotingSessionState.of(session);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(state);
+            return;
+        }
+        states.remove(state.votingSessionId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(state);
+            }
+        });
+    }
+
+    private void put(VotingSessionState state) {
+        if (state.status() == VotingSessionStatusEnum.ACTIVE) {
+            closed.remove(state.votingSessionId());
+            states.put(state.votingSessionId(), state);
+            return;
+        }
+        states.remove(state.votingSessionId());
+        if (state.status() == VotingSessionStatusEnum.CLOSED) {
+            closed.put(state.votingSessionId(), state);
+        } else {
+            closed.remove(state.votingSessionId());
+        }
+    }
+}
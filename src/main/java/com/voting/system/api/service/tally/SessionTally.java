@@ -0,0 +1,72 @@
+package com.voting.system.api.service.tally;
+
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.entity.VoteValue;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SessionTally {
+
+    @Getter
+    private final Long votingSessionId;
+
+    @Getter
+    private final Long agendaId;
+
+    @Getter
+    private volatile String agendaTitle;
+
+    private volatile OffsetDateTime agendaVersion;
+
+    private final LongAdder yesVotes = new LongAdder();
+    private final LongAdder noVotes = new LongAdder();
+
+    public SessionTally(Long votingSessionId, Long agendaId, String agendaTitle, OffsetDateTime agendaVersion) {
+        this.votingSessionId = votingSessionId;
+        this.agendaId = agendaId;
+        this.agendaTitle = agendaTitle;
+        this.agendaVersion = agendaVersion;
+    }
+
+    public void add(VoteValue value, long amount) {
+        if (value == VoteValue.YES) {
+            yesVotes.add(amount);
+        } else if (value == VoteValue.NO) {
+            noVotes.add(amount);
+        }
+    }
+
+    public void record(VoteValue value) {
+        add(value, 1L);
+    }
+
+    void rename(String agendaTitle, OffsetDateTime agendaVersion) {
+        this.agendaVersion = agendaVersion;
+        this.agendaTitle = agendaTitle;
+    }
+
+    public String version() {
+        return "result-" + votingSessionId + "-" + yesVotes.sum() + "-" + noVotes.sum()
+            + "-" + agendaVersion.toEpochSecond() + "." + agendaVersion.getNano();
+    }
+
+    public VotingResultDTO toResult() {
+        long yes = yesVotes.sum();
+        long no = noVotes.sum();
+
+        String result = yes > no ? "APROVADA" :
+                       no > yes ? "REJEITADA" : "EMPATE";
+
+        return new VotingResultDTO(
+            agendaId,
+            agendaTitle,
+            votingSessionId,
+            yes + no,
+            yes,
+            no,
+            result
+        );
+    }
+}
@@ -0,0 +1,191 @@
+package com.voting.system.api.service.tally;
+
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.VoteRepository;
+import com.voting.system.api.repository.VotingSessionRepository;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the YES/NO counters of every started voting session in memory so that
+ * results can be served without querying the {@code vote} table. A vote recorded
+ * while its session has no tally marks the session as missed; a tally installed
+ * without that vote is dropped again, so the next read recounts from the table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyEngine {
+
+    private final VoteRepository voteRepository;
+    private final VotingSessionRepository votingSessionRepository;
+    private final VotingMetrics votingMetrics;
+
+    private final ConcurrentMap<Long, SessionTally> tallies = new ConcurrentHashMap<>();
+    private final Set<Long> missedVotes = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void rebuild() {
+        tallies.clear();
+        missedVotes.clear();
+
+        votingSessionRepository.findStartedSessions().forEach(session ->
+            tallies.put(session.getId(), newTally(session)));
+
+        for (Object[] row : voteRepository.countVotesGroupedBySessionAndValue()) {
+            SessionTally tally = tallies.get((Long) row[0]);
+            if (tally != null) {
+                tally.add((VoteValue) row[1], (Long) row[2]);
+            }
+        }
+
+        log.info("Vote tally rebuilt for {} voting sessions", tallies.size());
+    }
+
+    public Optional<VotingResultDTO> findResult(Long votingSessionId) {
+        long start = System.nanoTime();
+        SessionTally tally = tallies.get(votingSessionId);
+        if (tally == null) {
+            return Optional.empty();
+        }
+        VotingResultDTO result = tally.toResult();
+        votingMetrics.recordResult(VotingMetrics.RESULT_TALLY, System.nanoTime() - start);
+        return Optional.of(result);
+    }
+
+    public Optional<String> findVersion(Long votingSessionId) {
+        SessionTally tally = tallies.get(votingSessionId);
+        return tally != null ? Optional.of(tally.version()) : Optional.empty();
+    }
+
+    public void registerAfterCommit(VotingSession session) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(session);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(session);
+            }
+        });
+    }
+
+    public void register(VotingSession session) {
+        install(newTally(session));
+    }
+
+    public VotingResultDTO load(VotingSession session) {
+        long start = System.nanoTime();
+        boolean tracked = tallies.containsKey(session.getId());
+        VotingResultDTO result = loadTally(session).toResult();
+        votingMetrics.recordResult(tracked ? VotingMetrics.RESULT_TALLY : VotingMetrics.RESULT_DATABASE,
+            System.nanoTime() - start);
+        return result;
+    }
+
+    public String loadVersion(VotingSession session) {
+        return loadTally(session).version();
+    }
+
+    private SessionTally loadTally(VotingSession session) {
+        SessionTally tally = tallies.get(session.getId());
+        if (tally != null) {
+            return tally;
+        }
+
+        // Votes missed before this point committed before the count below, so it includes them
+        missedVotes.remove(session.getId());
+        SessionTally loaded = newTally(session);
+        for (Object[] row : voteRepository.countVotesByValueForSession(session.getId())) {
+            loaded.add((VoteValue) row[0], (Long) row[1]);
+        }
+
+        return session.getStatus() == VotingSessionStatusEnum.PENDING ? loaded : install(loaded);
+    }
+
+    private SessionTally install(SessionTally tally) {
+        Long votingSessionId = tally.getVotingSessionId();
+        SessionTally current = tallies.putIfAbsent(votingSessionId, tally);
+        if (current != null) {
+            return current;
+        }
+        if (missedVotes.contains(votingSessionId)) {
+            tallies.remove(votingSessionId, tally);
+            log.debug("Vote tally of voting session {} missed a vote while loading, it will be recounted", votingSessionId);
+        }
+        return tally;
+    }
+
+    public void recordAfterCommit(Long votingSessionId, VoteValue value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(votingSessionId, value);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(votingSessionId, value);
+            }
+        });
+    }
+
+    public void record(Long votingSessionId, VoteValue value) {
+        SessionTally tally = tallies.get(votingSessionId);
+        if (tally == null) {
+            missedVotes.add(votingSessionId);
+            log.debug("Vote for untracked voting session {} will be counted on next load", votingSessionId);
+            return;
+        }
+        tally.record(value);
+    }
+
+    public void renameAgendaAfterCommit(Agenda agenda) {
+        Long agendaId = agenda.getId();
+        String title = agenda.getTitle();
+        OffsetDateTime agendaVersion = agendaVersion(agenda);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            renameAgenda(agendaId, title, agendaVersion);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                renameAgenda(agendaId, title, agendaVersion);
+            }
+        });
+    }
+
+    private void renameAgenda(Long agendaId, String title, OffsetDateTime agendaVersion) {
+        tallies.values().stream()
+            .filter(tally -> tally.getAgendaId().equals(agendaId))
+            .forEach(tally -> tally.rename(title, agendaVersion));
+    }
+
+    private SessionTally newTally(VotingSession session) {
+        Agenda agenda = session.getAgenda();
+        return new SessionTally(session.getId(), agenda.getId(), agenda.getTitle(), agendaVersion(agenda));
+    }
+
+    private static OffsetDateTime agendaVersion(Agenda agenda) {
+        return agenda.getDtUpdated() != null ? agenda.getDtUpdated() : agenda.getDtCreated();
+    }
+}
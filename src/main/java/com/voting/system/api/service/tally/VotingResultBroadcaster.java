@@ -0,0 +1,277 @@
+package com.voting.system.api.service.tally;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.service.session.VotingSessionState;
+import com.voting.system.api.service.session.VotingSessionStateCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes live voting results to Server-Sent Events subscribers. A single producer
+ * thread samples the in-memory tally of every watched session at most once per
+ * push interval, serializes a changed result once and fans it out to all of the
+ * session's emitters, so the cost does not grow with the number of watchers.
+ * Writes are handed to a bounded sender pool, one ordered queue per subscriber, and
+ * a subscriber whose queue backs up is dropped instead of stalling everyone else.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VotingResultBroadcaster {
+
+    static final String RESULT_EVENT = "result";
+
+    private static final SseEmitter.SseEventBuilder COMPLETE = SseEmitter.event();
+    private static final SseEmitter.SseEventBuilder DROPPED = SseEmitter.event();
+
+    private final VoteTallyEngine voteTallyEngine;
+    private final VotingSessionStateCache votingSessionStateCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${voting.result-stream.push-interval-ms:500}")
+    private long pushIntervalMs = 500;
+
+    @Value("${voting.result-stream.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs = 15000;
+
+    @Value("${voting.result-stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs = 1800000;
+
+    @Value("${voting.result-stream.sender-threads:4}")
+    private int senderThreads = 4;
+
+    @Value("${voting.result-stream.sender-queue-capacity:10000}")
+    private int senderQueueCapacity = 10000;
+
+    @Value("${voting.result-stream.max-pending-events:8}")
+    private int maxPendingEvents = 8;
+
+    private final ConcurrentMap<Long, SessionStream> streams = new ConcurrentHashMap<>();
+    private ScheduledExecutorService producer;
+    private Executor sender;
+
+    @PostConstruct
+    public void start() {
+        producer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voting-result-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderCount = new AtomicInteger();
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(senderQueueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "voting-result-sender-" + senderCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        producer.scheduleWithFixedDelay(this::broadcast, pushIntervalMs, pushIntervalMs, TimeUnit.MILLISECONDS);
+        Gauge.builder("voting.result-stream.subscribers", streams,
+                sessions -> sessions.values().stream().mapToInt(stream -> stream.subscribers.size()).sum())
+            .description("Clients subscribed to live voting results")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long votingSessionId, VotingResultDTO current) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        register(votingSessionId, emitter, current);
+        return emitter;
+    }
+
+    void register(Long votingSessionId, SseEmitter emitter, VotingResultDTO current) {
+        try {
+            emitter.send(resultEvent(current, serialize(current)));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return;
+        }
+
+        Subscriber subscriber = new Subscriber(emitter);
+        SessionStream stream = streams.compute(votingSessionId, (id, existing) -> {
+            SessionStream target = existing != null ? existing : new SessionStream(id, current);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> stream.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> stream.subscribers.remove(subscriber));
+        emitter.onError(error -> stream.subscribers.remove(subscriber));
+    }
+
+    void broadcast() {
+        long now = System.currentTimeMillis();
+        for (SessionStream stream : streams.values()) {
+            try {
+                broadcast(stream, now);
+            } catch (RuntimeException e) {
+                log.error("Error pushing live result of voting session {}", stream.votingSessionId, e);
+            }
+        }
+    }
+
+    private void broadcast(SessionStream stream, long now) {
+        if (streams.computeIfPresent(stream.votingSessionId,
+                (id, existing) -> existing.subscribers.isEmpty() ? null : existing) == null) {
+            return;
+        }
+
+        boolean closed = votingSessionStateCache.find(stream.votingSessionId)
+            .map(VotingSessionState::status)
+            .filter(status -> status == VotingSessionStatusEnum.CLOSED)
+            .isPresent();
+        VotingResultDTO result = voteTallyEngine.findResult(stream.votingSessionId).orElse(null);
+
+        if (result != null && !result.equals(stream.lastResult)) {
+            String data = serialize(result);
+            stream.lastResult = result;
+            stream.lastPushAt = now;
+            stream.subscribers.forEach(subscriber -> enqueue(stream, subscriber, resultEvent(result, data)));
+        } else if (now - stream.lastPushAt >= heartbeatIntervalMs) {
+            stream.lastPushAt = now;
+            stream.subscribers.forEach(subscriber -> enqueue(stream, subscriber, SseEmitter.event().comment("heartbeat")));
+        }
+
+        if (closed) {
+            // Completing inside compute keeps register() from joining a stream that is being removed
+            streams.computeIfPresent(stream.votingSessionId, (id, existing) -> {
+                existing.subscribers.forEach(subscriber -> enqueue(existing, subscriber, COMPLETE));
+                return null;
+            });
+        }
+    }
+
+    private void enqueue(SessionStream stream, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.dropped) {
+            return;
+        }
+        subscriber.events.add(event);
+        int pending = subscriber.pending.incrementAndGet();
+        if (pending > maxPendingEvents) {
+            drop(stream, subscriber, "more than " + maxPendingEvents + " events pending");
+        } else if (pending == 1) {
+            try {
+                sender.execute(() -> drain(stream, subscriber));
+            } catch (RejectedExecutionException e) {
+                drop(stream, subscriber, "sender queue is full");
+                drain(stream, subscriber);
+            }
+        }
+    }
+
+    private void drain(SessionStream stream, Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event = subscriber.events.poll();
+            if (event == DROPPED) {
+                subscriber.emitter.completeWithError(new IOException("Live result subscriber is not keeping up"));
+            } else if (event != null && !subscriber.dropped) {
+                deliver(stream, subscriber, event);
+            }
+        } while (subscriber.pending.decrementAndGet() > 0);
+    }
+
+    private void deliver(SessionStream stream, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            if (event == COMPLETE) {
+                subscriber.emitter.complete();
+            } else {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriber.dropped = true;
+            stream.subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Marks a subscriber as dropped without touching its emitter: a sender thread may be
+     * blocked writing to it, so the drain that owns the emitter completes it instead.
+     */
+    private void drop(SessionStream stream, Subscriber subscriber, String reason) {
+        subscriber.dropped = true;
+        if (!stream.subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.events.clear();
+        subscriber.events.add(DROPPED);
+        meterRegistry.counter("voting.result-stream.dropped").increment();
+        log.warn("Dropped live result subscriber of voting session {}: {}", stream.votingSessionId, reason);
+    }
+
+    private SseEmitter.SseEventBuilder resultEvent(VotingResultDTO result, String data) {
+        return SseEmitter.event()
+            .name(RESULT_EVENT)
+            .id(String.valueOf(result.getTotalVotes()))
+            .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private String serialize(VotingResultDTO result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        producer.shutdownNow();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        streams.values().forEach(stream -> stream.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        streams.clear();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class SessionStream {
+
+        private final Long votingSessionId;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile VotingResultDTO lastResult;
+        private long lastPushAt = System.currentTimeMillis();
+
+        private SessionStream(Long votingSessionId, VotingResultDTO lastResult) {
+            this.votingSessionId = votingSessionId;
+            this.lastResult = lastResult;
+        }
+    }
+}
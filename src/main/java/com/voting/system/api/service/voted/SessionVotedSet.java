@@ -0,0 +1,174 @@
+package com.voting.system.api.service.voted;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class SessionVotedSet implements Closeable {
+
+    private static final int MAGIC = 0x56534554;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SESSION_OFFSET = 8;
+    private static final int CLEAN_OFFSET = 16;
+    private static final int HEADER_BYTES = 32;
+    private static final int MIN_WORDS = 1024;
+
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final long votingSessionId;
+    private final FileChannel channel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer buffer;
+    private int words;
+
+    private SessionVotedSet(long votingSessionId, FileChannel channel, MappedByteBuffer buffer) {
+        this.votingSessionId = votingSessionId;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.words = (buffer.capacity() - HEADER_BYTES) / Long.BYTES;
+    }
+
+    static SessionVotedSet open(Path file, long votingSessionId) {
+        try {
+            FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), HEADER_BYTES + (long) MIN_WORDS * Long.BYTES);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.nativeOrder());
+            return new SessionVotedSet(votingSessionId, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map voted set " + file, e);
+        }
+    }
+
+    static boolean exists(Path file) {
+        return Files.exists(file);
+    }
+
+    boolean isCleanFor(long expectedSessionId) {
+        return buffer.getInt(MAGIC_OFFSET) == MAGIC
+            && buffer.getInt(VERSION_OFFSET) == VERSION
+            && buffer.getLong(SESSION_OFFSET) == expectedSessionId
+            && buffer.getInt(CLEAN_OFFSET) == 1;
+    }
+
+    void markDirty() {
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putLong(SESSION_OFFSET, votingSessionId);
+        buffer.putInt(CLEAN_OFFSET, 0);
+        buffer.force();
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < words; i++) {
+                buffer.putLong(wordOffset(i), 0L);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean contains(long associateId) {
+        int word = (int) (associateId >>> 6);
+        long mask = 1L << associateId;
+        lock.readLock().lock();
+        try {
+            return word < words && ((long) WORDS.getVolatile(buffer, wordOffset(word)) & mask) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean add(long associateId) {
+        int word = (int) (associateId >>> 6);
+        ensureCapacity(word);
+        long mask = 1L << associateId;
+        lock.readLock().lock();
+        try {
+            int offset = wordOffset(word);
+            long current;
+            do {
+                current = (long) WORDS.getVolatile(buffer, offset);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+            } while (!WORDS.compareAndSet(buffer, offset, current, current | mask));
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void remove(long associateId) {
+        int word = (int) (associateId >>> 6);
+        long mask = 1L << associateId;
+        lock.readLock().lock();
+        try {
+            if (word >= words) {
+                return;
+            }
+            int offset = wordOffset(word);
+            long current;
+            do {
+                current = (long) WORDS.getVolatile(buffer, offset);
+            } while ((current & mask) != 0 && !WORDS.compareAndSet(buffer, offset, current, current & ~mask));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            buffer.putInt(CLEAN_OFFSET, 1);
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close voted set of session " + votingSessionId, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int word) {
+        if (word < words) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (word < words) {
+                return;
+            }
+            int newWords = Math.max(words * 2, Integer.highestOneBit(word) << 1);
+            buffer.force();
+            MappedByteBuffer grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) newWords * Long.BYTES);
+            grown.order(ByteOrder.nativeOrder());
+            buffer = grown;
+            words = newWords;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not grow voted set of session " + votingSessionId, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int wordOffset(int word) {
+        return HEADER_BYTES + word * Long.BYTES;
+    }
+}
@@ -0,0 +1,114 @@
+package com.voting.system.api.service.voted;
+
+import com.voting.system.api.repository.VoteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VotedAssociateIndex {
+
+    private final VoteRepository voteRepository;
+    private final Map<Long, SessionVotedSet> sets = new ConcurrentHashMap<>();
+
+    @Value("${voting.voted-index.directory:./data/voted-index}")
+    private String directory = "./data/voted-index";
+
+    public boolean hasVoted(Long votingSessionId, Long associateId) {
+        if (associateId < 0) {
+            return false;
+        }
+        SessionVotedSet set = sets.get(votingSessionId);
+        if (set == null) {
+            if (!SessionVotedSet.exists(file(votingSessionId))) {
+                return voteRepository.existsByVotingSessionIdAndAssociateId(votingSessionId, associateId);
+            }
+            set = set(votingSessionId);
+        }
+        return set.contains(associateId);
+    }
+
+    public boolean claim(Long votingSessionId, Long associateId) {
+        return set(votingSessionId).add(associateId);
+    }
+
+    public void release(Long votingSessionId, Long associateId) {
+        set(votingSessionId).remove(associateId);
+    }
+
+    /**
+     * Unmaps the set of a voting session once the transaction that closed it commits and
+     * deletes its file. A closed session takes no more votes, so {@link #hasVoted} answers
+     * from the database from then on.
+     */
+    public void evictAfterCommit(Long votingSessionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(votingSessionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(votingSessionId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        sets.values().forEach(SessionVotedSet::close);
+        sets.clear();
+    }
+
+    private void evict(Long votingSessionId) {
+        SessionVotedSet set = sets.remove(votingSessionId);
+        if (set != null) {
+            set.close();
+        }
+        try {
+            Files.deleteIfExists(file(votingSessionId));
+        } catch (IOException e) {
+            log.warn("Could not delete voted index of closed session {}", votingSessionId, e);
+        }
+    }
+
+    private SessionVotedSet set(Long votingSessionId) {
+        return sets.computeIfAbsent(votingSessionId, this::open);
+    }
+
+    private SessionVotedSet open(Long votingSessionId) {
+        Path file = file(votingSessionId);
+        try {
+            Files.createDirectories(file.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create voted index directory " + file.getParent(), e);
+        }
+
+        SessionVotedSet set = SessionVotedSet.open(file, votingSessionId);
+        if (!set.isCleanFor(votingSessionId)) {
+            log.info("Rebuilding voted index of session {} from the database", votingSessionId);
+            set.clear();
+            voteRepository.findAssociateIdsByVotingSessionId(votingSessionId).forEach(set::add);
+        }
+        set.markDirty();
+        return set;
+    }
+
+    private Path file(Long votingSessionId) {
+        return Paths.get(directory, "session-" + votingSessionId + ".bits");
+    }
+}
@@ -0,0 +1,33 @@
+--liquibase formatted sql
+
+--changeset TASK-22:1
+CREATE SEQUENCE seq_agenda START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE seq_agenda RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM agenda);
+ALTER TABLE agenda ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE agenda ALTER COLUMN id SET DEFAULT NEXT VALUE FOR seq_agenda;
+--rollback ALTER TABLE agenda ALTER COLUMN id DROP DEFAULT;
+--rollback DROP SEQUENCE seq_agenda;
+
+--changeset TASK-22:2
+CREATE SEQUENCE seq_associate START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE seq_associate RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM associate);
+ALTER TABLE associate ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE associate ALTER COLUMN id SET DEFAULT NEXT VALUE FOR seq_associate;
+--rollback ALTER TABLE associate ALTER COLUMN id DROP DEFAULT;
+--rollback DROP SEQUENCE seq_associate;
+
+--changeset TASK-22:3
+CREATE SEQUENCE seq_voting_session START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE seq_voting_session RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM voting_session);
+ALTER TABLE voting_session ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE voting_session ALTER COLUMN id SET DEFAULT NEXT VALUE FOR seq_voting_session;
+--rollback ALTER TABLE voting_session ALTER COLUMN id DROP DEFAULT;
+--rollback DROP SEQUENCE seq_voting_session;
+
+--changeset TASK-22:4
+CREATE SEQUENCE seq_vote START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE seq_vote RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM vote);
+ALTER TABLE vote ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE vote ALTER COLUMN id SET DEFAULT NEXT VALUE FOR seq_vote;
+--rollback ALTER TABLE vote ALTER COLUMN id DROP DEFAULT;
+--rollback DROP SEQUENCE seq_vote;
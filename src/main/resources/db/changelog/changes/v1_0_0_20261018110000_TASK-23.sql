@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset TASK-23:1
+CREATE INDEX idx_vote_session_time_id ON vote (id_voting_session, dt_vote_time DESC, id DESC);
+--rollback DROP INDEX idx_vote_session_time_id;
+
+--changeset TASK-23:2
+CREATE INDEX idx_voting_session_status_id ON voting_session (ck_status, id DESC);
+--rollback DROP INDEX idx_voting_session_status_id;
+
+--changeset TASK-23:3
+CREATE INDEX idx_voting_session_agenda_id ON voting_session (id_agenda, id DESC);
+--rollback DROP INDEX idx_voting_session_agenda_id;
@@ -3,6 +3,8 @@ package com.voting.system.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.voting.system.api.model.dto.request.AgendaRequestDTO;
 import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.service.AgendaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,11 +13,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -80,6 +84,37 @@ class AgendaControllerTest {
         verify(agendaService).findById(1L);
     }
 
+    @Test
+    void findById_ShouldReturnEtag_AndNotModifiedWhenItMatches() throws Exception {
+        when(agendaService.getVersion(1L)).thenReturn("agenda-1-100.0");
+        when(agendaService.findById(1L)).thenReturn(agendaResponseDTO);
+
+        mockMvc.perform(get("/api/v1/agendas/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"agenda-1-100.0\""));
+
+        mockMvc.perform(get("/api/v1/agendas/1").header("If-None-Match", "\"agenda-1-100.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(agendaService, times(1)).findById(1L);
+    }
+
+    @Test
+    void findAll_ShouldReturnSliceWithoutTotals_WhenCountModeIsNone() throws Exception {
+        when(agendaService.findAll(any(), eq(PageCountModeEnum.NONE)))
+            .thenReturn(new SliceDTO<>(List.of(agendaResponseDTO), 0, 20, true, null));
+
+        mockMvc.perform(get("/api/v1/agendas").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+
+        verify(agendaService, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     void findAll_ShouldReturnPageOfAgendas() throws Exception {
         Page<AgendaResponseDTO> agendaPage = new PageImpl<>(Arrays.asList(agendaResponseDTO));
@@ -0,0 +1,412 @@
+package com.voting.system.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.filter.ExpectedSqlStatements;
+import com.voting.system.api.model.dto.request.AgendaRequestDTO;
+import com.voting.system.api.model.dto.request.AssociateRequestDTO;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.repository.AssociateRepository;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
+import com.voting.system.api.service.interfaces.IAgendaService;
+import com.voting.system.api.service.interfaces.IVoteService;
+import com.voting.system.api.service.interfaces.IVotingSessionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:endpoint-sql;DB_CLOSE_DELAY=-1",
+    "voting.ingestion.mode=DIRECT",
+    "voting.sql-budget.fail-on-exceeded=true",
+    "voting.associate-cache.eligibility-ttl-seconds=3600"
+})
+@AutoConfigureMockMvc
+class EndpointSqlStatementTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(100_000_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAgendaService agendaService;
+
+    @Autowired
+    private IVotingSessionService votingSessionService;
+
+    @Autowired
+    private IVoteService voteService;
+
+    @Autowired
+    private AssociateRepository associateRepository;
+
+    @Autowired
+    private AssociateEligibilityCache associateEligibilityCache;
+
+    @DynamicPropertySource
+    static void directories(DynamicPropertyRegistry registry) throws IOException {
+        String voted = Files.createTempDirectory("voted-index").toString();
+        String journal = Files.createTempDirectory("vote-journal").toString();
+        registry.add("voting.voted-index.directory", () -> voted);
+        registry.add("voting.journal.directory", () -> journal);
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void createAgenda_ShouldIssueExpectedStatements() throws Exception {
+        AgendaRequestDTO requestDTO = new AgendaRequestDTO();
+        requestDTO.setTitle("Pauta " + SEQUENCE.incrementAndGet());
+
+        mockMvc.perform(post("/api/v1/agendas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findAgendaById_ShouldIssueExpectedStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/agendas/{id}", agenda()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findAllAgendas_ShouldIssueExpectedStatements() throws Exception {
+        agenda();
+        agenda();
+
+        mockMvc.perform(get("/api/v1/agendas").param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void findAllAgendas_ShouldIssueExpectedStatements_WhenCountIsNone() throws Exception {
+        agenda();
+        agenda();
+
+        mockMvc.perform(get("/api/v1/agendas").param("size", "1").param("count", "NONE"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(3)
+    void updateAgenda_ShouldIssueExpectedStatements() throws Exception {
+        long agendaId = agenda();
+        AgendaRequestDTO requestDTO = new AgendaRequestDTO();
+        requestDTO.setId(agendaId);
+        requestDTO.setTitle("Pauta revisada " + agendaId);
+
+        mockMvc.perform(put("/api/v1/agendas/{id}", agendaId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void createAssociate_ShouldIssueExpectedStatements() throws Exception {
+        AssociateRequestDTO requestDTO = new AssociateRequestDTO();
+        requestDTO.setName("Associado");
+        requestDTO.setCpf(validCpf(SEQUENCE.incrementAndGet()));
+
+        mockMvc.perform(post("/api/v1/associates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void findAssociateById_ShouldIssueExpectedStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/associates/{id}", eligibleAssociate()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findAllAssociates_ShouldIssueExpectedStatements() throws Exception {
+        eligibleAssociate();
+        eligibleAssociate();
+
+        mockMvc.perform(get("/api/v1/associates").param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(3)
+    void createVotingSession_ShouldIssueExpectedStatements() throws Exception {
+        VotingSessionRequestDTO requestDTO = new VotingSessionRequestDTO();
+        requestDTO.setAgendaId(agenda());
+        requestDTO.setDurationMinutes(10);
+
+        mockMvc.perform(post("/api/v1/voting-sessions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void startVotingSession_ShouldIssueExpectedStatements() throws Exception {
+        mockMvc.perform(patch("/api/v1/voting-sessions/{id}/start", pendingSession(agenda())))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void closeVotingSession_ShouldIssueExpectedStatements() throws Exception {
+        mockMvc.perform(patch("/api/v1/voting-sessions/{id}/close", activeSession(agenda())))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findVotingSessionById_ShouldIssueExpectedStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/voting-sessions/{id}", activeSession(agenda())))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findAllVotingSessions_ShouldIssueExpectedStatements() throws Exception {
+        activeSession(agenda());
+        activeSession(agenda());
+
+        mockMvc.perform(get("/api/v1/voting-sessions").param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findVotingSessionsByAgenda_ShouldIssueExpectedStatements() throws Exception {
+        long agendaId = agenda();
+        closedSession(agendaId);
+        activeSession(agendaId);
+
+        mockMvc.perform(get("/api/v1/voting-sessions/agenda/{agendaId}", agendaId).param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void findVotingSessionsByAgenda_ShouldIssueExpectedStatements_WhenCountIsNone() throws Exception {
+        long agendaId = agenda();
+        closedSession(agendaId);
+        activeSession(agendaId);
+
+        mockMvc.perform(get("/api/v1/voting-sessions/agenda/{agendaId}", agendaId).param("size", "1").param("count", "NONE"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findVotingSessionsByStatus_ShouldIssueExpectedStatements() throws Exception {
+        activeSession(agenda());
+        activeSession(agenda());
+
+        mockMvc.perform(get("/api/v1/voting-sessions/status/{status}", "ACTIVE").param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void findVotingSessionsByStatus_ShouldIssueExpectedStatements_WhenCountIsNone() throws Exception {
+        activeSession(agenda());
+        activeSession(agenda());
+
+        mockMvc.perform(get("/api/v1/voting-sessions/status/{status}", "ACTIVE").param("size", "1").param("count", "NONE"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(0)
+    void getVotingSessionResult_ShouldIssueExpectedStatements() throws Exception {
+        long sessionId = activeSession(agenda());
+        vote(sessionId, eligibleAssociate());
+
+        mockMvc.perform(get("/api/v1/voting-sessions/{id}/result", sessionId))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void findVotingSessionsByAgenda_ShouldIssueExpectedStatements_WithCursor() throws Exception {
+        long agendaId = agenda();
+        closedSession(agendaId);
+        activeSession(agendaId);
+
+        mockMvc.perform(get("/api/v2/voting-sessions/agenda/{agendaId}", agendaId).param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void vote_ShouldIssueExpectedStatements() throws Exception {
+        mockMvc.perform(post("/api/v1/votes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voteRequest(activeSession(agenda()), eligibleAssociate()))))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    @ExpectedSqlStatements(0)
+    void vote_ShouldIssueExpectedStatements_WhenAssociateAlreadyVoted() throws Exception {
+        long sessionId = activeSession(agenda());
+        long associateId = eligibleAssociate();
+        vote(sessionId, associateId);
+
+        mockMvc.perform(post("/api/v1/votes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voteRequest(sessionId, associateId))))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void voteBatch_ShouldIssueExpectedStatements() throws Exception {
+        long sessionId = activeSession(agenda());
+        List<VoteRequestDTO> requestDTOs = List.of(
+            voteRequest(sessionId, eligibleAssociate()),
+            voteRequest(sessionId, eligibleAssociate()),
+            voteRequest(sessionId, eligibleAssociate()));
+
+        mockMvc.perform(post("/api/v2/votes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTOs)))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(2)
+    void findVotesBySession_ShouldIssueExpectedStatements() throws Exception {
+        long sessionId = activeSession(agenda());
+        vote(sessionId, eligibleAssociate());
+        vote(sessionId, eligibleAssociate());
+
+        mockMvc.perform(get("/api/v1/votes/session/{sessionId}", sessionId).param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void findVotesBySession_ShouldIssueExpectedStatements_WithCursor() throws Exception {
+        long sessionId = activeSession(agenda());
+        vote(sessionId, eligibleAssociate());
+        vote(sessionId, eligibleAssociate());
+
+        mockMvc.perform(get("/api/v2/votes/session/{sessionId}", sessionId).param("size", "1"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(0)
+    void getVotingResult_ShouldIssueExpectedStatements() throws Exception {
+        long sessionId = activeSession(agenda());
+        vote(sessionId, eligibleAssociate());
+
+        mockMvc.perform(get("/api/v1/votes/session/{sessionId}/result", sessionId))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedSqlStatements(0)
+    void hasAssociateVoted_ShouldIssueExpectedStatements() throws Exception {
+        long sessionId = activeSession(agenda());
+        long associateId = eligibleAssociate();
+        vote(sessionId, associateId);
+
+        mockMvc.perform(get("/api/v1/votes/associate/{associateId}/voted/{sessionId}", associateId, sessionId))
+            .andExpect(status().isOk());
+    }
+
+    private long agenda() {
+        AgendaRequestDTO requestDTO = new AgendaRequestDTO();
+        requestDTO.setTitle("Pauta " + SEQUENCE.incrementAndGet());
+        return agendaService.create(requestDTO).getId();
+    }
+
+    private long pendingSession(long agendaId) {
+        VotingSessionRequestDTO requestDTO = new VotingSessionRequestDTO();
+        requestDTO.setAgendaId(agendaId);
+        requestDTO.setDurationMinutes(10);
+        return votingSessionService.create(requestDTO).getId();
+    }
+
+    private long activeSession(long agendaId) {
+        long sessionId = pendingSession(agendaId);
+        votingSessionService.start(sessionId);
+        return sessionId;
+    }
+
+    private long closedSession(long agendaId) {
+        long sessionId = activeSession(agendaId);
+        votingSessionService.close(sessionId);
+        return sessionId;
+    }
+
+    private long eligibleAssociate() {
+        while (true) {
+            Associate associate = new Associate();
+            associate.setName("Associado");
+            associate.setCpf(String.format("%011d", SEQUENCE.incrementAndGet()));
+            Associate saved = associateRepository.save(associate);
+            if (associateEligibilityCache.put(saved).eligible()) {
+                return saved.getId();
+            }
+        }
+    }
+
+    private void vote(long sessionId, long associateId) {
+        voteService.vote(voteRequest(sessionId, associateId));
+    }
+
+    private VoteRequestDTO voteRequest(long sessionId, long associateId) {
+        VoteRequestDTO requestDTO = new VoteRequestDTO();
+        requestDTO.setVotingSessionId(sessionId);
+        requestDTO.setAssociateId(associateId);
+        requestDTO.setValue(VoteValue.YES);
+        return requestDTO;
+    }
+
+    private static String validCpf(int base) {
+        int[] digits = new int[11];
+        String prefix = String.format("%09d", base % 1_000_000_000);
+        for (int i = 0; i < 9; i++) {
+            digits[i] = prefix.charAt(i) - '0';
+        }
+        for (int check = 9; check < 11; check++) {
+            int sum = 0;
+            for (int i = 0; i < check; i++) {
+                sum += digits[i] * (check + 1 - i);
+            }
+            int digit = 11 - sum % 11;
+            digits[check] = digit >= 10 ? 0 : digit;
+        }
+        StringBuilder cpf = new StringBuilder();
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+}
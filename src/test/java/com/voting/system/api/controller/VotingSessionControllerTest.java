@@ -2,8 +2,10 @@ package com.voting.system.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
 import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import com.voting.system.api.service.VotingSessionService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,13 +15,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -121,6 +126,33 @@ class VotingSessionControllerTest {
         verify(votingSessionService).findByStatus(eq(VotingSessionStatusEnum.ACTIVE), any());
     }
 
+    @Test
+    void findByStatus_ShouldReturnSliceWithoutTotals_WhenCountModeIsNone() throws Exception {
+        when(votingSessionService.findByStatus(eq(VotingSessionStatusEnum.ACTIVE), any(), eq(PageCountModeEnum.NONE)))
+            .thenReturn(new SliceDTO<>(List.of(votingSessionResponseDTO), 0, 20, false, null));
+
+        mockMvc.perform(get("/api/v1/voting-sessions/status/ACTIVE").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(votingSessionService, never()).findByStatus(eq(VotingSessionStatusEnum.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    void findByAgendaId_ShouldReturnSlice_WhenCountModeIsCached() throws Exception {
+        when(votingSessionService.findByAgendaId(eq(1L), any(), eq(PageCountModeEnum.CACHED)))
+            .thenReturn(new SliceDTO<>(List.of(votingSessionResponseDTO), 0, 20, false, 1L));
+
+        mockMvc.perform(get("/api/v1/voting-sessions/agenda/1").param("count", "CACHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(votingSessionService, never()).findByAgendaId(eq(1L), any(Pageable.class));
+    }
+
     @Test
     void start_ShouldStartVotingSession() throws Exception {
         when(votingSessionService.start(1L)).thenReturn(votingSessionResponseDTO);
@@ -162,4 +194,26 @@ class VotingSessionControllerTest {
 
         verify(votingSessionService).getResult(1L);
     }
+
+    @Test
+    void getResult_ShouldReturnNotModified_WhenTallyVersionMatches() throws Exception {
+        when(votingSessionService.getResultVersion(1L)).thenReturn("result-1-7-3-0");
+
+        mockMvc.perform(get("/api/v1/voting-sessions/1/result").header("If-None-Match", "\"result-1-7-3-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"result-1-7-3-0\""));
+
+        verify(votingSessionService, never()).getResult(any());
+    }
+
+    @Test
+    void findById_ShouldReturnSession_WhenEtagDoesNotMatch() throws Exception {
+        when(votingSessionService.getVersion(1L)).thenReturn("session-1-ACTIVE-10-1.0");
+        when(votingSessionService.findById(1L)).thenReturn(votingSessionResponseDTO);
+
+        mockMvc.perform(get("/api/v1/voting-sessions/1").header("If-None-Match", "\"session-1-PENDING-0-1.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"session-1-ACTIVE-10-1.0\""))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
 }
@@ -2,10 +2,12 @@ package com.voting.system.api.controller.v2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.voting.system.api.controller.VoteController;
+import com.voting.system.api.exception.ResourceNotFoundException;
 import com.voting.system.api.model.dto.request.VoteRequestDTO;
 import com.voting.system.api.model.dto.response.VoteResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
 import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
 import com.voting.system.api.service.interfaces.IVoteService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +18,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 
@@ -114,4 +118,31 @@ class VoteControllerTest {
 
         verify(voteService).hasAssociateVoted(1L, 1L);
     }
+
+    @Test
+    void exportByVotingSessionId_ShouldStreamCsvAttachment() throws Exception {
+        when(voteService.exportByVotingSessionId(1L, VoteExportFormatEnum.CSV)).thenReturn(out -> {
+            out.write("id,votingSessionId\n1,1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/v1/votes/session/1/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"votes-session-1.csv\""))
+                .andExpect(content().string("id,votingSessionId\n1,1\n"));
+    }
+
+    @Test
+    void exportByVotingSessionId_ShouldReturnNotFound_WhenSessionIsUnknown() throws Exception {
+        when(voteService.exportByVotingSessionId(99L, VoteExportFormatEnum.NDJSON))
+            .thenThrow(new ResourceNotFoundException("Sessão de Votação", 99L));
+
+        mockMvc.perform(get("/api/v1/votes/session/99/export"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,238 @@
+package com.voting.system.api.controller.v2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.VoteBatchItemResultDTO;
+import com.voting.system.api.model.dto.response.VoteBatchResponseDTO;
+import com.voting.system.api.model.dto.response.VoteReceiptDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteBatchItemStatusEnum;
+import com.voting.system.api.model.enums.VoteReceiptStatusEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import com.voting.system.api.service.interfaces.IVoteReceiptService;
+import com.voting.system.api.service.interfaces.IVoteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VoteV2Controller.class)
+class VoteV2ControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IVoteService voteService;
+
+    @MockBean
+    private IVoteReceiptService voteReceiptService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void voteBatch_ShouldReturnResultPerItem() throws Exception {
+        VoteRequestDTO first = new VoteRequestDTO();
+        first.setVotingSessionId(1L);
+        first.setAssociateId(1L);
+        first.setValue(VoteValue.YES);
+        VoteRequestDTO second = new VoteRequestDTO();
+        second.setVotingSessionId(1L);
+        second.setAssociateId(2L);
+        second.setValue(VoteValue.NO);
+
+        VoteBatchItemResultDTO accepted = new VoteBatchItemResultDTO();
+        accepted.setIndex(0);
+        accepted.setStatus(VoteBatchItemStatusEnum.ACCEPTED);
+        accepted.setVoteId(10L);
+        VoteBatchItemResultDTO rejected = new VoteBatchItemResultDTO();
+        rejected.setIndex(1);
+        rejected.setStatus(VoteBatchItemStatusEnum.REJECTED);
+        rejected.setReason(VoteRejectionReasonEnum.ALREADY_VOTED);
+        rejected.setMessage(VoteRejectionReasonEnum.ALREADY_VOTED.getMessage());
+
+        when(voteService.voteBatch(anyList()))
+            .thenReturn(new VoteBatchResponseDTO(2, 1, 1, List.of(accepted, rejected)));
+
+        mockMvc.perform(post("/api/v2/votes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(first, second))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.results[0].voteId").value(10L))
+                .andExpect(jsonPath("$.results[1].reason").value("ALREADY_VOTED"));
+
+        verify(voteService).voteBatch(anyList());
+    }
+
+    @Test
+    void voteBatch_ShouldReturnBadRequest_WhenBatchIsEmpty() throws Exception {
+        when(voteService.voteBatch(anyList()))
+            .thenThrow(new IllegalArgumentException("O lote de votos não pode ser vazio"));
+
+        mockMvc.perform(post("/api/v2/votes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void vote_ShouldReturnAcceptedWithReceipt_WhenAsyncIsPreferred() throws Exception {
+        VoteReceiptDTO receipt = new VoteReceiptDTO();
+        receipt.setReceiptId("abc");
+        receipt.setStatus(VoteReceiptStatusEnum.PENDING);
+        when(voteReceiptService.isEnabled()).thenReturn(true);
+        when(voteReceiptService.submit(any(VoteRequestDTO.class))).thenReturn(receipt);
+
+        mockMvc.perform(post("/api/v2/votes")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voteRequest())))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v2/votes/receipts/abc"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.receiptId").value("abc"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(voteService, never()).vote(any());
+    }
+
+    @Test
+    void vote_ShouldVoteSynchronously_WhenAsyncIsNotPreferred() throws Exception {
+        VoteResponseDTO response = new VoteResponseDTO();
+        response.setId(10L);
+        when(voteService.vote(any(VoteRequestDTO.class))).thenReturn(response);
+
+        mockMvc.perform(post("/api/v2/votes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voteRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(10L));
+
+        verify(voteReceiptService, never()).submit(any());
+    }
+
+    @Test
+    void vote_ShouldReadAndWriteCbor_WhenNegotiated() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        VoteResponseDTO response = new VoteResponseDTO();
+        response.setId(10L);
+        response.setValue(VoteValue.YES);
+        when(voteService.vote(any(VoteRequestDTO.class))).thenReturn(response);
+
+        byte[] body = mockMvc.perform(post("/api/v2/votes")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(voteRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(cborMapper.readValue(body, VoteResponseDTO.class).getId()).isEqualTo(10L);
+        verify(voteService).vote(argThat(request ->
+            request.getVotingSessionId().equals(1L) && request.getValue() == VoteValue.YES));
+    }
+
+    @Test
+    void voteBatch_ShouldAcceptCborBody() throws Exception {
+        when(voteService.voteBatch(anyList())).thenReturn(new VoteBatchResponseDTO(1, 1, 0, List.of()));
+
+        mockMvc.perform(post("/api/v2/votes/batch")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(new CBORMapper().writeValueAsBytes(List.of(voteRequest()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1));
+
+        verify(voteService).voteBatch(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    void findReceipt_ShouldNotProduceCbor_WhenHandlerDoesNotDeclareIt() throws Exception {
+        VoteReceiptDTO receipt = new VoteReceiptDTO();
+        receipt.setReceiptId("abc");
+        receipt.setStatus(VoteReceiptStatusEnum.PENDING);
+        when(voteReceiptService.findReceipt("abc")).thenReturn(receipt);
+
+        mockMvc.perform(get("/api/v2/votes/receipts/abc").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void findReceipt_ShouldReturnReceiptStatus() throws Exception {
+        VoteReceiptDTO receipt = new VoteReceiptDTO();
+        receipt.setReceiptId("abc");
+        receipt.setStatus(VoteReceiptStatusEnum.REJECTED);
+        receipt.setReason(VoteRejectionReasonEnum.ALREADY_VOTED);
+        when(voteReceiptService.findReceipt("abc")).thenReturn(receipt);
+
+        mockMvc.perform(get("/api/v2/votes/receipts/abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJECTED"))
+                .andExpect(jsonPath("$.reason").value("ALREADY_VOTED"));
+    }
+
+    @Test
+    void findReceipt_ShouldReturnNotFound_WhenReceiptIsUnknown() throws Exception {
+        when(voteReceiptService.findReceipt("missing"))
+            .thenThrow(new ResourceNotFoundException("Recibo de voto", "missing"));
+
+        mockMvc.perform(get("/api/v2/votes/receipts/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    private VoteRequestDTO voteRequest() {
+        VoteRequestDTO requestDTO = new VoteRequestDTO();
+        requestDTO.setVotingSessionId(1L);
+        requestDTO.setAssociateId(1L);
+        requestDTO.setValue(VoteValue.YES);
+        return requestDTO;
+    }
+
+    @Test
+    void findByVotingSessionId_ShouldReturnCursorPage() throws Exception {
+        VoteResponseDTO vote = new VoteResponseDTO();
+        vote.setId(5L);
+        when(voteService.findByVotingSessionId(1L, "abc", 1))
+            .thenReturn(new CursorPageDTO<>(List.of(vote), 1, true, "next"));
+
+        mockMvc.perform(get("/api/v2/votes/session/1").param("after", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void findByVotingSessionId_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+        when(voteService.findByVotingSessionId(1L, "xyz", 50))
+            .thenThrow(new IllegalArgumentException("Cursor de paginação inválido: xyz"));
+
+        mockMvc.perform(get("/api/v2/votes/session/1").param("after", "xyz"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,86 @@
+package com.voting.system.api.controller.v2;
+
+import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.service.interfaces.IVotingSessionService;
+import com.voting.system.api.service.tally.VotingResultBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VotingSessionV2Controller.class)
+class VotingSessionV2ControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IVotingSessionService votingSessionService;
+
+    @MockBean
+    private VotingResultBroadcaster votingResultBroadcaster;
+
+    @Test
+    void streamResult_ShouldSubscribeWithCurrentResult() throws Exception {
+        VotingResultDTO current = new VotingResultDTO(1L, "Pauta", 1L, 3L, 2L, 1L, "APROVADA");
+        when(votingSessionService.getResult(1L)).thenReturn(current);
+        when(votingResultBroadcaster.subscribe(1L, current)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v2/voting-sessions/1/result/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(votingResultBroadcaster).subscribe(1L, current);
+    }
+
+    @Test
+    void streamResult_ShouldReturnNotFound_WhenSessionIsUnknown() throws Exception {
+        when(votingSessionService.getResult(99L))
+            .thenThrow(new ResourceNotFoundException("Sessão de Votação", 99L));
+
+        mockMvc.perform(get("/api/v2/voting-sessions/99/result/stream"))
+                .andExpect(status().isNotFound());
+
+        verify(votingResultBroadcaster, never()).subscribe(any(), any());
+    }
+
+    @Test
+    void findByStatus_ShouldReturnCursorPage() throws Exception {
+        VotingSessionResponseDTO session = new VotingSessionResponseDTO();
+        session.setId(3L);
+        when(votingSessionService.findByStatus(VotingSessionStatusEnum.ACTIVE, null, 20))
+            .thenReturn(new CursorPageDTO<>(List.of(session), 1, false, null));
+
+        mockMvc.perform(get("/api/v2/voting-sessions/status/ACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3L))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void findByAgendaId_ShouldReturnNoContent_WhenPageIsEmpty() throws Exception {
+        when(votingSessionService.findByAgendaId(1L, "abc", 20))
+            .thenReturn(new CursorPageDTO<>(List.of(), 0, false, null));
+
+        mockMvc.perform(get("/api/v2/voting-sessions/agenda/1").param("after", "abc"))
+                .andExpect(status().isNoContent());
+    }
+}
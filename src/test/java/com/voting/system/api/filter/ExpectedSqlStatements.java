@@ -0,0 +1,21 @@
+package com.voting.system.api.filter;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Exact number of SQL statements the HTTP requests performed by the annotated test
+ * must issue, as counted by {@link SqlStatementBudgetFilter}. Statements run while
+ * preparing data outside a request are not included.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementCountExtension.class)
+public @interface ExpectedSqlStatements {
+
+    int value();
+}
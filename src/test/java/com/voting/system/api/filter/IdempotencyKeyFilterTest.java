@@ -0,0 +1,180 @@
+package com.voting.system.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeyFilterTest {
+
+    private static final String BODY = "{\"votingSessionId\":1,\"associateId\":1,\"value\":\"YES\"}";
+
+    private IdempotencyStore idempotencyStore;
+    private IdempotencyKeyFilter idempotencyKeyFilter;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore();
+        idempotencyKeyFilter = new IdempotencyKeyFilter(idempotencyStore, new ObjectMapper().findAndRegisterModules(),
+            new SimpleMeterRegistry(), List.of("/api/v1/votes"));
+    }
+
+    @Test
+    void doFilter_ShouldReplayStoredResponse_WhenKeyIsRepeated() throws Exception {
+        FilterChain chain = respondingWith(HttpServletResponse.SC_CREATED, "{\"id\":10}");
+
+        MockHttpServletResponse first = perform(request("key-1", BODY), chain);
+        MockHttpServletResponse retry = perform(request("key-1", BODY), chain);
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"id\":10}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"id\":10}");
+        assertThat(retry.getHeader(IdempotencyKeyFilter.IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void doFilter_ShouldReplayReceiptHeaders_WhenAsyncVoteIsRepeated() throws Exception {
+        FilterChain chain = (request, response) -> {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader("Location", "/api/v2/votes/receipts/abc");
+            httpResponse.setHeader("Preference-Applied", "respond-async");
+            respondingWith(HttpServletResponse.SC_ACCEPTED, "{\"receiptId\":\"abc\"}").doFilter(request, response);
+        };
+
+        perform(request("key-1", BODY), chain);
+        MockHttpServletResponse retry = perform(request("key-1", BODY), chain);
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(retry.getStatus()).isEqualTo(202);
+        assertThat(retry.getHeader("Location")).isEqualTo("/api/v2/votes/receipts/abc");
+        assertThat(retry.getHeader("Preference-Applied")).isEqualTo("respond-async");
+        assertThat(retry.getContentAsString()).isEqualTo("{\"receiptId\":\"abc\"}");
+    }
+
+    @Test
+    void doFilter_ShouldPassBodyToController() throws Exception {
+        StringBuilder received = new StringBuilder();
+        FilterChain chain = (request, response) -> received.append(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        perform(request("key-1", BODY), chain);
+
+        assertThat(received.toString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void doFilter_ShouldNotifyReadListener_WithReplayedBody() throws Exception {
+        StringBuilder received = new StringBuilder();
+        AtomicInteger completed = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    received.append(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    completed.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+            });
+        };
+
+        perform(request("key-1", BODY), chain);
+
+        assertThat(received.toString()).isEqualTo(BODY);
+        assertThat(completed).hasValue(1);
+    }
+
+    @Test
+    void doFilter_ShouldRejectKeyReuse_WhenBodyDiffers() throws Exception {
+        FilterChain chain = respondingWith(HttpServletResponse.SC_CREATED, "{\"id\":10}");
+
+        perform(request("key-1", BODY), chain);
+        MockHttpServletResponse reused = perform(request("key-1", BODY.replace("YES", "NO")), chain);
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString(StandardCharsets.UTF_8)).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void doFilter_ShouldReturnConflict_WhenOriginalRequestIsInProgress() throws Exception {
+        idempotencyStore.reserve("/api/v1/votes:key-1", DigestUtils.md5DigestAsHex(BODY.getBytes(StandardCharsets.UTF_8)));
+
+        MockHttpServletResponse response = perform(request("key-1", BODY), respondingWith(201, "{}"));
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(invocations.get()).isZero();
+    }
+
+    @Test
+    void doFilter_ShouldNotStoreServerErrors() throws Exception {
+        FilterChain chain = respondingWith(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "{}");
+
+        perform(request("key-1", BODY), chain);
+        perform(request("key-1", BODY), chain);
+
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(idempotencyStore.size()).isZero();
+    }
+
+    @Test
+    void doFilter_ShouldIgnoreRequestsWithoutKey() throws Exception {
+        FilterChain chain = respondingWith(HttpServletResponse.SC_CREATED, "{}");
+
+        perform(request(null, BODY), chain);
+        perform(request(null, BODY), chain);
+
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(idempotencyStore.size()).isZero();
+    }
+
+    private FilterChain respondingWith(int status, String body) {
+        return (request, response) -> {
+            invocations.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.setContentType("application/json");
+            httpResponse.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyKeyFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/votes");
+        if (key != null) {
+            request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.voting.system.api.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore();
+
+    @Test
+    void reserve_ShouldReturnStoredEntry_AfterComplete() {
+        assertThat(idempotencyStore.reserve("key", "fingerprint")).isNull();
+        idempotencyStore.complete("key", new IdempotencyStore.StoredResponse(201, "application/json", Map.of(), new byte[]{1}));
+
+        IdempotencyStore.Entry entry = idempotencyStore.reserve("key", "fingerprint");
+
+        assertThat(entry).isNotNull();
+        assertThat(entry.isInProgress()).isFalse();
+        assertThat(entry.response().status()).isEqualTo(201);
+    }
+
+    @Test
+    void reserve_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        ReflectionTestUtils.setField(idempotencyStore, "maxEntries", 2);
+
+        idempotencyStore.reserve("first", "a");
+        idempotencyStore.reserve("second", "b");
+        idempotencyStore.reserve("first", "a");
+        idempotencyStore.reserve("third", "c");
+
+        assertThat(idempotencyStore.size()).isEqualTo(2);
+        assertThat(idempotencyStore.reserve("first", "a")).isNotNull();
+        assertThat(idempotencyStore.reserve("second", "b")).isNull();
+    }
+
+    @Test
+    void evictExpired_ShouldRemoveExpiredEntries() {
+        ReflectionTestUtils.setField(idempotencyStore, "ttlSeconds", 0L);
+        idempotencyStore.reserve("key", "fingerprint");
+
+        idempotencyStore.evictExpired();
+
+        assertThat(idempotencyStore.size()).isZero();
+    }
+
+    @Test
+    void release_ShouldKeepCompletedEntries() {
+        idempotencyStore.reserve("key", "fingerprint");
+        idempotencyStore.complete("key", new IdempotencyStore.StoredResponse(201, null, Map.of(), new byte[0]));
+
+        idempotencyStore.release("key");
+
+        assertThat(idempotencyStore.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.voting.system.api.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatementBudgetFilterTest {
+
+    private SqlStatementCounter sqlStatementCounter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sqlStatementCounter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void doFilter_ShouldRecordStatementsPerEndpoint() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(sqlStatementCounter, meterRegistry, 10, true);
+
+        filter.doFilter(request("budgetOfTwo"), new MockHttpServletResponse(), issuing(2));
+        filter.doFilter(request("budgetOfTwo"), new MockHttpServletResponse(), issuing(1));
+
+        assertThat(meterRegistry.get("voting.http.sql.statements").tag("uri", "/api/v1/test").summary().totalAmount())
+            .isEqualTo(3);
+        assertThat(meterRegistry.find("voting.http.sql.budget.exceeded").counter()).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldCountExceededBudget_WhenNotFailing() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(sqlStatementCounter, meterRegistry, 10, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("budgetOfTwo"), response, issuing(3));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("voting.http.sql.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_ShouldFail_WhenBudgetExceededAndFailing() {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(sqlStatementCounter, meterRegistry, 10, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request("budgetOfTwo"), new MockHttpServletResponse(), issuing(3)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("GET /api/v1/test issued 3 SQL statements, budget is 2");
+    }
+
+    @Test
+    void doFilter_ShouldApplyDefaultBudget_WhenEndpointDeclaresNone() {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(sqlStatementCounter, meterRegistry, 1, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request("noBudget"), new MockHttpServletResponse(), issuing(2)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageEndingWith("budget is 1");
+    }
+
+    @Test
+    void inspect_ShouldIgnoreSequenceCallsAndStatementsOutsideScope() {
+        sqlStatementCounter.inspect("select a1_0.id from agenda a1_0");
+
+        SqlStatementCounter.Scope scope = sqlStatementCounter.open();
+        sqlStatementCounter.inspect("select next value for seq_vote");
+        sqlStatementCounter.inspect("insert into vote (id) values (?)");
+
+        assertThat(scope.close()).isEqualTo(1);
+    }
+
+    private FilterChain issuing(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                sqlStatementCounter.inspect("select 1");
+            }
+        };
+    }
+
+    private MockHttpServletRequest request(String handler) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(this, SqlStatementBudgetFilterTest.class.getDeclaredMethod(handler)));
+        return request;
+    }
+
+    @SqlStatementBudget(2)
+    void budgetOfTwo() {
+    }
+
+    void noBudget() {
+    }
+}
@@ -0,0 +1,45 @@
+package com.voting.system.api.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts {@link ExpectedSqlStatements} by reading the statements the budget filter
+ * recorded for the requests made during the test method.
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(SqlStatementCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), recordedStatements(context));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ExpectedSqlStatements expected = context.getRequiredTestMethod().getAnnotation(ExpectedSqlStatements.class);
+        if (expected == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        double before = context.getStore(NAMESPACE).remove(context.getUniqueId(), Double.class);
+
+        assertThat((long) (recordedStatements(context) - before))
+            .as("SQL statements issued by the requests of %s", context.getDisplayName())
+            .isEqualTo(expected.value());
+    }
+
+    private double recordedStatements(ExtensionContext context) {
+        MeterRegistry meterRegistry = SpringExtension.getApplicationContext(context).getBean(MeterRegistry.class);
+        return meterRegistry.find("voting.http.sql.statements").summaries().stream()
+            .mapToDouble(DistributionSummary::totalAmount)
+            .sum();
+    }
+}
@@ -0,0 +1,41 @@
+package com.voting.system.api.mapper;
+
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteMapperTest {
+
+    private final VoteMapper mapper = new VoteMapper();
+
+    @Test
+    void toEntity_ThenToResponseDTO_ShouldKeepAllFields() {
+        VotingSession session = new VotingSession();
+        session.setId(5L);
+        Associate associate = new Associate();
+        associate.setId(7L);
+        associate.setName("João da Silva");
+        VoteRequestDTO requestDTO = new VoteRequestDTO();
+        requestDTO.setValue(VoteValue.NO);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        Vote vote = mapper.toEntity(requestDTO, session, associate, now);
+        vote.setId(11L);
+        VoteResponseDTO responseDTO = mapper.toResponseDTO(vote);
+
+        assertThat(responseDTO.getId()).isEqualTo(11L);
+        assertThat(responseDTO.getVotingSessionId()).isEqualTo(5L);
+        assertThat(responseDTO.getAssociateId()).isEqualTo(7L);
+        assertThat(responseDTO.getAssociateName()).isEqualTo("João da Silva");
+        assertThat(responseDTO.getValue()).isEqualTo(VoteValue.NO);
+        assertThat(responseDTO.getVoteTime()).isEqualTo(now);
+    }
+}
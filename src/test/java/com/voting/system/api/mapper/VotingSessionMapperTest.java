@@ -0,0 +1,59 @@
+package com.voting.system.api.mapper;
+
+import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VotingSessionMapperTest {
+
+    private final VotingSessionMapper mapper = new VotingSessionMapper();
+
+    @Test
+    void toResponseDTO_ShouldCopySessionAndAgendaFields() {
+        Agenda agenda = new Agenda();
+        agenda.setId(3L);
+        agenda.setTitle("Pauta");
+
+        VotingSession session = new VotingSession();
+        session.setId(5L);
+        session.setAgenda(agenda);
+        session.setStatus(VotingSessionStatusEnum.ACTIVE);
+        session.setStartTime(OffsetDateTime.now());
+        session.setEndTime(session.getStartTime().plusMinutes(5));
+        session.setDurationMinutes(5);
+        session.setDtCreated(OffsetDateTime.now());
+
+        VotingSessionResponseDTO responseDTO = mapper.toResponseDTO(session);
+
+        assertThat(responseDTO.getId()).isEqualTo(5L);
+        assertThat(responseDTO.getAgendaId()).isEqualTo(3L);
+        assertThat(responseDTO.getAgendaTitle()).isEqualTo("Pauta");
+        assertThat(responseDTO.getStatus()).isEqualTo(VotingSessionStatusEnum.ACTIVE);
+        assertThat(responseDTO.getStartTime()).isEqualTo(session.getStartTime());
+        assertThat(responseDTO.getEndTime()).isEqualTo(session.getEndTime());
+        assertThat(responseDTO.getDurationMinutes()).isEqualTo(5);
+        assertThat(responseDTO.getDtCreated()).isEqualTo(session.getDtCreated());
+    }
+
+    @Test
+    void toEntity_ShouldCreatePendingSessionWithDefaultDuration() {
+        Agenda agenda = new Agenda();
+        VotingSessionRequestDTO requestDTO = new VotingSessionRequestDTO();
+        requestDTO.setId(9L);
+        requestDTO.setAgendaId(3L);
+
+        VotingSession session = mapper.toEntity(requestDTO, agenda);
+
+        assertThat(session.getId()).isNull();
+        assertThat(session.getAgenda()).isSameAs(agenda);
+        assertThat(session.getStatus()).isEqualTo(VotingSessionStatusEnum.PENDING);
+        assertThat(session.getDurationMinutes()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.voting.system.api.repository;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BatchInsertRepositoryTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private AssociateRepository associateRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void saveAll_ShouldInsertAssociatesInJdbcBatches() {
+        List<Associate> associates = associates();
+
+        statistics.clear();
+        associateRepository.saveAll(associates);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(associates).allMatch(associate -> associate.getId() != null);
+    }
+
+    @Test
+    void saveAll_ShouldInsertVotesInJdbcBatches() {
+        Agenda agenda = new Agenda();
+        agenda.setTitle("Pauta");
+        entityManager.persist(agenda);
+
+        VotingSession votingSession = new VotingSession();
+        votingSession.setAgenda(agenda);
+        votingSession.setStatus(VotingSessionStatusEnum.ACTIVE);
+        votingSession.setStartTime(OffsetDateTime.now());
+        votingSession.setEndTime(OffsetDateTime.now().plusMinutes(5));
+        entityManager.persist(votingSession);
+
+        List<Associate> associates = associateRepository.saveAll(associates());
+        entityManager.flush();
+
+        List<Vote> votes = new ArrayList<>();
+        for (Associate associate : associates) {
+            Vote vote = new Vote();
+            vote.setVotingSession(votingSession);
+            vote.setAssociate(associate);
+            vote.setValue(VoteValue.YES);
+            vote.setVoteTime(OffsetDateTime.now());
+            votes.add(vote);
+        }
+
+        statistics.clear();
+        voteRepository.saveAll(votes);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    private List<Associate> associates() {
+        List<Associate> associates = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Associate associate = new Associate();
+            associate.setName("Associado " + i);
+            associate.setCpf(String.format("%011d", i));
+            associates.add(associate);
+        }
+        return associates;
+    }
+}
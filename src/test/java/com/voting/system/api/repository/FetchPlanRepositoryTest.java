@@ -0,0 +1,153 @@
+package com.voting.system.api.repository;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FetchPlanRepositoryTest {
+
+    private static final int ROWS = 30;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private VotingSession votingSession;
+    private Agenda agenda;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < ROWS; i++) {
+            Agenda sessionAgenda = new Agenda();
+            sessionAgenda.setTitle("Pauta " + i);
+            entityManager.persist(sessionAgenda);
+
+            VotingSession session = new VotingSession();
+            session.setAgenda(sessionAgenda);
+            session.setStatus(VotingSessionStatusEnum.ACTIVE);
+            session.setStartTime(OffsetDateTime.now());
+            session.setEndTime(OffsetDateTime.now().plusMinutes(5));
+            entityManager.persist(session);
+
+            agenda = sessionAgenda;
+            votingSession = session;
+        }
+
+        for (int i = 0; i < ROWS; i++) {
+            Associate associate = new Associate();
+            associate.setName("Associado " + i);
+            associate.setCpf(String.format("%011d", 70_000_000_000L + i));
+            entityManager.persist(associate);
+
+            Vote vote = new Vote();
+            vote.setVotingSession(votingSession);
+            vote.setAssociate(associate);
+            vote.setValue(i % 2 == 0 ? VoteValue.YES : VoteValue.NO);
+            entityManager.persist(vote);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findVotesBySession_ShouldLoadAssociatesInTheListingQuery() {
+        List<Vote> page = voteRepository.findByVotingSessionIdOrderByVoteTimeDesc(
+            votingSession.getId(), PageRequest.of(0, 10)).getContent();
+        touchVotes(page);
+        assertThat(page).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        List<Vote> slice = voteRepository.findSliceByVotingSessionIdOrderByVoteTimeDesc(
+            votingSession.getId(), PageRequest.of(0, 10)).getContent();
+        touchVotes(slice);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findSessions_ShouldLoadAgendasInTheListingQuery() {
+        touchSessions(votingSessionRepository.findAll(PageRequest.of(0, 10)).getContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        touchSessions(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE, PageRequest.of(0, 10)).getContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        touchSessions(votingSessionRepository.findByAgendaId(agenda.getId(), PageRequest.of(0, 10)).getContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        touchSessions(votingSessionRepository.findSliceBy(PageRequest.of(0, 10)).getContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        touchSessions(votingSessionRepository.findSliceByStatus(VotingSessionStatusEnum.ACTIVE, PageRequest.of(0, 10)).getContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        touchSessions(votingSessionRepository.findSliceByAgendaId(agenda.getId(), PageRequest.of(0, 10)).getContent());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findSessionById_ShouldLoadAgendaInOneStatement() {
+        VotingSession session = votingSessionRepository.findById(votingSession.getId()).orElseThrow();
+        entityManager.clear();
+
+        assertThat(session.getAgenda().getTitle()).isEqualTo(agenda.getTitle());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findActiveSessions_ShouldNotLoadAgendas() {
+        List<VotingSession> sessions = votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE);
+
+        assertThat(sessions).hasSize(ROWS).allMatch(session -> session.getAgenda().getId() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void touchVotes(List<Vote> votes) {
+        votes.forEach(vote -> {
+            assertThat(vote.getAssociate().getName()).startsWith("Associado");
+            assertThat(vote.getVotingSession().getId()).isEqualTo(votingSession.getId());
+        });
+    }
+
+    private void touchSessions(List<VotingSession> sessions) {
+        assertThat(sessions).isNotEmpty();
+        sessions.forEach(session -> assertThat(session.getAgenda().getTitle()).startsWith("Pauta"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.voting.system.api.repository;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class KeysetPaginationRepositoryTest {
+
+    private static final int VOTES = 7;
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Agenda agenda;
+    private VotingSession votingSession;
+    private final List<Vote> votes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        agenda = new Agenda();
+        agenda.setTitle("Pauta");
+        entityManager.persist(agenda);
+
+        votingSession = session(VotingSessionStatusEnum.ACTIVE);
+
+        OffsetDateTime base = OffsetDateTime.of(2026, 10, 18, 12, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < VOTES; i++) {
+            Associate associate = new Associate();
+            associate.setCpf(String.format("%011d", i + 1));
+            associate.setName("Associado " + i);
+            entityManager.persist(associate);
+
+            Vote vote = new Vote();
+            vote.setVotingSession(votingSession);
+            vote.setAssociate(associate);
+            vote.setValue(VoteValue.YES);
+            vote.setVoteTime(base.plusSeconds(i / 2));
+            votes.add(entityManager.persist(vote));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findKeysetPageAfter_ShouldWalkEveryVoteOnce_WhenVoteTimesTie() {
+        List<Long> walked = new ArrayList<>();
+        List<Vote> page = voteRepository.findFirstKeysetPage(votingSession.getId(), PageRequest.ofSize(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            page.forEach(vote -> walked.add(vote.getId()));
+            Vote last = page.get(page.size() - 1);
+            page = voteRepository.findKeysetPageAfter(votingSession.getId(), last.getVoteTime(), last.getId(),
+                PageRequest.ofSize(PAGE_SIZE));
+        }
+
+        List<Long> expected = votes.stream()
+            .sorted(Comparator.comparing(Vote::getVoteTime).thenComparing(Vote::getId).reversed())
+            .map(Vote::getId)
+            .toList();
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findKeysetPageByStatusAfter_ShouldReturnOlderSessionsOnly() {
+        VotingSession older = votingSession;
+        VotingSession newer = session(VotingSessionStatusEnum.ACTIVE);
+        session(VotingSessionStatusEnum.CLOSED);
+        entityManager.flush();
+
+        assertThat(votingSessionRepository.findFirstKeysetPageByStatus(VotingSessionStatusEnum.ACTIVE, PageRequest.ofSize(1)))
+            .extracting(VotingSession::getId).containsExactly(newer.getId());
+        assertThat(votingSessionRepository.findKeysetPageByStatusAfter(VotingSessionStatusEnum.ACTIVE, newer.getId(),
+                PageRequest.ofSize(10)))
+            .extracting(VotingSession::getId).containsExactly(older.getId());
+    }
+
+    @Test
+    void findKeysetPageByAgendaIdAfter_ShouldReturnOlderSessionsOfAgenda() {
+        VotingSession newer = session(VotingSessionStatusEnum.CLOSED);
+        entityManager.flush();
+
+        assertThat(votingSessionRepository.findFirstKeysetPageByAgendaId(agenda.getId(), PageRequest.ofSize(10)))
+            .extracting(VotingSession::getId).containsExactly(newer.getId(), votingSession.getId());
+        assertThat(votingSessionRepository.findKeysetPageByAgendaIdAfter(agenda.getId(), votingSession.getId(),
+                PageRequest.ofSize(10)))
+            .isEmpty();
+    }
+
+    private VotingSession session(VotingSessionStatusEnum status) {
+        VotingSession session = new VotingSession();
+        session.setAgenda(entityManager.find(Agenda.class, agenda.getId()));
+        session.setStatus(status);
+        return entityManager.persist(session);
+    }
+}
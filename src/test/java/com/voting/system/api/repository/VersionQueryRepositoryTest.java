@@ -0,0 +1,81 @@
+package com.voting.system.api.repository;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.projection.VotingSessionVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class VersionQueryRepositoryTest {
+
+    @Autowired
+    private AgendaRepository agendaRepository;
+
+    @Autowired
+    private VotingSessionRepository votingSessionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Agenda agenda;
+    private VotingSession votingSession;
+
+    @BeforeEach
+    void setUp() {
+        agenda = new Agenda();
+        agenda.setTitle("Pauta");
+        entityManager.persist(agenda);
+
+        votingSession = new VotingSession();
+        votingSession.setAgenda(agenda);
+        entityManager.persist(votingSession);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findVersionById_ShouldChange_WhenAgendaIsUpdated() throws InterruptedException {
+        OffsetDateTime before = agendaRepository.findVersionById(agenda.getId()).orElseThrow();
+
+        Thread.sleep(5);
+        Agenda managed = entityManager.find(Agenda.class, agenda.getId());
+        managed.setTitle("Pauta alterada");
+        entityManager.flush();
+
+        assertThat(agendaRepository.findVersionById(agenda.getId())).isPresent()
+            .get().isNotEqualTo(before);
+    }
+
+    @Test
+    void findVersionById_ShouldBeEmpty_WhenAgendaIsInactive() {
+        Agenda managed = entityManager.find(Agenda.class, agenda.getId());
+        managed.setIsActive(false);
+        entityManager.flush();
+
+        assertThat(agendaRepository.findVersionById(agenda.getId())).isEmpty();
+    }
+
+    @Test
+    void findVersionById_ShouldReflectSessionStatus() {
+        String pending = votingSessionRepository.findVersionById(votingSession.getId())
+            .map(VotingSessionVersion::tag).orElseThrow();
+
+        VotingSession managed = entityManager.find(VotingSession.class, votingSession.getId());
+        managed.setStatus(VotingSessionStatusEnum.ACTIVE);
+        managed.setEndTime(OffsetDateTime.now().plusMinutes(1));
+        entityManager.flush();
+
+        assertThat(votingSessionRepository.findVersionById(votingSession.getId()))
+            .map(VotingSessionVersion::tag)
+            .get().isNotEqualTo(pending);
+    }
+}
@@ -0,0 +1,93 @@
+package com.voting.system.api.repository;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class VoteRepositoryTest {
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private VotingSession votingSession;
+    private Associate associate;
+
+    @BeforeEach
+    void setUp() {
+        Agenda agenda = new Agenda();
+        agenda.setTitle("Pauta");
+        entityManager.persist(agenda);
+
+        votingSession = new VotingSession();
+        votingSession.setAgenda(agenda);
+        votingSession.setStatus(VotingSessionStatusEnum.ACTIVE);
+        votingSession.setStartTime(OffsetDateTime.now());
+        votingSession.setEndTime(OffsetDateTime.now().plusMinutes(5));
+        entityManager.persist(votingSession);
+
+        associate = new Associate();
+        associate.setName("Associado");
+        associate.setCpf("12345678901");
+        entityManager.persist(associate);
+        entityManager.flush();
+    }
+
+    @Test
+    void insertIfSessionOpen_ShouldInsertVote_WhenSessionIsOpen() {
+        Optional<Long> voteId = insert(OffsetDateTime.now());
+
+        assertThat(voteId).isPresent();
+        assertThat(voteRepository.existsByVotingSessionIdAndAssociateId(votingSession.getId(), associate.getId())).isTrue();
+    }
+
+    @Test
+    void insertIfSessionOpen_ShouldInsertNothing_WhenSessionIsClosed() {
+        votingSession.setStatus(VotingSessionStatusEnum.CLOSED);
+        entityManager.flush();
+
+        assertThat(insert(OffsetDateTime.now())).isEmpty();
+        assertThat(voteRepository.countByVotingSessionId(votingSession.getId())).isZero();
+    }
+
+    @Test
+    void insertIfSessionOpen_ShouldInsertNothing_WhenSessionIsExpired() {
+        assertThat(insert(OffsetDateTime.now().plusMinutes(10))).isEmpty();
+    }
+
+    @Test
+    void insertIfSessionOpen_ShouldInsertNothing_WhenAssociateIsInactive() {
+        associate.setIsActive(false);
+        entityManager.flush();
+
+        assertThat(insert(OffsetDateTime.now())).isEmpty();
+    }
+
+    @Test
+    void insertIfSessionOpen_ShouldThrow_WhenAssociateAlreadyVoted() {
+        assertThat(insert(OffsetDateTime.now())).isPresent();
+
+        assertThatThrownBy(() -> insert(OffsetDateTime.now()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Optional<Long> insert(OffsetDateTime voteTime) {
+        return voteRepository.insertIfSessionOpen(votingSession.getId(), associate.getId(), "YES", voteTime);
+    }
+}
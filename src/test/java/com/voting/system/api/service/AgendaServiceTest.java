@@ -2,24 +2,30 @@ package com.voting.system.api.service;
 
 import com.voting.system.api.exception.DuplicateResourceException;
 import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.mapper.AgendaMapper;
 import com.voting.system.api.model.dto.request.AgendaRequestDTO;
 import com.voting.system.api.model.dto.response.AgendaResponseDTO;
+import com.voting.system.api.model.dto.response.SliceDTO;
 import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.enums.PageCountModeEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.model.validation.IUpdateValidationGroup;
 import com.voting.system.api.repository.AgendaRepository;
+import com.voting.system.api.service.pagination.ListingCountCache;
+import com.voting.system.api.service.tally.VoteTallyEngine;
 import com.voting.system.api.service.validator.GenericValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.OffsetDateTime;
 import java.util.Arrays;
@@ -39,7 +45,13 @@ class AgendaServiceTest {
     private GenericValidator genericValidator;
 
     @Mock
-    private ModelMapper modelMapper;
+    private AgendaMapper agendaMapper;
+
+    @Mock
+    private VoteTallyEngine voteTallyEngine;
+
+    @Spy
+    private ListingCountCache listingCountCache = new ListingCountCache();
 
     @InjectMocks
     private AgendaService agendaService;
@@ -74,9 +86,9 @@ class AgendaServiceTest {
     void create_ShouldCreateAgendaSuccessfully() {
         doNothing().when(genericValidator).validate(agendaRequestDTO, ICreateValidationGroup.class);
         when(agendaRepository.existsByTitleIgnoreCaseAndIsActiveTrue(agendaRequestDTO.getTitle())).thenReturn(false);
-        when(modelMapper.map(agendaRequestDTO, Agenda.class)).thenReturn(agenda);
+        when(agendaMapper.toEntity(agendaRequestDTO)).thenReturn(agenda);
         when(agendaRepository.save(any(Agenda.class))).thenReturn(agenda);
-        when(modelMapper.map(agenda, AgendaResponseDTO.class)).thenReturn(agendaResponseDTO);
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
 
         AgendaResponseDTO result = agendaService.create(agendaRequestDTO);
 
@@ -103,7 +115,7 @@ class AgendaServiceTest {
     @Test
     void findById_ShouldReturnAgenda_WhenAgendaExists() {
         when(agendaRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(agenda));
-        when(modelMapper.map(agenda, AgendaResponseDTO.class)).thenReturn(agendaResponseDTO);
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
 
         AgendaResponseDTO result = agendaService.findById(1L);
 
@@ -120,14 +132,32 @@ class AgendaServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> agendaService.findById(1L));
 
         verify(agendaRepository).findByIdAndIsActiveTrue(1L);
-        verify(modelMapper, never()).map(any(), any());
+        verify(agendaMapper, never()).toResponseDTO(any());
+    }
+
+    @Test
+    void getVersion_ShouldDeriveTagFromUpdateTimestamp_WithoutLoadingAgenda() {
+        OffsetDateTime updated = OffsetDateTime.parse("2026-10-18T10:15:30.123456Z");
+        when(agendaRepository.findVersionById(1L)).thenReturn(Optional.of(updated));
+
+        String version = agendaService.getVersion(1L);
+
+        assertEquals("agenda-1-" + updated.toEpochSecond() + ".123456000", version);
+        verify(agendaRepository, never()).findByIdAndIsActiveTrue(any());
+    }
+
+    @Test
+    void getVersion_ShouldThrowResourceNotFoundException_WhenAgendaNotExists() {
+        when(agendaRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> agendaService.getVersion(1L));
     }
 
     @Test
     void findAll_ShouldReturnPageOfAgendas() {
         Page<Agenda> agendaPage = new PageImpl<>(Arrays.asList(agenda));
         when(agendaRepository.findByIsActiveTrue(pageable)).thenReturn(agendaPage);
-        when(modelMapper.map(agenda, AgendaResponseDTO.class)).thenReturn(agendaResponseDTO);
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
 
         Page<AgendaResponseDTO> result = agendaService.findAll(pageable);
 
@@ -137,12 +167,41 @@ class AgendaServiceTest {
         verify(agendaRepository).findByIsActiveTrue(pageable);
     }
 
+    @Test
+    void findAll_ShouldNotCount_WhenCountModeIsNone() {
+        when(agendaRepository.findSliceByIsActiveTrue(pageable))
+            .thenReturn(new SliceImpl<>(Arrays.asList(agenda), pageable, true));
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
+
+        SliceDTO<AgendaResponseDTO> result = agendaService.findAll(pageable, PageCountModeEnum.NONE);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.getHasNext());
+        assertNull(result.getTotalElements());
+        verify(agendaRepository, never()).countActiveAgendas();
+    }
+
+    @Test
+    void findByTitle_ShouldReuseCachedCount_WhenCountModeIsCached() {
+        when(agendaRepository.findSliceByTitleContainingIgnoreCaseAndIsActiveTrue(anyString(), eq(pageable)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(agenda), pageable, false));
+        when(agendaRepository.countByTitleContainingIgnoreCaseAndIsActiveTrue("Test")).thenReturn(42L);
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
+
+        agendaService.findByTitle("Test", pageable, PageCountModeEnum.CACHED);
+        SliceDTO<AgendaResponseDTO> result = agendaService.findByTitle("test", pageable, PageCountModeEnum.CACHED);
+
+        assertEquals(42L, result.getTotalElements());
+        assertFalse(result.getHasNext());
+        verify(agendaRepository, times(1)).countByTitleContainingIgnoreCaseAndIsActiveTrue("Test");
+    }
+
     @Test
     void findByTitle_ShouldReturnPageOfAgendas() {
         String title = "Test";
         Page<Agenda> agendaPage = new PageImpl<>(Arrays.asList(agenda));
         when(agendaRepository.findByTitleContainingIgnoreCaseAndIsActiveTrue(title, pageable)).thenReturn(agendaPage);
-        when(modelMapper.map(agenda, AgendaResponseDTO.class)).thenReturn(agendaResponseDTO);
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
 
         Page<AgendaResponseDTO> result = agendaService.findByTitle(title, pageable);
 
@@ -155,8 +214,8 @@ class AgendaServiceTest {
     void update_ShouldUpdateAgendaSuccessfully() {
         doNothing().when(genericValidator).validate(agendaRequestDTO, IUpdateValidationGroup.class);
         when(agendaRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(agenda));
-        when(agendaRepository.save(any(Agenda.class))).thenReturn(agenda);
-        when(modelMapper.map(agenda, AgendaResponseDTO.class)).thenReturn(agendaResponseDTO);
+        when(agendaRepository.saveAndFlush(any(Agenda.class))).thenReturn(agenda);
+        when(agendaMapper.toResponseDTO(agenda)).thenReturn(agendaResponseDTO);
 
         AgendaResponseDTO result = agendaService.update(1L, agendaRequestDTO);
 
@@ -164,7 +223,8 @@ class AgendaServiceTest {
         assertEquals(agendaResponseDTO.getId(), result.getId());
         verify(genericValidator).validate(agendaRequestDTO, IUpdateValidationGroup.class);
         verify(agendaRepository).findByIdAndIsActiveTrue(1L);
-        verify(agendaRepository).save(any(Agenda.class));
+        verify(agendaRepository).saveAndFlush(any(Agenda.class));
+        verify(voteTallyEngine).renameAgendaAfterCommit(agenda);
     }
 
     @Test
@@ -2,12 +2,14 @@ package com.voting.system.api.service;
 
 import com.voting.system.api.exception.DuplicateResourceException;
 import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.mapper.AssociateMapper;
 import com.voting.system.api.model.dto.request.AssociateRequestDTO;
 import com.voting.system.api.model.dto.response.AssociateResponseDTO;
 import com.voting.system.api.model.entity.Associate;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.model.validation.IUpdateValidationGroup;
 import com.voting.system.api.repository.AssociateRepository;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
 import com.voting.system.api.service.validator.GenericValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +17,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -39,11 +40,14 @@ class AssociateServiceTest {
     private GenericValidator genericValidator;
 
     @Mock
-    private ModelMapper modelMapper;
+    private AssociateMapper associateMapper;
 
     @Mock
     private UserInfoService userInfoService;
 
+    @Mock
+    private AssociateEligibilityCache associateEligibilityCache;
+
     @InjectMocks
     private AssociateService associateService;
 
@@ -78,9 +82,9 @@ class AssociateServiceTest {
         doNothing().when(genericValidator).validate(associateRequestDTO, ICreateValidationGroup.class);
         doNothing().when(userInfoService).validateUserCpf(associateRequestDTO.getCpf());
         when(associateRepository.existsByCpfAndIsActiveTrue(associateRequestDTO.getCpf())).thenReturn(false);
-        when(modelMapper.map(associateRequestDTO, Associate.class)).thenReturn(associate);
+        when(associateMapper.toEntity(associateRequestDTO)).thenReturn(associate);
         when(associateRepository.save(any(Associate.class))).thenReturn(associate);
-        when(modelMapper.map(associate, AssociateResponseDTO.class)).thenReturn(associateResponseDTO);
+        when(associateMapper.toResponseDTO(associate)).thenReturn(associateResponseDTO);
 
         AssociateResponseDTO result = associateService.create(associateRequestDTO);
 
@@ -92,6 +96,7 @@ class AssociateServiceTest {
         verify(userInfoService).validateUserCpf(associateRequestDTO.getCpf());
         verify(associateRepository).existsByCpfAndIsActiveTrue(associateRequestDTO.getCpf());
         verify(associateRepository).save(any(Associate.class));
+        verify(associateEligibilityCache).invalidateAfterCommit(associate.getId());
     }
 
     @Test
@@ -111,7 +116,7 @@ class AssociateServiceTest {
     @Test
     void findById_ShouldReturnAssociate_WhenAssociateExists() {
         when(associateRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(associate));
-        when(modelMapper.map(associate, AssociateResponseDTO.class)).thenReturn(associateResponseDTO);
+        when(associateMapper.toResponseDTO(associate)).thenReturn(associateResponseDTO);
 
         AssociateResponseDTO result = associateService.findById(1L);
 
@@ -128,14 +133,14 @@ class AssociateServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> associateService.findById(1L));
 
         verify(associateRepository).findByIdAndIsActiveTrue(1L);
-        verify(modelMapper, never()).map(any(), any());
+        verify(associateMapper, never()).toResponseDTO(any());
     }
 
     @Test
     void findByCpf_ShouldReturnAssociate_WhenAssociateExists() {
         String cpf = "12345678901";
         when(associateRepository.findByCpfAndIsActiveTrue(cpf)).thenReturn(Optional.of(associate));
-        when(modelMapper.map(associate, AssociateResponseDTO.class)).thenReturn(associateResponseDTO);
+        when(associateMapper.toResponseDTO(associate)).thenReturn(associateResponseDTO);
 
         AssociateResponseDTO result = associateService.findByCpf(cpf);
 
@@ -158,7 +163,7 @@ class AssociateServiceTest {
     void findAll_ShouldReturnPageOfAssociates() {
         Page<Associate> associatePage = new PageImpl<>(Arrays.asList(associate));
         when(associateRepository.findByIsActiveTrue(pageable)).thenReturn(associatePage);
-        when(modelMapper.map(associate, AssociateResponseDTO.class)).thenReturn(associateResponseDTO);
+        when(associateMapper.toResponseDTO(associate)).thenReturn(associateResponseDTO);
 
         Page<AssociateResponseDTO> result = associateService.findAll(pageable);
 
@@ -173,7 +178,7 @@ class AssociateServiceTest {
         doNothing().when(genericValidator).validate(associateRequestDTO, IUpdateValidationGroup.class);
         when(associateRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(associate));
         when(associateRepository.save(any(Associate.class))).thenReturn(associate);
-        when(modelMapper.map(associate, AssociateResponseDTO.class)).thenReturn(associateResponseDTO);
+        when(associateMapper.toResponseDTO(associate)).thenReturn(associateResponseDTO);
 
         AssociateResponseDTO result = associateService.update(1L, associateRequestDTO);
 
@@ -206,6 +211,7 @@ class AssociateServiceTest {
         assertTrue(associate.getIsActive());
         verify(associateRepository).findById(1L);
         verify(associateRepository).save(associate);
+        verify(associateEligibilityCache).invalidateAfterCommit(1L);
     }
 
     @Test
@@ -228,6 +234,7 @@ class AssociateServiceTest {
         assertFalse(associate.getIsActive());
         verify(associateRepository).findByIdAndIsActiveTrue(1L);
         verify(associateRepository).save(associate);
+        verify(associateEligibilityCache).invalidateAfterCommit(1L);
     }
 
     @Test
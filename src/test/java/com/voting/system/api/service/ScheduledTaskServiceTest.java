@@ -0,0 +1,58 @@
+package com.voting.system.api.service;
+
+import com.voting.system.api.service.metrics.VotingMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ScheduledTaskServiceTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withBean(VotingSessionService.class, () -> mock(VotingSessionService.class))
+        .withBean(VotingMetrics.class, () -> mock(VotingMetrics.class))
+        .withUserConfiguration(ScheduledTaskService.class);
+
+    @Test
+    void checkInterval_ShouldBeTenMinutes_WhenExactExpirationEnabled() {
+        contextRunner
+            .withPropertyValues("scheduling.session.exact-expiration.enabled=true")
+            .run(context -> assertThat(checkInterval(context.getBean(ScheduledTaskService.class))).isEqualTo(600000L));
+    }
+
+    @Test
+    void checkInterval_ShouldBeSixtySeconds_WhenExactExpirationDisabled() {
+        contextRunner
+            .withPropertyValues("scheduling.session.exact-expiration.enabled=false")
+            .run(context -> assertThat(checkInterval(context.getBean(ScheduledTaskService.class))).isEqualTo(60000L));
+    }
+
+    @Test
+    void checkInterval_ShouldUseExplicitValue_WhenConfigured() {
+        contextRunner
+            .withPropertyValues(
+                "scheduling.session.exact-expiration.enabled=false",
+                "scheduling.session.expiration-check-interval=30000")
+            .run(context -> assertThat(checkInterval(context.getBean(ScheduledTaskService.class))).isEqualTo(30000L));
+    }
+
+    @Test
+    void closeExpiredVotingSessions_ShouldRecordFailedSweep_WhenClosingFails() {
+        contextRunner.run(context -> {
+            VotingSessionService votingSessionService = context.getBean(VotingSessionService.class);
+            VotingMetrics votingMetrics = context.getBean(VotingMetrics.class);
+            when(votingSessionService.closeExpiredSessions()).thenThrow(new IllegalStateException("database unavailable"));
+
+            context.getBean(ScheduledTaskService.class).closeExpiredVotingSessions();
+
+            verify(votingMetrics).recordExpirationSweep(eq(VotingMetrics.SWEEP_FAILED), eq(0), anyLong());
+        });
+    }
+
+    private long checkInterval(ScheduledTaskService scheduledTaskService) {
+        return (long) ReflectionTestUtils.getField(scheduledTaskService, "checkInterval");
+    }
+}
@@ -0,0 +1,146 @@
+package com.voting.system.api.service;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.VoteReceiptDTO;
+import com.voting.system.api.model.dto.response.VoteResponseDTO;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteReceiptStatusEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import com.voting.system.api.model.validation.ICreateValidationGroup;
+import com.voting.system.api.service.interfaces.IVoteService;
+import com.voting.system.api.service.validator.GenericValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoteReceiptServiceTest {
+
+    @Mock
+    private IVoteService voteService;
+
+    @Mock
+    private GenericValidator genericValidator;
+
+    private VoteReceiptService voteReceiptService;
+
+    private VoteRequestDTO voteRequestDTO;
+
+    @BeforeEach
+    void setUp() {
+        voteReceiptService = new VoteReceiptService(voteService, genericValidator, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(voteReceiptService, "workers", 1);
+        ReflectionTestUtils.setField(voteReceiptService, "queueCapacity", 1);
+
+        voteRequestDTO = new VoteRequestDTO();
+        voteRequestDTO.setVotingSessionId(1L);
+        voteRequestDTO.setAssociateId(2L);
+        voteRequestDTO.setValue(VoteValue.YES);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        voteReceiptService.stop();
+    }
+
+    @Test
+    void submit_ShouldReturnPendingReceipt_AndAcceptVoteInBackground() throws InterruptedException {
+        VoteResponseDTO vote = new VoteResponseDTO();
+        vote.setId(10L);
+        when(voteService.vote(voteRequestDTO)).thenReturn(vote);
+        voteReceiptService.start();
+
+        VoteReceiptDTO receipt = voteReceiptService.submit(voteRequestDTO);
+        voteReceiptService.stop();
+
+        assertThat(receipt.getStatus()).isEqualTo(VoteReceiptStatusEnum.PENDING);
+        assertThat(receipt.getAssociateId()).isEqualTo(2L);
+        VoteReceiptDTO completed = voteReceiptService.findReceipt(receipt.getReceiptId());
+        assertThat(completed.getStatus()).isEqualTo(VoteReceiptStatusEnum.ACCEPTED);
+        assertThat(completed.getVoteId()).isEqualTo(10L);
+        assertThat(completed.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void submit_ShouldRejectReceipt_WhenVoteIsRejected() throws InterruptedException {
+        when(voteService.vote(voteRequestDTO)).thenThrow(new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED));
+        voteReceiptService.start();
+
+        VoteReceiptDTO receipt = voteReceiptService.submit(voteRequestDTO);
+        voteReceiptService.stop();
+
+        VoteReceiptDTO completed = voteReceiptService.findReceipt(receipt.getReceiptId());
+        assertThat(completed.getStatus()).isEqualTo(VoteReceiptStatusEnum.REJECTED);
+        assertThat(completed.getReason()).isEqualTo(VoteRejectionReasonEnum.ALREADY_VOTED);
+        assertThat(completed.getMessage()).isEqualTo("Associado já votou nesta sessão");
+    }
+
+    @Test
+    void submit_ShouldMapNotFoundToRejectionReason() throws InterruptedException {
+        when(voteService.vote(voteRequestDTO)).thenThrow(new ResourceNotFoundException("Associado", 2L));
+        voteReceiptService.start();
+
+        VoteReceiptDTO receipt = voteReceiptService.submit(voteRequestDTO);
+        voteReceiptService.stop();
+
+        assertThat(voteReceiptService.findReceipt(receipt.getReceiptId()).getReason())
+            .isEqualTo(VoteRejectionReasonEnum.ASSOCIATE_NOT_FOUND);
+    }
+
+    @Test
+    void submit_ShouldThrowValidationError_BeforeIssuingReceipt() {
+        doThrow(new IllegalArgumentException("Valor do voto é obrigatório"))
+            .when(genericValidator).validate(voteRequestDTO, ICreateValidationGroup.class);
+        voteReceiptService.start();
+
+        assertThatThrownBy(() -> voteReceiptService.submit(voteRequestDTO))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verify(voteService, never()).vote(any());
+    }
+
+    @Test
+    void submit_ShouldThrowIngestionOverloadException_WhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(voteService.vote(voteRequestDTO)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new VoteResponseDTO();
+        });
+        voteReceiptService.start();
+
+        voteReceiptService.submit(voteRequestDTO);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        voteReceiptService.submit(voteRequestDTO);
+
+        assertThatThrownBy(() -> voteReceiptService.submit(voteRequestDTO))
+            .isInstanceOf(IngestionOverloadException.class);
+        release.countDown();
+    }
+
+    @Test
+    void findReceipt_ShouldThrowException_WhenReceiptIsUnknown() {
+        assertThatThrownBy(() -> voteReceiptService.findReceipt("missing"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
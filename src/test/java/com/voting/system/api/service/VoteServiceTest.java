@@ -1,35 +1,68 @@
 package com.voting.system.api.service;
 
+import com.voting.system.api.exception.IngestionOverloadException;
 import com.voting.system.api.exception.ResourceNotFoundException;
 import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.mapper.VoteMapper;
 import com.voting.system.api.model.dto.request.VoteRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import com.voting.system.api.model.dto.response.VoteBatchResponseDTO;
 import com.voting.system.api.model.dto.response.VoteResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
 import com.voting.system.api.model.entity.*;
+import com.voting.system.api.model.enums.AssociateStatusEnum;
+import com.voting.system.api.model.enums.VoteBatchItemStatusEnum;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.repository.AssociateRepository;
 import com.voting.system.api.repository.VoteRepository;
 import com.voting.system.api.repository.VotingSessionRepository;
+import com.voting.system.api.service.associate.AssociateEligibility;
+import com.voting.system.api.service.associate.AssociateEligibilityCache;
+import com.voting.system.api.service.export.VoteExport;
+import com.voting.system.api.service.export.VoteExportWriter;
+import com.voting.system.api.service.ingestion.PendingVote;
+import com.voting.system.api.service.ingestion.VoteBatchWriter;
+import com.voting.system.api.service.ingestion.VoteIngestionLanes;
+import com.voting.system.api.service.ingestion.VoteIngestionMetrics;
+import com.voting.system.api.service.ingestion.VoteWriteBehindQueue;
+import com.voting.system.api.service.journal.VoteJournalIngestion;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import com.voting.system.api.service.pagination.KeysetCursor;
+import com.voting.system.api.service.session.VotingSessionState;
+import com.voting.system.api.service.session.VotingSessionStateCache;
+import com.voting.system.api.service.tally.VoteTallyEngine;
+import com.voting.system.api.service.voted.VotedAssociateIndex;
 import com.voting.system.api.service.validator.GenericValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -48,8 +81,41 @@ class VoteServiceTest {
     @Mock
     private GenericValidator genericValidator;
 
+    @Spy
+    private VoteMapper voteMapper = new VoteMapper();
+
+    @Mock
+    private VoteTallyEngine voteTallyEngine;
+
+    @Mock
+    private VoteWriteBehindQueue voteWriteBehindQueue;
+
+    @Mock
+    private VoteIngestionLanes voteIngestionLanes;
+
+    @Mock
+    private VoteJournalIngestion voteJournalIngestion;
+
+    @Mock
+    private VoteIngestionMetrics voteIngestionMetrics;
+
+    @Mock
+    private VoteBatchWriter voteBatchWriter;
+
+    @Mock
+    private VoteExportWriter voteExportWriter;
+
+    @Mock
+    private VotedAssociateIndex votedAssociateIndex;
+
+    @Mock
+    private VotingSessionStateCache votingSessionStateCache;
+
     @Mock
-    private ModelMapper modelMapper;
+    private AssociateEligibilityCache associateEligibilityCache;
+
+    @Mock
+    private VotingMetrics votingMetrics;
 
     @InjectMocks
     private VoteService voteService;
@@ -108,18 +174,228 @@ class VoteServiceTest {
                 .hasMessageContaining("Sessão de Votação");
 
         verify(voteRepository, never()).save(any());
+        verify(votingMetrics).recordVote(eq(VotingMetrics.VOTE_REJECTED), anyLong());
+        verify(votingMetrics).recordRejection(VoteRejectionReasonEnum.SESSION_NOT_FOUND);
     }
 
     @Test
     void vote_ShouldThrowException_WhenAssociateNotFound() {
         when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
-        when(associateRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.empty());
+        when(votingSessionStateCache.remember(votingSession)).thenReturn(VotingSessionState.of(votingSession));
+        when(associateRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Associado");
 
         verify(voteRepository, never()).save(any());
+        verify(votingMetrics).recordVote(eq(VotingMetrics.VOTE_REJECTED), anyLong());
+        verify(votingMetrics).recordRejection(VoteRejectionReasonEnum.ASSOCIATE_NOT_FOUND);
+    }
+
+    @Test
+    void vote_ShouldRejectFromCachedState_WhenSessionIsClosed() {
+        votingSession.setStatus(VotingSessionStatusEnum.CLOSED);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(VoteException.class)
+            .hasMessage("Só é possível votar em sessões ativas");
+
+        verify(votingSessionRepository, never()).findById(any());
+        verify(associateEligibilityCache, never()).find(anyLong());
+    }
+
+    @Test
+    void vote_ShouldThrowException_WhenCachedAssociateIsInactive() {
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(1L))
+            .thenReturn(new AssociateEligibility(1L, false, true, "Test Associate", Long.MAX_VALUE));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessageContaining("Associado");
+
+        verify(associateRepository, never()).findById(any());
+        verify(votedAssociateIndex, never()).claim(any(), any());
+    }
+
+    @Test
+    void vote_ShouldThrowException_WhenAssociateAlreadyClaimed() {
+        voteRequestDTO.setAssociateId(2L);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(votedAssociateIndex.claim(1L, 2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(VoteException.class)
+            .hasMessage("Associado já votou nesta sessão");
+
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void vote_ShouldRecordRejectionReason_WhenAssociateAlreadyClaimed() {
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(1L)).thenReturn(eligibility(1L, true));
+        when(votedAssociateIndex.claim(1L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO)).isInstanceOf(VoteException.class);
+
+        verify(votingMetrics).recordVote(eq(VotingMetrics.VOTE_REJECTED), anyLong());
+        verify(votingMetrics).recordRejection(VoteRejectionReasonEnum.ALREADY_VOTED);
+    }
+
+    @Test
+    void vote_ShouldRecordErrorOutcome_WhenSaveFails() {
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(1L)).thenReturn(eligibility(1L, true));
+        when(votedAssociateIndex.claim(1L, 1L)).thenReturn(true);
+        when(voteRepository.save(any(Vote.class))).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO)).isInstanceOf(IllegalStateException.class);
+
+        verify(votingMetrics).recordVote(eq(VotingMetrics.VOTE_ERROR), anyLong());
+        verify(votingMetrics, never()).recordRejection(any());
+    }
+
+    @Test
+    void vote_ShouldReleaseClaim_WhenSaveFails() {
+        voteRequestDTO.setAssociateId(2L);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(votedAssociateIndex.claim(1L, 2L)).thenReturn(true);
+        when(voteRepository.save(any(Vote.class))).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(IllegalStateException.class);
+
+        verify(votedAssociateIndex).release(1L, 2L);
+    }
+
+    @Test
+    void vote_ShouldSubmitToLane_WhenModeIsLanes() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.LANES);
+        voteRequestDTO.setAssociateId(2L);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(votedAssociateIndex.claim(1L, 2L)).thenReturn(true);
+        when(votingSessionRepository.getReferenceById(1L)).thenReturn(votingSession);
+        when(associateRepository.getReferenceById(2L)).thenReturn(associateReference(2L));
+        when(voteIngestionLanes.submit(any(PendingVote.class))).thenReturn(20L);
+
+        VoteResponseDTO result = voteService.vote(voteRequestDTO);
+
+        assertThat(result.getId()).isEqualTo(20L);
+        verify(voteIngestionLanes).submit(argThat(pending ->
+            pending.getVotingSessionId().equals(1L) && pending.getAssociateId().equals(2L)));
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void vote_ShouldReleaseClaim_WhenLaneFails() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.LANES);
+        voteRequestDTO.setAssociateId(2L);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(votedAssociateIndex.claim(1L, 2L)).thenReturn(true);
+        when(votingSessionRepository.getReferenceById(1L)).thenReturn(votingSession);
+        when(associateRepository.getReferenceById(2L)).thenReturn(associateReference(2L));
+        when(voteIngestionLanes.submit(any(PendingVote.class)))
+            .thenThrow(new IngestionOverloadException("Fila de votos cheia, tente novamente em instantes"));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(IngestionOverloadException.class);
+
+        verify(votedAssociateIndex).release(1L, 2L);
+    }
+
+    @Test
+    void vote_ShouldSubmitToJournal_WhenModeIsJournal() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.JOURNAL);
+        voteRequestDTO.setAssociateId(2L);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(votedAssociateIndex.claim(1L, 2L)).thenReturn(true);
+        when(votingSessionRepository.getReferenceById(1L)).thenReturn(votingSession);
+        when(associateRepository.getReferenceById(2L)).thenReturn(associateReference(2L));
+        when(voteJournalIngestion.submit(any(PendingVote.class))).thenReturn(30L);
+
+        VoteResponseDTO result = voteService.vote(voteRequestDTO);
+
+        assertThat(result.getId()).isEqualTo(30L);
+        verify(voteJournalIngestion).submit(argThat(pending ->
+            pending.getVotingSessionId().equals(1L) && pending.getAssociateId().equals(2L)));
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void vote_ShouldInsertInSingleStatement_WhenModeIsSingleStatement() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.SINGLE_STATEMENT);
+        voteRequestDTO.setAssociateId(2L);
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(voteRepository.insertIfSessionOpen(eq(1L), eq(2L), eq("YES"), any(OffsetDateTime.class)))
+            .thenReturn(Optional.of(10L));
+        when(votingSessionRepository.getReferenceById(1L)).thenReturn(votingSession);
+        when(associateRepository.getReferenceById(2L)).thenReturn(associateReference(2L));
+
+        VoteResponseDTO result = voteService.vote(voteRequestDTO);
+
+        assertThat(result.getId()).isEqualTo(10L);
+        assertThat(result.getAssociateName()).isEqualTo("Associate 2");
+        verify(votingSessionRepository, never()).findById(any());
+        verify(voteRepository, never()).save(any());
+        verify(votedAssociateIndex).claim(1L, 2L);
+        verify(voteTallyEngine).record(1L, VoteValue.YES);
+    }
+
+    @Test
+    void vote_ShouldMapConstraintViolation_WhenSingleStatementInsertIsDuplicate() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.SINGLE_STATEMENT);
+        voteRequestDTO.setAssociateId(2L);
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(voteRepository.insertIfSessionOpen(eq(1L), eq(2L), eq("YES"), any(OffsetDateTime.class)))
+            .thenThrow(new DataIntegrityViolationException("unique_vote_per_session"));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(VoteException.class)
+            .hasMessage("Associado já votou nesta sessão");
+
+        verify(voteTallyEngine, never()).record(any(), any());
+    }
+
+    @Test
+    void vote_ShouldExplainRejection_WhenSingleStatementInsertsNothing() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.SINGLE_STATEMENT);
+        votingSession.setStatus(VotingSessionStatusEnum.CLOSED);
+        voteRequestDTO.setAssociateId(2L);
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(voteRepository.insertIfSessionOpen(eq(1L), eq(2L), eq("YES"), any(OffsetDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(VoteException.class)
+            .hasMessage("Só é possível votar em sessões ativas");
+
+        verify(votedAssociateIndex, never()).claim(any(), any());
+    }
+
+    @Test
+    void vote_ShouldThrowNotFound_WhenSingleStatementAssociateIsInactive() {
+        ReflectionTestUtils.setField(voteService, "ingestionMode", VoteIngestionModeEnum.SINGLE_STATEMENT);
+        voteRequestDTO.setAssociateId(2L);
+        when(associateEligibilityCache.find(2L)).thenReturn(eligibility(2L, true));
+        when(voteRepository.insertIfSessionOpen(eq(1L), eq(2L), eq("YES"), any(OffsetDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
+        when(associateRepository.findByIdAndIsActiveTrue(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> voteService.vote(voteRequestDTO))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessageContaining("Associado");
+
+        verify(associateEligibilityCache).invalidate(2L);
     }
 
     @Test
@@ -127,7 +403,6 @@ class VoteServiceTest {
         Page<Vote> votePage = new PageImpl<>(Arrays.asList(vote));
         when(voteRepository.findByVotingSessionIdOrderByVoteTimeDesc(eq(1L), any(Pageable.class)))
                 .thenReturn(votePage);
-        when(modelMapper.map(vote, VoteResponseDTO.class)).thenReturn(voteResponseDTO);
 
         Page<VoteResponseDTO> result = voteService.findByVotingSessionId(1L, Pageable.unpaged());
 
@@ -137,11 +412,32 @@ class VoteServiceTest {
     }
 
     @Test
-    void getVotingResult_ShouldReturnResult() {
-        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
-        when(voteRepository.countByVotingSessionId(1L)).thenReturn(10L);
-        when(voteRepository.countByVotingSessionIdAndValue(1L, VoteValue.YES)).thenReturn(7L);
-        when(voteRepository.countByVotingSessionIdAndValue(1L, VoteValue.NO)).thenReturn(3L);
+    void findByVotingSessionId_ShouldSeekAfterCursor() {
+        OffsetDateTime voteTime = OffsetDateTime.parse("2026-10-18T12:00:00Z");
+        when(voteRepository.findKeysetPageAfter(eq(1L), eq(voteTime), eq(9L), any(Pageable.class)))
+                .thenReturn(List.of(vote));
+
+        CursorPageDTO<VoteResponseDTO> result = voteService.findByVotingSessionId(1L,
+            KeysetCursor.of(voteTime, 9L).encode(), 50);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getHasNext()).isFalse();
+        verify(voteRepository, never()).findFirstKeysetPage(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void findByVotingSessionId_ShouldRejectCursorWithoutVoteTime() {
+        String sessionCursor = KeysetCursor.of(9L).encode();
+
+        assertThatThrownBy(() -> voteService.findByVotingSessionId(1L, sessionCursor, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(voteRepository);
+    }
+
+    @Test
+    void getVotingResult_ShouldReturnResultFromTally() {
+        when(voteTallyEngine.findResult(1L))
+                .thenReturn(Optional.of(new VotingResultDTO(1L, "Test Agenda", 1L, 10L, 7L, 3L, "APROVADA")));
 
         VotingResultDTO result = voteService.getVotingResult(1L);
 
@@ -151,25 +447,198 @@ class VoteServiceTest {
         assertThat(result.getYesVotes()).isEqualTo(7L);
         assertThat(result.getNoVotes()).isEqualTo(3L);
         assertThat(result.getResult()).isEqualTo("APROVADA");
+        verifyNoInteractions(votingSessionRepository, voteRepository);
+    }
+
+    @Test
+    void getVotingResult_ShouldLoadTally_WhenSessionNotTracked() {
+        VotingResultDTO loaded = new VotingResultDTO(1L, "Test Agenda", 1L, 0L, 0L, 0L, "EMPATE");
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.empty());
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
+        when(voteTallyEngine.load(votingSession)).thenReturn(loaded);
+
+        VotingResultDTO result = voteService.getVotingResult(1L);
+
+        assertThat(result).isSameAs(loaded);
+        verify(voteTallyEngine).load(votingSession);
+    }
+
+    @Test
+    void getVotingResult_ShouldThrowException_WhenVotingSessionNotFound() {
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.empty());
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> voteService.getVotingResult(1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void exportByVotingSessionId_ShouldDelegateToWriter_WhenSessionExists() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(VotingSessionState.of(votingSession)));
+        when(voteExportWriter.write(1L, VoteExportFormatEnum.CSV, out)).thenReturn(2L);
+
+        VoteExport export = voteService.exportByVotingSessionId(1L, VoteExportFormatEnum.CSV);
+
+        verifyNoInteractions(voteExportWriter);
+        assertThat(export.writeTo(out)).isEqualTo(2L);
+        verify(voteExportWriter).write(1L, VoteExportFormatEnum.CSV, out);
+    }
+
+    @Test
+    void exportByVotingSessionId_ShouldThrowException_WhenVotingSessionNotFound() {
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.empty());
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> voteService.exportByVotingSessionId(1L, VoteExportFormatEnum.NDJSON))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(voteExportWriter);
     }
 
     @Test
     void hasAssociateVoted_ShouldReturnTrue_WhenAssociateVoted() {
-        when(voteRepository.existsByVotingSessionIdAndAssociateId(1L, 1L)).thenReturn(true);
+        when(votedAssociateIndex.hasVoted(1L, 1L)).thenReturn(true);
 
         boolean result = voteService.hasAssociateVoted(1L, 1L);
 
         assertThat(result).isTrue();
-        verify(voteRepository).existsByVotingSessionIdAndAssociateId(1L, 1L);
+        verify(votedAssociateIndex).hasVoted(1L, 1L);
     }
 
     @Test
     void hasAssociateVoted_ShouldReturnFalse_WhenAssociateNotVoted() {
-        when(voteRepository.existsByVotingSessionIdAndAssociateId(1L, 1L)).thenReturn(false);
+        when(votedAssociateIndex.hasVoted(1L, 1L)).thenReturn(false);
 
         boolean result = voteService.hasAssociateVoted(1L, 1L);
 
         assertThat(result).isFalse();
-        verify(voteRepository).existsByVotingSessionIdAndAssociateId(1L, 1L);
+        verify(votedAssociateIndex).hasVoted(1L, 1L);
+    }
+
+    @Test
+    void voteBatch_ShouldInsertEligibleVotesAndRejectOthers() {
+        Associate eligible = eligibleAssociate(2L);
+        Associate votedBefore = eligibleAssociate(3L);
+
+        VoteRequestDTO notEligible = request(1L, 1L, VoteValue.YES);
+        VoteRequestDTO accepted = request(1L, 2L, VoteValue.NO);
+        VoteRequestDTO unknownSession = request(99L, 2L, VoteValue.YES);
+        VoteRequestDTO duplicated = request(1L, 2L, VoteValue.YES);
+        VoteRequestDTO alreadyVoted = request(1L, 3L, VoteValue.YES);
+
+        when(votingSessionRepository.findAllById(anyCollection())).thenReturn(List.of(votingSession));
+        when(votingSessionStateCache.remember(votingSession)).thenReturn(VotingSessionState.of(votingSession));
+        when(associateRepository.findAllById(anyCollection())).thenReturn(List.of(associate, eligible, votedBefore));
+        when(associateEligibilityCache.put(any(Associate.class))).thenAnswer(invocation -> {
+            Associate loaded = invocation.getArgument(0);
+            return eligibility(loaded.getId(), loaded.getStatus() == AssociateStatusEnum.ABLE_TO_VOTE);
+        });
+        when(votedAssociateIndex.claim(1L, 2L)).thenReturn(true, false);
+        when(votedAssociateIndex.claim(1L, 3L)).thenReturn(false);
+        doAnswer(invocation -> {
+            List<PendingVote> pendingVotes = invocation.getArgument(0);
+            pendingVotes.forEach(pendingVote -> pendingVote.complete(10L));
+            return null;
+        }).when(voteBatchWriter).write(anyList(), eq(VoteIngestionMetrics.SOURCE_BATCH));
+
+        VoteBatchResponseDTO result = voteService.voteBatch(
+            List.of(notEligible, accepted, unknownSession, duplicated, alreadyVoted));
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(4);
+        assertThat(result.getResults().get(0).getReason()).isEqualTo(VoteRejectionReasonEnum.ASSOCIATE_NOT_ELIGIBLE);
+        assertThat(result.getResults().get(1).getStatus()).isEqualTo(VoteBatchItemStatusEnum.ACCEPTED);
+        assertThat(result.getResults().get(1).getVoteId()).isEqualTo(10L);
+        assertThat(result.getResults().get(2).getReason()).isEqualTo(VoteRejectionReasonEnum.SESSION_NOT_FOUND);
+        assertThat(result.getResults().get(2).getMessage()).isEqualTo("Sessão de Votação não encontrado com ID: 99");
+        assertThat(result.getResults().get(3).getReason()).isEqualTo(VoteRejectionReasonEnum.ALREADY_VOTED);
+        assertThat(result.getResults().get(4).getReason()).isEqualTo(VoteRejectionReasonEnum.ALREADY_VOTED);
+        verify(voteBatchWriter).write(argThat(votes -> votes.size() == 1), eq(VoteIngestionMetrics.SOURCE_BATCH));
+        verify(votingMetrics).recordRejection(VoteRejectionReasonEnum.ASSOCIATE_NOT_ELIGIBLE);
+        verify(votingMetrics).recordRejection(VoteRejectionReasonEnum.SESSION_NOT_FOUND);
+        verify(votingMetrics, times(2)).recordRejection(VoteRejectionReasonEnum.ALREADY_VOTED);
+    }
+
+    @Test
+    void voteBatch_ShouldRejectOnlyFailedItem_WhenSingleRowFallbackFails() {
+        Associate eligible = eligibleAssociate(2L);
+        Associate failing = eligibleAssociate(3L);
+
+        when(votingSessionRepository.findAllById(anyCollection())).thenReturn(List.of(votingSession));
+        when(votingSessionStateCache.remember(votingSession)).thenReturn(VotingSessionState.of(votingSession));
+        when(associateRepository.findAllById(anyCollection())).thenReturn(List.of(eligible, failing));
+        when(associateEligibilityCache.put(any(Associate.class))).thenAnswer(invocation -> {
+            Associate loaded = invocation.getArgument(0);
+            return eligibility(loaded.getId(), loaded.getStatus() == AssociateStatusEnum.ABLE_TO_VOTE);
+        });
+        when(votedAssociateIndex.claim(eq(1L), anyLong())).thenReturn(true);
+        doAnswer(invocation -> {
+            List<PendingVote> pendingVotes = invocation.getArgument(0);
+            pendingVotes.get(0).complete(10L);
+            pendingVotes.get(1).fail(new IllegalStateException("connection reset"));
+            return null;
+        }).when(voteBatchWriter).write(anyList(), eq(VoteIngestionMetrics.SOURCE_BATCH));
+
+        VoteBatchResponseDTO result = voteService.voteBatch(
+            List.of(request(1L, 2L, VoteValue.YES), request(1L, 3L, VoteValue.NO)));
+
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getStatus()).isEqualTo(VoteBatchItemStatusEnum.ACCEPTED);
+        assertThat(result.getResults().get(0).getVoteId()).isEqualTo(10L);
+        assertThat(result.getResults().get(1).getStatus()).isEqualTo(VoteBatchItemStatusEnum.REJECTED);
+        assertThat(result.getResults().get(1).getReason()).isNull();
+        assertThat(result.getResults().get(1).getMessage()).isEqualTo("Erro ao registrar o voto");
+        verify(votedAssociateIndex).release(1L, 3L);
+        verify(votedAssociateIndex, never()).release(1L, 2L);
+    }
+
+    @Test
+    void voteBatch_ShouldRejectItem_WhenValidationFails() {
+        doThrow(new IllegalArgumentException("O valor do voto é obrigatório; "))
+            .when(genericValidator).validate(any(VoteRequestDTO.class), eq(ICreateValidationGroup.class));
+
+        VoteBatchResponseDTO result = voteService.voteBatch(List.of(request(1L, 1L, null)));
+
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getReason()).isEqualTo(VoteRejectionReasonEnum.INVALID_REQUEST);
+        verify(votingSessionRepository, never()).findAllById(anyCollection());
+        verify(voteBatchWriter).write(Collections.emptyList(), VoteIngestionMetrics.SOURCE_BATCH);
+    }
+
+    @Test
+    void voteBatch_ShouldThrowException_WhenBatchIsEmpty() {
+        assertThatThrownBy(() -> voteService.voteBatch(Collections.emptyList()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("O lote de votos não pode ser vazio");
+
+        verify(voteBatchWriter, never()).write(anyList(), any());
+    }
+
+    private Associate associateReference(Long id) {
+        Associate reference = new Associate();
+        reference.setId(id);
+        return reference;
+    }
+
+    private AssociateEligibility eligibility(Long associateId, boolean eligible) {
+        return new AssociateEligibility(associateId, true, eligible, "Associate " + associateId, Long.MAX_VALUE);
+    }
+
+    private Associate eligibleAssociate(Long id) {
+        Associate eligibleAssociate = spy(new Associate());
+        eligibleAssociate.setId(id);
+        eligibleAssociate.setName("Eligible Associate");
+        doReturn(AssociateStatusEnum.ABLE_TO_VOTE).when(eligibleAssociate).getStatus();
+        return eligibleAssociate;
+    }
+
+    private VoteRequestDTO request(Long votingSessionId, Long associateId, VoteValue value) {
+        VoteRequestDTO requestDTO = new VoteRequestDTO();
+        requestDTO.setVotingSessionId(votingSessionId);
+        requestDTO.setAssociateId(associateId);
+        requestDTO.setValue(value);
+        return requestDTO;
     }
 }
@@ -2,7 +2,10 @@ package com.voting.system.api.service;
 
 
 import com.voting.system.api.exception.ResourceNotFoundException;
+import com.voting.system.api.exception.VotingSessionException;
+import com.voting.system.api.mapper.VotingSessionMapper;
 import com.voting.system.api.model.dto.request.VotingSessionRequestDTO;
+import com.voting.system.api.model.dto.response.CursorPageDTO;
 import com.voting.system.api.model.dto.response.VotingSessionResponseDTO;
 import com.voting.system.api.model.dto.response.VotingResultDTO;
 import com.voting.system.api.model.entity.Agenda;
@@ -10,16 +13,19 @@ import com.voting.system.api.model.entity.VotingSession;
 import com.voting.system.api.model.enums.VotingSessionStatusEnum;
 import com.voting.system.api.model.validation.ICreateValidationGroup;
 import com.voting.system.api.repository.VotingSessionRepository;
-import com.voting.system.api.repository.VoteRepository;
 import com.voting.system.api.repository.AgendaRepository;
+import com.voting.system.api.service.pagination.KeysetCursor;
+import com.voting.system.api.service.session.VotingSessionExpirationScheduler;
+import com.voting.system.api.service.session.VotingSessionStateCache;
+import com.voting.system.api.service.tally.VoteTallyEngine;
 import com.voting.system.api.service.validator.GenericValidator;
+import com.voting.system.api.service.voted.VotedAssociateIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +33,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import java.util.Optional;
 
@@ -44,13 +51,22 @@ class VotingSessionServiceTest {
     private AgendaRepository agendaRepository;
 
     @Mock
-    private VoteRepository voteRepository;
+    private VoteTallyEngine voteTallyEngine;
 
     @Mock
     private GenericValidator genericValidator;
 
     @Mock
-    private ModelMapper modelMapper;
+    private VotingSessionMapper votingSessionMapper;
+
+    @Mock
+    private VotingSessionStateCache votingSessionStateCache;
+
+    @Mock
+    private VotingSessionExpirationScheduler votingSessionExpirationScheduler;
+
+    @Mock
+    private VotedAssociateIndex votedAssociateIndex;
 
     @InjectMocks
     private VotingSessionService votingSessionService;
@@ -94,8 +110,9 @@ class VotingSessionServiceTest {
         doNothing().when(genericValidator).validate(votingSessionRequestDTO, ICreateValidationGroup.class);
         when(agendaRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(agenda));
         when(votingSessionRepository.existsByAgendaIdAndStatusIn(1L, VotingSessionStatusEnum.PENDING, VotingSessionStatusEnum.ACTIVE)).thenReturn(false);
+        when(votingSessionMapper.toEntity(votingSessionRequestDTO, agenda)).thenReturn(new VotingSession());
         when(votingSessionRepository.save(any(VotingSession.class))).thenReturn(votingSession);
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         VotingSessionResponseDTO result = votingSessionService.create(votingSessionRequestDTO);
 
@@ -125,7 +142,7 @@ class VotingSessionServiceTest {
     @Test
     void findById_ShouldReturnVotingSession_WhenVotingSessionExists() {
         when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         VotingSessionResponseDTO result = votingSessionService.findById(1L);
 
@@ -142,14 +159,14 @@ class VotingSessionServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> votingSessionService.findById(1L));
 
         verify(votingSessionRepository).findById(1L);
-        verify(modelMapper, never()).map(any(), any());
+        verify(votingSessionMapper, never()).toResponseDTO(any());
     }
 
     @Test
     void findAll_ShouldReturnPageOfVotingSessions() {
         Page<VotingSession> votingSessionPage = new PageImpl<>(Arrays.asList(votingSession));
         when(votingSessionRepository.findAll(pageable)).thenReturn(votingSessionPage);
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         Page<VotingSessionResponseDTO> result = votingSessionService.findAll(pageable);
 
@@ -163,7 +180,7 @@ class VotingSessionServiceTest {
     void findByAgendaId_ShouldReturnVotingSessions() {
         Page<VotingSession> votingSessionPage = new PageImpl<>(Arrays.asList(votingSession));
         when(votingSessionRepository.findByAgendaId(1L, pageable)).thenReturn(votingSessionPage);
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         Page<VotingSessionResponseDTO> result = votingSessionService.findByAgendaId(1L, pageable);
 
@@ -177,7 +194,7 @@ class VotingSessionServiceTest {
     void findByStatus_ShouldReturnVotingSessions() {
         Page<VotingSession> votingSessionPage = new PageImpl<>(Arrays.asList(votingSession));
         when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE, pageable)).thenReturn(votingSessionPage);
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         Page<VotingSessionResponseDTO> result = votingSessionService.findByStatus(VotingSessionStatusEnum.ACTIVE, pageable);
 
@@ -187,12 +204,44 @@ class VotingSessionServiceTest {
         verify(votingSessionRepository).findByStatus(VotingSessionStatusEnum.ACTIVE, pageable);
     }
 
+    @Test
+    void findByStatus_ShouldSeekAfterCursor_WhenCursorIsGiven() {
+        when(votingSessionRepository.findKeysetPageByStatusAfter(eq(VotingSessionStatusEnum.ACTIVE), eq(10L), any(Pageable.class)))
+            .thenReturn(List.of(votingSession));
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
+
+        CursorPageDTO<VotingSessionResponseDTO> result = votingSessionService.findByStatus(
+            VotingSessionStatusEnum.ACTIVE, KeysetCursor.of(10L).encode(), 20);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.getHasNext());
+        assertNull(result.getNextCursor());
+        verify(votingSessionRepository).findKeysetPageByStatusAfter(VotingSessionStatusEnum.ACTIVE, 10L, PageRequest.ofSize(21));
+        verify(votingSessionRepository, never()).findFirstKeysetPageByStatus(any(), any());
+    }
+
+    @Test
+    void findByAgendaId_ShouldReturnNextCursor_WhenMoreSessionsExist() {
+        VotingSession older = new VotingSession();
+        older.setId(0L);
+        older.setAgenda(votingSession.getAgenda());
+        when(votingSessionRepository.findFirstKeysetPageByAgendaId(1L, PageRequest.ofSize(2)))
+            .thenReturn(List.of(votingSession, older));
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
+
+        CursorPageDTO<VotingSessionResponseDTO> result = votingSessionService.findByAgendaId(1L, null, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.getHasNext());
+        assertEquals(votingSession.getId(), KeysetCursor.decode(result.getNextCursor()).id());
+    }
+
     @Test
     void start_ShouldStartSession() {
         votingSession.setStatus(VotingSessionStatusEnum.PENDING);
         when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
         when(votingSessionRepository.save(any(VotingSession.class))).thenReturn(votingSession);
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         VotingSessionResponseDTO result = votingSessionService.start(1L);
 
@@ -202,13 +251,16 @@ class VotingSessionServiceTest {
         assertNotNull(votingSession.getEndTime());
         verify(votingSessionRepository).findById(1L);
         verify(votingSessionRepository).save(votingSession);
+        verify(voteTallyEngine).registerAfterCommit(votingSession);
+        verify(votingSessionStateCache).putAfterCommit(votingSession);
+        verify(votingSessionExpirationScheduler).scheduleAfterCommit(votingSession);
     }
 
     @Test
     void close_ShouldCloseSession() {
         when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
         when(votingSessionRepository.save(any(VotingSession.class))).thenReturn(votingSession);
-        when(modelMapper.map(votingSession, VotingSessionResponseDTO.class)).thenReturn(votingSessionResponseDTO);
+        when(votingSessionMapper.toResponseDTO(votingSession)).thenReturn(votingSessionResponseDTO);
 
         VotingSessionResponseDTO result = votingSessionService.close(1L);
 
@@ -216,6 +268,8 @@ class VotingSessionServiceTest {
         assertEquals(VotingSessionStatusEnum.CLOSED, votingSession.getStatus());
         verify(votingSessionRepository).findById(1L);
         verify(votingSessionRepository).save(votingSession);
+        verify(votingSessionStateCache).putAfterCommit(votingSession);
+        verify(votedAssociateIndex).evictAfterCommit(votingSession.getId());
     }
 
     @Test
@@ -229,6 +283,7 @@ class VotingSessionServiceTest {
         assertEquals(VotingSessionStatusEnum.CLOSED, votingSession.getStatus());
         verify(votingSessionRepository).findExpiredSessions(any(OffsetDateTime.class));
         verify(votingSessionRepository).save(votingSession);
+        verify(votedAssociateIndex).evictAfterCommit(votingSession.getId());
     }
 
     @Test
@@ -240,9 +295,8 @@ class VotingSessionServiceTest {
 
     @Test
     void getResult_ShouldReturnVotingResult() {
-        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
-        when(voteRepository.countByVotingSessionId(1L)).thenReturn(10L);
-        when(voteRepository.countByVotingSessionIdAndValue(eq(1L), any())).thenReturn(7L, 3L);
+        when(voteTallyEngine.findResult(1L))
+                .thenReturn(Optional.of(new VotingResultDTO(1L, "Test Agenda", 1L, 10L, 7L, 3L, "APROVADA")));
 
         VotingResultDTO result = votingSessionService.getResult(1L);
 
@@ -250,7 +304,18 @@ class VotingSessionServiceTest {
         assertEquals(1L, result.getAgendaId());
         assertEquals(1L, result.getVotingSessionId());
         assertEquals(10L, result.getTotalVotes());
-        verify(votingSessionRepository).findById(1L);
-        verify(voteRepository).countByVotingSessionId(1L);
+        verify(voteTallyEngine).findResult(1L);
+        verify(votingSessionRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getResult_ShouldThrowVotingSessionException_WhenSessionIsPending() {
+        votingSession.setStatus(VotingSessionStatusEnum.PENDING);
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.empty());
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(votingSession));
+
+        assertThrows(VotingSessionException.class, () -> votingSessionService.getResult(1L));
+
+        verify(voteTallyEngine, never()).load(any());
     }
 }
@@ -0,0 +1,93 @@
+package com.voting.system.api.service.associate;
+
+import com.voting.system.api.model.entity.Associate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssociateEligibilityCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AssociateEligibilityCache associateEligibilityCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        associateEligibilityCache = new AssociateEligibilityCache(meterRegistry);
+        ReflectionTestUtils.setField(associateEligibilityCache, "capacity", 16);
+        ReflectionTestUtils.setField(associateEligibilityCache, "eligibilityTtlSeconds", 300L);
+        associateEligibilityCache.init();
+    }
+
+    @Test
+    void find_ShouldReturnCachedEligibility_AfterPut() {
+        associateEligibilityCache.put(associate(1L, true));
+
+        AssociateEligibility eligibility = associateEligibilityCache.find(1L);
+
+        assertThat(eligibility).isNotNull();
+        assertThat(eligibility.associateId()).isEqualTo(1L);
+        assertThat(eligibility.active()).isTrue();
+        assertThat(eligibility.eligible()).isFalse();
+        assertThat(eligibility.name()).isEqualTo("Associate 1");
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isZero();
+    }
+
+    @Test
+    void find_ShouldMiss_WhenSlotHoldsAnotherAssociate() {
+        associateEligibilityCache.put(associate(1L, true));
+        associateEligibilityCache.put(associate(17L, false));
+
+        assertThat(associateEligibilityCache.find(1L)).isNull();
+        assertThat(associateEligibilityCache.find(17L)).isNotNull()
+            .satisfies(eligibility -> assertThat(eligibility.active()).isFalse());
+        assertThat(requests("miss")).isEqualTo(1.0);
+        assertThat(requests("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void find_ShouldMiss_WhenEntryExpired() {
+        ReflectionTestUtils.setField(associateEligibilityCache, "eligibilityTtlSeconds", 0L);
+        associateEligibilityCache.init();
+        associateEligibilityCache.put(associate(1L, true));
+
+        assertThat(associateEligibilityCache.find(1L)).isNull();
+    }
+
+    @Test
+    void invalidate_ShouldRemoveOnlyMatchingAssociate() {
+        associateEligibilityCache.put(associate(2L, true));
+
+        associateEligibilityCache.invalidate(18L);
+        assertThat(associateEligibilityCache.find(2L)).isNotNull();
+
+        associateEligibilityCache.invalidateAfterCommit(2L);
+        assertThat(associateEligibilityCache.find(2L)).isNull();
+    }
+
+    @Test
+    void init_ShouldRoundCapacityToPowerOfTwo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AssociateEligibilityCache cache = new AssociateEligibilityCache(registry);
+        ReflectionTestUtils.setField(cache, "capacity", 1000);
+        cache.init();
+
+        assertThat(registry.get("voting.associate.cache.capacity").gauge().value()).isEqualTo(1024.0);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("voting.associate.cache.requests").tag("result", result).counter().count();
+    }
+
+    private Associate associate(Long id, boolean active) {
+        Associate associate = new Associate();
+        associate.setId(id);
+        associate.setName("Associate " + id);
+        associate.setIsActive(active);
+        return associate;
+    }
+}
@@ -0,0 +1,118 @@
+package com.voting.system.api.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.Associate;
+import com.voting.system.api.model.entity.Vote;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VoteExportFormatEnum;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class VoteExportWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private VoteExportWriter voteExportWriter;
+    private VotingSession votingSession;
+
+    @BeforeEach
+    void setUp() {
+        voteExportWriter = new VoteExportWriter(jdbcTemplate, objectMapper);
+
+        Agenda agenda = new Agenda();
+        agenda.setTitle("Pauta");
+        entityManager.persist(agenda);
+
+        votingSession = new VotingSession();
+        votingSession.setAgenda(agenda);
+        votingSession.setStatus(VotingSessionStatusEnum.ACTIVE);
+        entityManager.persist(votingSession);
+
+        VotingSession otherSession = new VotingSession();
+        otherSession.setAgenda(agenda);
+        entityManager.persist(otherSession);
+
+        persistVote(votingSession, associate("12345678901", "Maria"), VoteValue.YES);
+        persistVote(votingSession, associate("12345678902", "Silva, \"João\""), VoteValue.NO);
+        persistVote(otherSession, associate("12345678903", "Ana"), VoteValue.YES);
+        entityManager.flush();
+    }
+
+    @Test
+    void write_ShouldStreamOneJsonObjectPerLine_WhenFormatIsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = voteExportWriter.write(votingSession.getId(), VoteExportFormatEnum.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("votingSessionId").asLong()).isEqualTo(votingSession.getId());
+        assertThat(first.get("associateName").asText()).isEqualTo("Maria");
+        assertThat(first.get("value").asText()).isEqualTo("YES");
+        assertThat(objectMapper.readTree(lines.get(1)).get("associateName").asText()).isEqualTo("Silva, \"João\"");
+    }
+
+    @Test
+    void write_ShouldWriteHeaderAndEscapeNames_WhenFormatIsCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = voteExportWriter.write(votingSession.getId(), VoteExportFormatEnum.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("id,votingSessionId,associateId,associateName,value,voteTime");
+        assertThat(lines.get(1)).contains(",Maria,YES,");
+        assertThat(lines.get(2)).contains(",\"Silva, \"\"João\"\"\",NO,");
+    }
+
+    @Test
+    void write_ShouldWriteNothing_WhenSessionHasNoVotes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = voteExportWriter.write(Long.MAX_VALUE, VoteExportFormatEnum.NDJSON, out);
+
+        assertThat(rows).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    private Associate associate(String cpf, String name) {
+        Associate associate = new Associate();
+        associate.setCpf(cpf);
+        associate.setName(name);
+        return entityManager.persist(associate);
+    }
+
+    private void persistVote(VotingSession session, Associate associate, VoteValue value) {
+        Vote vote = new Vote();
+        vote.setVotingSession(session);
+        vote.setAssociate(associate);
+        vote.setValue(value);
+        vote.setVoteTime(OffsetDateTime.now());
+        entityManager.persist(vote);
+    }
+}
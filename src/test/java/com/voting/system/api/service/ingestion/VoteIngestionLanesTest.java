@@ -0,0 +1,120 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class VoteIngestionLanesTest {
+
+    @Mock
+    private VoteBatchWriter voteBatchWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VoteIngestionLanes voteIngestionLanes;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final Map<Long, Set<String>> writerThreadsBySession = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        voteIngestionLanes = new VoteIngestionLanes(voteBatchWriter, meterRegistry);
+        ReflectionTestUtils.setField(voteIngestionLanes, "ingestionMode", VoteIngestionModeEnum.LANES);
+        ReflectionTestUtils.setField(voteIngestionLanes, "laneCount", 4);
+        ReflectionTestUtils.setField(voteIngestionLanes, "ringSize", 256);
+        ReflectionTestUtils.setField(voteIngestionLanes, "batchSize", 50);
+        ReflectionTestUtils.setField(voteIngestionLanes, "submitTimeoutMs", 100L);
+        ReflectionTestUtils.setField(voteIngestionLanes, "awaitTimeoutMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        voteIngestionLanes.stop();
+    }
+
+    @Test
+    void submit_ShouldWriteEachSessionFromASingleLaneThread() throws Exception {
+        doAnswer(invocation -> {
+            List<PendingVote> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            batch.forEach(vote -> {
+                writerThreadsBySession.computeIfAbsent(vote.getVotingSessionId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+                vote.complete(ids.incrementAndGet());
+            });
+            return null;
+        }).when(voteBatchWriter).write(any(), eq(VoteIngestionMetrics.SOURCE_LANES));
+        voteIngestionLanes.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<Long>> results = new ArrayList<>();
+        for (long associateId = 1; associateId <= 400; associateId++) {
+            PendingVote vote = new PendingVote(associateId % 8, associateId, VoteValue.YES, OffsetDateTime.now());
+            results.add(executor.submit(() -> voteIngestionLanes.submit(vote)));
+        }
+        for (Future<Long> result : results) {
+            assertThat(result.get()).isPositive();
+        }
+        executor.shutdown();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(400);
+        assertThat(batchSizes).allMatch(size -> size <= 50);
+        assertThat(writerThreadsBySession).hasSize(8);
+        assertThat(writerThreadsBySession.values()).allMatch(threads -> threads.size() == 1);
+        assertThat(meterRegistry.find("voting.ingestion.lane.depth").gauges()).hasSize(4);
+    }
+
+    @Test
+    void submit_ShouldRethrowVoteException_WhenVoteIsRejected() {
+        doAnswer(invocation -> {
+            List<PendingVote> batch = invocation.getArgument(0);
+            batch.forEach(vote -> vote.fail(new VoteException(VoteRejectionReasonEnum.ALREADY_VOTED)));
+            return null;
+        }).when(voteBatchWriter).write(any(), eq(VoteIngestionMetrics.SOURCE_LANES));
+        voteIngestionLanes.start();
+
+        PendingVote vote = new PendingVote(1L, 1L, VoteValue.NO, OffsetDateTime.now());
+
+        assertThatThrownBy(() -> voteIngestionLanes.submit(vote))
+            .isInstanceOf(VoteException.class)
+            .hasMessage("Associado já votou nesta sessão");
+    }
+
+    @Test
+    void submit_ShouldThrowIngestionOverloadException_WhenNotStarted() {
+        PendingVote vote = new PendingVote(1L, 1L, VoteValue.NO, OffsetDateTime.now());
+
+        assertThatThrownBy(() -> voteIngestionLanes.submit(vote))
+            .isInstanceOf(IngestionOverloadException.class);
+    }
+}
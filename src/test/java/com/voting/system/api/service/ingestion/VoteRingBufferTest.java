@@ -0,0 +1,84 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.model.entity.VoteValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteRingBufferTest {
+
+    @Test
+    void offer_ShouldRejectVote_WhenRingIsFull() {
+        VoteRingBuffer ring = new VoteRingBuffer(4);
+
+        for (long associateId = 1; associateId <= 4; associateId++) {
+            assertThat(ring.offer(vote(associateId))).isTrue();
+        }
+
+        assertThat(ring.offer(vote(5L))).isFalse();
+        assertThat(ring.size()).isEqualTo(4);
+    }
+
+    @Test
+    void drainTo_ShouldReturnVotesInOrder_AndFreeSlots() {
+        VoteRingBuffer ring = new VoteRingBuffer(4);
+        for (long associateId = 1; associateId <= 4; associateId++) {
+            ring.offer(vote(associateId));
+        }
+
+        List<PendingVote> batch = new ArrayList<>();
+        assertThat(ring.drainTo(batch, 3)).isEqualTo(3);
+
+        assertThat(batch).extracting(PendingVote::getAssociateId).containsExactly(1L, 2L, 3L);
+        assertThat(ring.offer(vote(5L))).isTrue();
+        batch.clear();
+        assertThat(ring.drainTo(batch, 10)).isEqualTo(2);
+        assertThat(batch).extracting(PendingVote::getAssociateId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void offer_ShouldDeliverEveryVoteOnce_WithConcurrentProducers() throws InterruptedException {
+        VoteRingBuffer ring = new VoteRingBuffer(64);
+        int producers = 8;
+        int votesPerProducer = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            long offset = (long) p * votesPerProducer;
+            executor.execute(() -> {
+                for (long i = 1; i <= votesPerProducer; i++) {
+                    PendingVote vote = vote(offset + i);
+                    while (!ring.offer(vote)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        Set<Long> received = new HashSet<>();
+        List<PendingVote> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < producers * votesPerProducer && System.nanoTime() < deadline) {
+            if (ring.drainTo(batch, 32) == 0) {
+                Thread.yield();
+            }
+            batch.forEach(vote -> assertThat(received.add(vote.getAssociateId())).isTrue());
+            batch.clear();
+        }
+        executor.shutdown();
+
+        assertThat(received).hasSize(producers * votesPerProducer);
+    }
+
+    private PendingVote vote(Long associateId) {
+        return new PendingVote(1L, associateId, VoteValue.YES, OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,107 @@
+package com.voting.system.api.service.ingestion;
+
+import com.voting.system.api.exception.IngestionOverloadException;
+import com.voting.system.api.exception.VoteException;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class VoteWriteBehindQueueTest {
+
+    @Mock
+    private VoteBatchWriter voteBatchWriter;
+
+    private VoteWriteBehindQueue voteWriteBehindQueue;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        voteWriteBehindQueue = new VoteWriteBehindQueue(voteBatchWriter, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(voteWriteBehindQueue, "ingestionMode", VoteIngestionModeEnum.WRITE_BEHIND);
+        ReflectionTestUtils.setField(voteWriteBehindQueue, "batchSize", 50);
+        ReflectionTestUtils.setField(voteWriteBehindQueue, "maxDelayMs", 20L);
+        ReflectionTestUtils.setField(voteWriteBehindQueue, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(voteWriteBehindQueue, "submitTimeoutMs", 100L);
+        ReflectionTestUtils.setField(voteWriteBehindQueue, "awaitTimeoutMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        voteWriteBehindQueue.stop();
+    }
+
+    @Test
+    void submit_ShouldGroupConcurrentVotesIntoBatches() throws Exception {
+        doAnswer(invocation -> {
+            List<PendingVote> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            batch.forEach(vote -> vote.complete(ids.incrementAndGet()));
+            return null;
+        }).when(voteBatchWriter).write(any(), eq(VoteIngestionMetrics.SOURCE_WRITE_BEHIND));
+        voteWriteBehindQueue.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        List<Future<Long>> results = new ArrayList<>();
+        for (long associateId = 1; associateId <= 200; associateId++) {
+            PendingVote vote = new PendingVote(1L, associateId, VoteValue.YES, OffsetDateTime.now());
+            results.add(executor.submit(() -> voteWriteBehindQueue.submit(vote)));
+        }
+        for (Future<Long> result : results) {
+            assertThat(result.get()).isPositive();
+        }
+        executor.shutdown();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(200);
+        assertThat(batchSizes).allMatch(size -> size <= 50);
+        assertThat(batchSizes.size()).isLessThan(200);
+    }
+
+    @Test
+    void submit_ShouldRethrowVoteException_WhenVoteIsRejected() {
+        doAnswer(invocation -> {
+            List<PendingVote> batch = invocation.getArgument(0);
+            batch.forEach(vote -> vote.fail(new VoteException("Associado já votou nesta sessão")));
+            return null;
+        }).when(voteBatchWriter).write(any(), eq(VoteIngestionMetrics.SOURCE_WRITE_BEHIND));
+        voteWriteBehindQueue.start();
+
+        PendingVote vote = new PendingVote(1L, 1L, VoteValue.NO, OffsetDateTime.now());
+
+        assertThatThrownBy(() -> voteWriteBehindQueue.submit(vote))
+                .isInstanceOf(VoteException.class)
+                .hasMessage("Associado já votou nesta sessão");
+    }
+
+    @Test
+    void submit_ShouldThrowIngestionOverloadException_WhenNotStarted() {
+        PendingVote vote = new PendingVote(1L, 1L, VoteValue.NO, OffsetDateTime.now());
+
+        assertThatThrownBy(() -> voteWriteBehindQueue.submit(vote))
+                .isInstanceOf(IngestionOverloadException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.enums.VoteIngestionModeEnum;
+import com.voting.system.api.service.ingestion.PendingVote;
+import com.voting.system.api.service.ingestion.VoteIngestionMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteJournalIngestionTest {
+
+    @Mock
+    private VoteJournalWriter voteJournalWriter;
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VoteJournalIngestion ingestion;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ingestion != null) {
+            ingestion.stop();
+        }
+    }
+
+    @Test
+    void start_ShouldReplayJournaledVotesAndResetJournal() {
+        JournalEntry entry = new JournalEntry(7L, 1L, 2L, VoteValue.YES, OffsetDateTime.now());
+        try (VoteJournal journal = VoteJournal.open(directory.resolve("votes.journal"), 64 * 1024)) {
+            journal.append(entry);
+            journal.force(VoteJournal.HEADER_BYTES);
+        }
+        when(voteJournalWriter.write(anyList(), eq(VoteIngestionMetrics.SOURCE_JOURNAL_REPLAY))).thenReturn(1);
+
+        newIngestion(VoteIngestionModeEnum.DIRECT).start();
+
+        verify(voteJournalWriter).write(List.of(entry), VoteIngestionMetrics.SOURCE_JOURNAL_REPLAY);
+        try (VoteJournal journal = VoteJournal.open(directory.resolve("votes.journal"), 64 * 1024)) {
+            assertThat(journal.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    void submit_ShouldReturnIdOnceJournaledAndCopyToDatabase() {
+        when(voteJournalWriter.nextVoteIds(1)).thenReturn(new long[]{41L});
+        ingestion = newIngestion(VoteIngestionModeEnum.JOURNAL);
+        ingestion.start();
+
+        Long id = ingestion.submit(new PendingVote(1L, 2L, VoteValue.NO, OffsetDateTime.now()));
+
+        assertThat(id).isEqualTo(41L);
+        verify(voteJournalWriter, timeout(5000)).write(
+            argThat(entries -> entries.size() == 1 && entries.get(0).voteId() == 41L),
+            eq(VoteIngestionMetrics.SOURCE_JOURNAL));
+    }
+
+    @Test
+    void submit_ShouldQuarantineFailingGroupAndKeepCopyingLaterVotes() throws InterruptedException {
+        when(voteJournalWriter.nextVoteIds(1)).thenReturn(new long[]{41L}, new long[]{42L});
+        when(voteJournalWriter.write(argThat(startsWith(41L)), eq(VoteIngestionMetrics.SOURCE_JOURNAL)))
+            .thenThrow(new IllegalStateException("constraint violation"));
+        when(voteJournalWriter.write(argThat(startsWith(42L)), eq(VoteIngestionMetrics.SOURCE_JOURNAL)))
+            .thenReturn(1);
+        ingestion = newIngestion(VoteIngestionModeEnum.JOURNAL);
+        ReflectionTestUtils.setField(ingestion, "maxWriteAttempts", 2);
+        ingestion.start();
+
+        ingestion.submit(new PendingVote(1L, 2L, VoteValue.NO, OffsetDateTime.now()));
+        ingestion.submit(new PendingVote(1L, 3L, VoteValue.YES, OffsetDateTime.now()));
+
+        verify(voteJournalWriter, timeout(5000)).write(
+            argThat(startsWith(42L)), eq(VoteIngestionMetrics.SOURCE_JOURNAL));
+        verify(voteJournalWriter, times(2)).write(
+            argThat(startsWith(41L)), eq(VoteIngestionMetrics.SOURCE_JOURNAL));
+        assertThat(meterRegistry.get("voting.journal.write.failures").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("voting.journal.quarantined").gauge().value()).isEqualTo(1.0);
+
+        ingestion.stop();
+        ingestion = null;
+        try (VoteJournal journal = VoteJournal.open(directory.resolve("votes.journal"), 1024 * 1024)) {
+            assertThat(journal.entries()).extracting(JournalEntry::voteId).contains(41L);
+        }
+    }
+
+    private static ArgumentMatcher<List<JournalEntry>> startsWith(long voteId) {
+        return entries -> entries != null && !entries.isEmpty() && entries.get(0).voteId() == voteId;
+    }
+
+    private VoteJournalIngestion newIngestion(VoteIngestionModeEnum mode) {
+        VoteJournalIngestion journalIngestion = new VoteJournalIngestion(voteJournalWriter, meterRegistry);
+        ReflectionTestUtils.setField(journalIngestion, "ingestionMode", mode);
+        ReflectionTestUtils.setField(journalIngestion, "directory", directory.toString());
+        ReflectionTestUtils.setField(journalIngestion, "sizeMb", 1);
+        return journalIngestion;
+    }
+}
@@ -0,0 +1,87 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.model.entity.VoteValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteJournalTest {
+
+    private static final int SIZE_BYTES = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_ShouldReturnEntriesAppendedBeforeReopening() {
+        Path file = directory.resolve("votes.journal");
+        JournalEntry first = entry(1L, VoteValue.YES);
+        JournalEntry second = entry(2L, VoteValue.NO);
+
+        try (VoteJournal journal = VoteJournal.open(file, SIZE_BYTES)) {
+            journal.append(first);
+            journal.append(second);
+            journal.force(VoteJournal.HEADER_BYTES);
+        }
+
+        try (VoteJournal journal = VoteJournal.open(file, SIZE_BYTES)) {
+            assertThat(journal.entries()).containsExactly(first, second);
+            assertThat(journal.position()).isEqualTo(VoteJournal.HEADER_BYTES + 2 * VoteJournal.RECORD_BYTES);
+        }
+    }
+
+    @Test
+    void open_ShouldStopAtFirstCorruptedRecord() throws Exception {
+        Path file = directory.resolve("votes.journal");
+        try (VoteJournal journal = VoteJournal.open(file, SIZE_BYTES)) {
+            journal.append(entry(1L, VoteValue.YES));
+            journal.append(entry(2L, VoteValue.YES));
+            journal.append(entry(3L, VoteValue.NO));
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            long secondRecordSession = VoteJournal.HEADER_BYTES + VoteJournal.RECORD_BYTES + 20;
+            raw.seek(secondRecordSession);
+            raw.write(0x7F);
+        }
+
+        try (VoteJournal journal = VoteJournal.open(file, SIZE_BYTES)) {
+            assertThat(journal.entries()).extracting(JournalEntry::voteId).containsExactly(1L);
+        }
+    }
+
+    @Test
+    void reset_ShouldDiscardRecordsOfPreviousGeneration() {
+        Path file = directory.resolve("votes.journal");
+        try (VoteJournal journal = VoteJournal.open(file, SIZE_BYTES)) {
+            journal.append(entry(1L, VoteValue.YES));
+            journal.append(entry(2L, VoteValue.NO));
+            journal.reset();
+            journal.append(entry(3L, VoteValue.NO));
+        }
+
+        try (VoteJournal journal = VoteJournal.open(file, SIZE_BYTES)) {
+            assertThat(journal.entries()).extracting(JournalEntry::voteId).containsExactly(3L);
+        }
+    }
+
+    @Test
+    void hasRoomFor_ShouldBeBoundedByMappedSize() {
+        try (VoteJournal journal = VoteJournal.open(directory.resolve("votes.journal"), VoteJournal.RECORD_BYTES * 2)) {
+            assertThat(journal.capacityInRecords()).isEqualTo(2);
+            journal.append(entry(1L, VoteValue.YES));
+            assertThat(journal.hasRoomFor(1)).isTrue();
+            assertThat(journal.hasRoomFor(2)).isFalse();
+        }
+    }
+
+    private JournalEntry entry(long voteId, VoteValue value) {
+        return new JournalEntry(voteId, 10L, 100L + voteId, value,
+            OffsetDateTime.of(2026, 10, 18, 12, 30, 15, 123_000_000, ZoneOffset.ofHours(-3)));
+    }
+}
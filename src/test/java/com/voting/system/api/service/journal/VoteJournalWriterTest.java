@@ -0,0 +1,44 @@
+package com.voting.system.api.service.journal;
+
+import com.voting.system.api.constants.TableConstants;
+import com.voting.system.api.service.ingestion.VoteIngestionMetrics;
+import com.voting.system.api.service.tally.VoteTallyEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(VoteJournalWriter.class)
+class VoteJournalWriterTest {
+
+    @Autowired
+    private VoteJournalWriter voteJournalWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private VoteTallyEngine voteTallyEngine;
+
+    @MockBean
+    private VoteIngestionMetrics voteIngestionMetrics;
+
+    @Test
+    void nextVoteIds_ShouldReserveWholeSequenceBlocks() {
+        long[] first = voteJournalWriter.nextVoteIds(TableConstants.ID_ALLOCATION_SIZE + 1);
+        long[] second = voteJournalWriter.nextVoteIds(1);
+
+        assertThat(Arrays.stream(first).distinct().count()).isEqualTo(first.length);
+        assertThat(first[TableConstants.ID_ALLOCATION_SIZE] - first[0]).isEqualTo(TableConstants.ID_ALLOCATION_SIZE);
+        assertThat(second[0]).isEqualTo(first[TableConstants.ID_ALLOCATION_SIZE] + TableConstants.ID_ALLOCATION_SIZE);
+        Long current = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + TableConstants.SEQ_VOTE, Long.class);
+        assertThat(current).isGreaterThan(second[0]);
+    }
+}
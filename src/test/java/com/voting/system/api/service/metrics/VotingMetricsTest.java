@@ -0,0 +1,74 @@
+package com.voting.system.api.service.metrics;
+
+import com.voting.system.api.model.enums.VoteRejectionReasonEnum;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VotingMetricsTest {
+
+    private PrometheusMeterRegistry meterRegistry;
+    private VotingMetrics votingMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        votingMetrics = new VotingMetrics(meterRegistry);
+    }
+
+    @Test
+    void recordVote_ShouldTimeEachOutcomeWithPercentileHistogram() {
+        votingMetrics.recordVote(VotingMetrics.VOTE_ACCEPTED, TimeUnit.MILLISECONDS.toNanos(3));
+        votingMetrics.recordVote(VotingMetrics.VOTE_ACCEPTED, TimeUnit.MILLISECONDS.toNanos(5));
+        votingMetrics.recordVote(VotingMetrics.VOTE_REJECTED, TimeUnit.MILLISECONDS.toNanos(1));
+
+        Timer accepted = meterRegistry.get("voting.vote").tag("outcome", "accepted").timer();
+        assertThat(accepted.count()).isEqualTo(2);
+        assertThat(accepted.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(8);
+        assertThat(meterRegistry.scrape())
+            .contains("voting_vote_seconds_bucket{outcome=\"accepted\",le=\"0.005592405\",} 2.0");
+        assertThat(meterRegistry.get("voting.vote").tag("outcome", "rejected").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordRejection_ShouldCountPerReasonAndIgnoreMissingReason() {
+        votingMetrics.recordRejection(VoteRejectionReasonEnum.SESSION_EXPIRED);
+        votingMetrics.recordRejection(VoteRejectionReasonEnum.ALREADY_VOTED);
+        votingMetrics.recordRejection(VoteRejectionReasonEnum.ALREADY_VOTED);
+        votingMetrics.recordRejection(null);
+
+        assertThat(meterRegistry.get("voting.votes.rejected").tag("reason", "already_voted").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("voting.votes.rejected").tag("reason", "session_expired").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("voting.votes.rejected").counters()).hasSize(2);
+    }
+
+    @Test
+    void recordExpirationSweep_ShouldTimeSweepByOutcomeAndCountClosedSessions() {
+        votingMetrics.recordExpirationSweep(VotingMetrics.SWEEP_COMPLETED, 3, TimeUnit.MILLISECONDS.toNanos(2));
+        votingMetrics.recordExpirationSweep(VotingMetrics.SWEEP_COMPLETED, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        votingMetrics.recordExpirationSweep(VotingMetrics.SWEEP_FAILED, 0, TimeUnit.MILLISECONDS.toNanos(7));
+
+        assertThat(meterRegistry.get("voting.sessions.expiration").tag("outcome", "completed").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("voting.sessions.expiration").tag("outcome", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("voting.sessions.expired").tag("trigger", "poll").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void recordSessionExpired_ShouldTimeDelayAfterEndTimeAndCountTimerCloses() {
+        votingMetrics.recordSessionExpired(TimeUnit.MILLISECONDS.toNanos(4));
+        votingMetrics.recordSessionExpired(-1);
+
+        Timer delay = meterRegistry.get("voting.sessions.expiration.delay").timer();
+        assertThat(delay.count()).isEqualTo(2);
+        assertThat(delay.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4);
+        assertThat(meterRegistry.get("voting.sessions.expired").tag("trigger", "timer").counter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,57 @@
+package com.voting.system.api.service.pagination;
+
+import com.voting.system.api.model.dto.response.CursorPageDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedTimestampAndId() {
+        OffsetDateTime voteTime = OffsetDateTime.of(2026, 10, 18, 9, 30, 15, 123456000, ZoneOffset.ofHours(-3));
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(voteTime, 42L).encode());
+
+        assertThat(cursor.timestamp()).isEqualTo(voteTime.withOffsetSameInstant(ZoneOffset.UTC));
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void decode_ShouldRestoreIdOnlyCursor() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(7L).encode());
+
+        assertThat(cursor.timestamp()).isNull();
+        assertThat(cursor.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void decode_ShouldRejectTamperedCursor() {
+        assertThatThrownBy(() -> KeysetCursor.decode("não-é-um-cursor"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Cursor de paginação inválido");
+    }
+
+    @Test
+    void of_ShouldTrimProbeRowAndPointCursorAtLastReturnedRow() {
+        CursorPageDTO<Long> page = KeysetPages.of(List.of(5L, 4L, 3L), 2, KeysetCursor::of, Function.identity());
+
+        assertThat(page.getContent()).containsExactly(5L, 4L);
+        assertThat(page.getHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor()).id()).isEqualTo(4L);
+    }
+
+    @Test
+    void of_ShouldNotReturnCursor_WhenLastPage() {
+        CursorPageDTO<Long> page = KeysetPages.of(List.of(2L, 1L), 2, KeysetCursor::of, Function.identity());
+
+        assertThat(page.getHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,39 @@
+package com.voting.system.api.service.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListingCountCacheTest {
+
+    @Test
+    void count_ShouldReuseTotalUntilExpired() {
+        ListingCountCache cache = new ListingCountCache();
+        AtomicLong counted = new AtomicLong();
+
+        assertThat(cache.count("agenda", counted::incrementAndGet)).isEqualTo(1L);
+        assertThat(cache.count("agenda", counted::incrementAndGet)).isEqualTo(1L);
+
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        assertThat(cache.count("associate", counted::incrementAndGet)).isEqualTo(2L);
+        assertThat(cache.count("associate", counted::incrementAndGet)).isEqualTo(3L);
+    }
+
+    @Test
+    void count_ShouldEvictLeastRecentlyUsedKey_WhenFull() {
+        ListingCountCache cache = new ListingCountCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+
+        cache.count("a", () -> 1L);
+        cache.count("b", () -> 2L);
+        cache.count("a", () -> 10L);
+        cache.count("c", () -> 3L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.count("a", () -> 100L)).isEqualTo(1L);
+        assertThat(cache.count("b", () -> 200L)).isEqualTo(200L);
+    }
+}
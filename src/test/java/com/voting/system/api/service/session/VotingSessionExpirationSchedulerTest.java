@@ -0,0 +1,143 @@
+package com.voting.system.api.service.session;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.VotingSessionRepository;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import com.voting.system.api.service.voted.VotedAssociateIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VotingSessionExpirationSchedulerTest {
+
+    @Mock
+    private VotingSessionRepository votingSessionRepository;
+
+    @Mock
+    private VotingSessionStateCache votingSessionStateCache;
+
+    @Mock
+    private VotedAssociateIndex votedAssociateIndex;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private VotingMetrics votingMetrics = new VotingMetrics(meterRegistry);
+
+    @InjectMocks
+    private VotingSessionExpirationScheduler votingSessionExpirationScheduler;
+
+    private Agenda agenda;
+
+    @BeforeEach
+    void setUp() {
+        agenda = new Agenda();
+        agenda.setId(10L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        votingSessionExpirationScheduler.stop();
+    }
+
+    @Test
+    void start_ShouldCloseOverdueActiveSessions() {
+        VotingSession overdue = session(1L, OffsetDateTime.now().minusMinutes(1));
+        when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE)).thenReturn(List.of(overdue));
+        when(votingSessionRepository.findById(1L)).thenReturn(Optional.of(overdue));
+        when(votingSessionRepository.save(overdue)).thenReturn(overdue);
+
+        votingSessionExpirationScheduler.start();
+
+        verify(votingSessionStateCache, timeout(2000)).putAfterCommit(overdue);
+        assertThat(overdue.getStatus()).isEqualTo(VotingSessionStatusEnum.CLOSED);
+        verify(votedAssociateIndex, timeout(2000)).evictAfterCommit(1L);
+        verify(votingMetrics, timeout(2000)).recordSessionExpired(anyLong());
+    }
+
+    @Test
+    void scheduleAfterCommit_ShouldCloseSessionAtItsEndTime() {
+        when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE)).thenReturn(List.of());
+        votingSessionExpirationScheduler.start();
+        VotingSession session = session(2L, OffsetDateTime.now().plusNanos(300_000_000));
+        when(votingSessionRepository.findById(2L)).thenReturn(Optional.of(session));
+        when(votingSessionRepository.save(session)).thenReturn(session);
+
+        votingSessionExpirationScheduler.scheduleAfterCommit(session);
+
+        verify(votingSessionRepository, after(100).never()).findById(2L);
+        verify(votingSessionStateCache, timeout(2000)).putAfterCommit(session);
+        assertThat(OffsetDateTime.now()).isAfterOrEqualTo(session.getEndTime());
+        assertThat(session.getStatus()).isEqualTo(VotingSessionStatusEnum.CLOSED);
+    }
+
+    @Test
+    void scheduleAfterCommit_ShouldCloseSessionsInEndTimeOrder() {
+        when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE)).thenReturn(List.of());
+        votingSessionExpirationScheduler.start();
+        OffsetDateTime now = OffsetDateTime.now();
+        VotingSession later = session(3L, now.plusNanos(200_000_000));
+        VotingSession sooner = session(4L, now.plusNanos(100_000_000));
+        when(votingSessionRepository.findById(anyLong())).thenAnswer(invocation ->
+            Optional.of((Long) invocation.getArgument(0) == 3L ? later : sooner));
+        when(votingSessionRepository.save(any(VotingSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        votingSessionExpirationScheduler.scheduleAfterCommit(later);
+        votingSessionExpirationScheduler.scheduleAfterCommit(sooner);
+
+        verify(votingSessionStateCache, timeout(2000).times(2)).putAfterCommit(any(VotingSession.class));
+        InOrder order = inOrder(votingSessionRepository);
+        order.verify(votingSessionRepository).findById(4L);
+        order.verify(votingSessionRepository).findById(3L);
+    }
+
+    @Test
+    void start_ShouldSkipSession_WhenAlreadyClosed() {
+        VotingSession closed = session(5L, OffsetDateTime.now().minusMinutes(1));
+        when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE)).thenReturn(List.of(closed));
+        closed.setStatus(VotingSessionStatusEnum.CLOSED);
+        when(votingSessionRepository.findById(5L)).thenReturn(Optional.of(closed));
+
+        votingSessionExpirationScheduler.start();
+
+        verify(votingSessionRepository, timeout(2000)).findById(5L);
+        verify(votingSessionRepository, after(100).never()).save(any());
+        verify(votingMetrics, never()).recordSessionExpired(anyLong());
+    }
+
+    private VotingSession session(Long id, OffsetDateTime endTime) {
+        VotingSession session = new VotingSession();
+        session.setId(id);
+        session.setAgenda(agenda);
+        session.setStatus(VotingSessionStatusEnum.ACTIVE);
+        session.setStartTime(endTime.minusMinutes(1));
+        session.setEndTime(endTime);
+        return session;
+    }
+}
@@ -0,0 +1,118 @@
+package com.voting.system.api.service.session;
+
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.VotingSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VotingSessionStateCacheTest {
+
+    @Mock
+    private VotingSessionRepository votingSessionRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private VotingSessionStateCache votingSessionStateCache;
+
+    private Agenda agenda;
+
+    @BeforeEach
+    void setUp() {
+        agenda = new Agenda();
+        agenda.setId(10L);
+    }
+
+    @Test
+    void load_ShouldCacheActiveSessions() {
+        when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE))
+            .thenReturn(List.of(session(1L, VotingSessionStatusEnum.ACTIVE)));
+
+        votingSessionStateCache.load();
+
+        assertThat(votingSessionStateCache.find(1L)).hasValueSatisfying(state -> {
+            assertThat(state.status()).isEqualTo(VotingSessionStatusEnum.ACTIVE);
+            assertThat(state.agendaId()).isEqualTo(10L);
+            assertThat(state.endTime()).isNotNull();
+        });
+    }
+
+    @Test
+    void remember_ShouldNotCachePendingSessions() {
+        VotingSessionState state = votingSessionStateCache.remember(session(2L, VotingSessionStatusEnum.PENDING));
+
+        assertThat(state.status()).isEqualTo(VotingSessionStatusEnum.PENDING);
+        assertThat(votingSessionStateCache.find(2L)).isEmpty();
+    }
+
+    @Test
+    void remember_ShouldNotCacheClosedSessions() {
+        VotingSessionState state = votingSessionStateCache.remember(session(4L, VotingSessionStatusEnum.CLOSED));
+
+        assertThat(state.status()).isEqualTo(VotingSessionStatusEnum.CLOSED);
+        assertThat(votingSessionStateCache.find(4L)).isEmpty();
+    }
+
+    @Test
+    void putAfterCommit_ShouldKeepOnlyMostRecentlyClosedSessions() {
+        ReflectionTestUtils.setField(votingSessionStateCache, "closedMaxEntries", 2);
+        votingSessionStateCache.putAfterCommit(session(5L, VotingSessionStatusEnum.ACTIVE));
+
+        votingSessionStateCache.putAfterCommit(session(5L, VotingSessionStatusEnum.CLOSED));
+        votingSessionStateCache.putAfterCommit(session(6L, VotingSessionStatusEnum.CLOSED));
+        votingSessionStateCache.putAfterCommit(session(7L, VotingSessionStatusEnum.CLOSED));
+
+        assertThat(votingSessionStateCache.find(5L)).isEmpty();
+        assertThat(votingSessionStateCache.find(6L)).hasValueSatisfying(
+            state -> assertThat(state.status()).isEqualTo(VotingSessionStatusEnum.CLOSED));
+        assertThat(votingSessionStateCache.find(7L)).isPresent();
+    }
+
+    @Test
+    void remember_ShouldKeepNewerState_WhenSessionWasClosedMeanwhile() {
+        votingSessionStateCache.putAfterCommit(session(3L, VotingSessionStatusEnum.CLOSED));
+
+        VotingSessionState state = votingSessionStateCache.remember(session(3L, VotingSessionStatusEnum.ACTIVE));
+
+        assertThat(state.status()).isEqualTo(VotingSessionStatusEnum.CLOSED);
+        assertThat(votingSessionStateCache.find(3L)).hasValue(state);
+    }
+
+    @Test
+    void activeSessionsGauge_ShouldCountOnlyActiveSessions() {
+        when(votingSessionRepository.findByStatus(VotingSessionStatusEnum.ACTIVE))
+            .thenReturn(List.of(session(1L, VotingSessionStatusEnum.ACTIVE), session(2L, VotingSessionStatusEnum.ACTIVE)));
+
+        votingSessionStateCache.load();
+        votingSessionStateCache.putAfterCommit(session(2L, VotingSessionStatusEnum.CLOSED));
+
+        assertThat(meterRegistry.get("voting.sessions.active").gauge().value()).isEqualTo(1.0);
+    }
+
+    private VotingSession session(Long id, VotingSessionStatusEnum status) {
+        VotingSession session = new VotingSession();
+        session.setId(id);
+        session.setAgenda(agenda);
+        session.setStatus(status);
+        session.setEndTime(OffsetDateTime.now().plusMinutes(5));
+        return session;
+    }
+}
@@ -0,0 +1,237 @@
+package com.voting.system.api.service.tally;
+
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.entity.Agenda;
+import com.voting.system.api.model.entity.VoteValue;
+import com.voting.system.api.model.entity.VotingSession;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.repository.VoteRepository;
+import com.voting.system.api.repository.VotingSessionRepository;
+import com.voting.system.api.service.metrics.VotingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyEngineTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private VotingSessionRepository votingSessionRepository;
+
+    @Spy
+    private VotingMetrics votingMetrics = new VotingMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private VoteTallyEngine voteTallyEngine;
+
+    private VotingSession votingSession;
+
+    @BeforeEach
+    void setUp() {
+        Agenda agenda = new Agenda();
+        agenda.setId(1L);
+        agenda.setTitle("Test Agenda");
+        agenda.setDtCreated(OffsetDateTime.now());
+
+        votingSession = new VotingSession();
+        votingSession.setId(1L);
+        votingSession.setAgenda(agenda);
+        votingSession.setStatus(VotingSessionStatusEnum.ACTIVE);
+    }
+
+    @Test
+    void rebuild_ShouldLoadCountersFromVoteTable() {
+        when(votingSessionRepository.findStartedSessions()).thenReturn(List.of(votingSession));
+        when(voteRepository.countVotesGroupedBySessionAndValue()).thenReturn(List.of(
+                new Object[]{1L, VoteValue.YES, 7L},
+                new Object[]{1L, VoteValue.NO, 3L},
+                new Object[]{2L, VoteValue.NO, 5L}));
+
+        voteTallyEngine.rebuild();
+
+        VotingResultDTO result = voteTallyEngine.findResult(1L).orElseThrow();
+        assertThat(result.getTotalVotes()).isEqualTo(10L);
+        assertThat(result.getYesVotes()).isEqualTo(7L);
+        assertThat(result.getNoVotes()).isEqualTo(3L);
+        assertThat(result.getResult()).isEqualTo("APROVADA");
+        assertThat(voteTallyEngine.findResult(2L)).isEmpty();
+    }
+
+    @Test
+    void record_ShouldCountConcurrentVotes() throws InterruptedException {
+        voteTallyEngine.register(votingSession);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            VoteValue value = i % 4 == 0 ? VoteValue.NO : VoteValue.YES;
+            executor.submit(() -> voteTallyEngine.recordAfterCommit(1L, value));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        VotingResultDTO result = voteTallyEngine.findResult(1L).orElseThrow();
+        assertThat(result.getTotalVotes()).isEqualTo(1000L);
+        assertThat(result.getYesVotes()).isEqualTo(750L);
+        assertThat(result.getNoVotes()).isEqualTo(250L);
+    }
+
+    @Test
+    void registerAfterCommit_ShouldOnlyTrackSession_WhenTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            voteTallyEngine.registerAfterCommit(votingSession);
+            assertThat(voteTallyEngine.findResult(1L)).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(voteTallyEngine.findResult(1L)).isEmpty();
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertThat(voteTallyEngine.findResult(1L)).isPresent();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void load_ShouldSeedTallyOnce_WhenSessionNotTracked() {
+        votingSession.setStatus(VotingSessionStatusEnum.CLOSED);
+        when(voteRepository.countVotesByValueForSession(1L)).thenReturn(Collections.singletonList(
+                new Object[]{VoteValue.NO, 2L}));
+
+        VotingResultDTO result = voteTallyEngine.load(votingSession);
+        voteTallyEngine.load(votingSession);
+
+        assertThat(result.getNoVotes()).isEqualTo(2L);
+        assertThat(result.getResult()).isEqualTo("REJEITADA");
+        assertThat(voteTallyEngine.findResult(1L)).isPresent();
+        verify(voteRepository, times(1)).countVotesByValueForSession(1L);
+    }
+
+    @Test
+    void load_ShouldRecount_WhenVoteIsRecordedWhileCounting() {
+        when(voteRepository.countVotesByValueForSession(1L))
+            .thenAnswer(invocation -> {
+                voteTallyEngine.record(1L, VoteValue.YES);
+                return Collections.emptyList();
+            })
+            .thenReturn(Collections.singletonList(new Object[]{VoteValue.YES, 1L}));
+
+        VotingResultDTO first = voteTallyEngine.load(votingSession);
+
+        assertThat(first.getTotalVotes()).isZero();
+        assertThat(voteTallyEngine.findResult(1L)).isEmpty();
+
+        VotingResultDTO second = voteTallyEngine.load(votingSession);
+
+        assertThat(second.getYesVotes()).isEqualTo(1L);
+        assertThat(voteTallyEngine.findResult(1L).orElseThrow().getYesVotes()).isEqualTo(1L);
+    }
+
+    @Test
+    void register_ShouldNotTrackEmptyTally_WhenVoteWasRecordedBefore() {
+        voteTallyEngine.record(1L, VoteValue.NO);
+
+        voteTallyEngine.register(votingSession);
+
+        assertThat(voteTallyEngine.findResult(1L)).isEmpty();
+    }
+
+    @Test
+    void load_ShouldNotTrackPendingSession() {
+        votingSession.setStatus(VotingSessionStatusEnum.PENDING);
+
+        VotingResultDTO result = voteTallyEngine.load(votingSession);
+
+        assertThat(result.getTotalVotes()).isZero();
+        assertThat(result.getResult()).isEqualTo("EMPATE");
+        assertThat(voteTallyEngine.findResult(1L)).isEmpty();
+    }
+
+    @Test
+    void load_ShouldRecordResultSource() {
+        when(voteRepository.countVotesByValueForSession(1L)).thenReturn(Collections.emptyList());
+
+        voteTallyEngine.load(votingSession);
+        voteTallyEngine.load(votingSession);
+        voteTallyEngine.findResult(1L);
+        voteTallyEngine.findResult(2L);
+
+        verify(votingMetrics, times(1)).recordResult(eq(VotingMetrics.RESULT_DATABASE), anyLong());
+        verify(votingMetrics, times(2)).recordResult(eq(VotingMetrics.RESULT_TALLY), anyLong());
+    }
+
+    @Test
+    void renameAgendaAfterCommit_ShouldUpdateTitleAndVersionOfTrackedSessions() {
+        voteTallyEngine.register(votingSession);
+        String before = voteTallyEngine.findVersion(1L).orElseThrow();
+
+        Agenda renamed = votingSession.getAgenda();
+        renamed.setTitle("Renamed Agenda");
+        renamed.setDtUpdated(renamed.getDtCreated().plusSeconds(1));
+        voteTallyEngine.renameAgendaAfterCommit(renamed);
+
+        assertThat(voteTallyEngine.findResult(1L).orElseThrow().getAgendaTitle()).isEqualTo("Renamed Agenda");
+        assertThat(voteTallyEngine.findVersion(1L).orElseThrow()).isNotEqualTo(before);
+    }
+
+    @Test
+    void renameAgendaAfterCommit_ShouldKeepTitle_WhenTransactionRollsBack() {
+        voteTallyEngine.register(votingSession);
+        Agenda renamed = votingSession.getAgenda();
+        renamed.setTitle("Renamed Agenda");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            voteTallyEngine.renameAgendaAfterCommit(renamed);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(voteTallyEngine.findResult(1L).orElseThrow().getAgendaTitle()).isEqualTo("Test Agenda");
+    }
+
+    @Test
+    void findVersion_ShouldChangeWithEveryVote() {
+        voteTallyEngine.register(votingSession);
+        String empty = voteTallyEngine.findVersion(1L).orElseThrow();
+
+        voteTallyEngine.record(1L, VoteValue.YES);
+        String afterVote = voteTallyEngine.findVersion(1L).orElseThrow();
+
+        assertThat(afterVote).isNotEqualTo(empty);
+        assertThat(voteTallyEngine.findVersion(2L)).isEmpty();
+    }
+
+    @Test
+    void loadVersion_ShouldMatchTrackedVersion() {
+        when(voteRepository.countVotesByValueForSession(1L)).thenReturn(Collections.singletonList(
+                new Object[]{VoteValue.YES, 4L}));
+
+        String loaded = voteTallyEngine.loadVersion(votingSession);
+
+        assertThat(voteTallyEngine.findVersion(1L)).contains(loaded);
+    }
+}
@@ -0,0 +1,196 @@
+package com.voting.system.api.service.tally;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.system.api.model.dto.response.VotingResultDTO;
+import com.voting.system.api.model.enums.VotingSessionStatusEnum;
+import com.voting.system.api.service.session.VotingSessionState;
+import com.voting.system.api.service.session.VotingSessionStateCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VotingResultBroadcasterTest {
+
+    @Mock
+    private VoteTallyEngine voteTallyEngine;
+
+    @Mock
+    private VotingSessionStateCache votingSessionStateCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VotingResultBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new VotingResultBroadcaster(voteTallyEngine, votingSessionStateCache,
+            new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(broadcaster, "sender", (Executor) Runnable::run);
+    }
+
+    @Test
+    void broadcast_ShouldPushChangedResultOnceToEverySubscriber() {
+        VotingResultDTO initial = result(1L);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        broadcaster.register(1L, first, initial);
+        broadcaster.register(1L, second, initial);
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.empty());
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.of(result(2L)), Optional.of(result(2L)));
+
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        assertThat(first.events).hasSize(2);
+        assertThat(second.events).hasSize(2);
+        verify(voteTallyEngine, times(2)).findResult(1L);
+    }
+
+    @Test
+    void broadcast_ShouldNotPush_WhenResultIsUnchanged() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.register(1L, emitter, result(1L));
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.empty());
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.of(result(1L)));
+
+        broadcaster.broadcast();
+
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    void broadcast_ShouldCompleteSubscribers_WhenSessionIsClosed() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.register(1L, emitter, result(1L));
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(
+            new VotingSessionState(1L, 1L, VotingSessionStatusEnum.CLOSED, null)));
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.of(result(3L)));
+
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.completed).isTrue();
+        verify(voteTallyEngine, times(1)).findResult(1L);
+    }
+
+    @Test
+    void broadcast_ShouldCompleteSubscriberRegisteredAfterClose_OnNextPush() {
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.of(
+            new VotingSessionState(1L, 1L, VotingSessionStatusEnum.CLOSED, null)));
+        when(voteTallyEngine.findResult(1L)).thenReturn(Optional.of(result(3L)));
+        RecordingEmitter early = new RecordingEmitter();
+        broadcaster.register(1L, early, result(1L));
+        broadcaster.broadcast();
+
+        RecordingEmitter late = new RecordingEmitter();
+        broadcaster.register(1L, late, result(3L));
+        broadcaster.broadcast();
+
+        assertThat(early.completed).isTrue();
+        assertThat(late.completed).isTrue();
+    }
+
+    @Test
+    void broadcast_ShouldDropStalledSubscriberWithoutBlockingOthers() throws InterruptedException {
+        ExecutorService sender = Executors.newFixedThreadPool(2);
+        ReflectionTestUtils.setField(broadcaster, "sender", sender);
+        ReflectionTestUtils.setField(broadcaster, "maxPendingEvents", 2);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter stalled = new BlockingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.register(1L, stalled, result(1L));
+        broadcaster.register(1L, healthy, result(1L));
+        when(votingSessionStateCache.find(1L)).thenReturn(Optional.empty());
+        when(voteTallyEngine.findResult(1L)).thenReturn(
+            Optional.of(result(2L)), Optional.of(result(3L)), Optional.of(result(4L)), Optional.of(result(5L)));
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                int delivered = i + 2;
+                broadcaster.broadcast();
+                await(() -> healthy.events.size() == delivered);
+            }
+
+            assertThat(meterRegistry.get("voting.result-stream.dropped").counter().count()).isEqualTo(1.0);
+            release.countDown();
+            await(() -> stalled.failed);
+        } finally {
+            release.countDown();
+            sender.shutdownNow();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private VotingResultDTO result(long yesVotes) {
+        return new VotingResultDTO(1L, "Pauta", 1L, yesVotes, yesVotes, 0L, "APROVADA");
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private int sent;
+        private volatile boolean failed;
+
+        private BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (sent++ > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+        }
+    }
+}
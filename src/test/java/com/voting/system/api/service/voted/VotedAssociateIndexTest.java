@@ -0,0 +1,116 @@
+package com.voting.system.api.service.voted;
+
+import com.voting.system.api.repository.VoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VotedAssociateIndexTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @TempDir
+    Path directory;
+
+    private VotedAssociateIndex votedAssociateIndex;
+
+    @BeforeEach
+    void setUp() {
+        votedAssociateIndex = newIndex();
+    }
+
+    @Test
+    void claim_ShouldRejectSecondClaimForSameAssociate() {
+        when(voteRepository.findAssociateIdsByVotingSessionId(1L)).thenReturn(Collections.emptyList());
+
+        assertThat(votedAssociateIndex.claim(1L, 7L)).isTrue();
+        assertThat(votedAssociateIndex.claim(1L, 7L)).isFalse();
+        assertThat(votedAssociateIndex.hasVoted(1L, 7L)).isTrue();
+        assertThat(votedAssociateIndex.hasVoted(1L, 8L)).isFalse();
+
+        votedAssociateIndex.release(1L, 7L);
+
+        assertThat(votedAssociateIndex.hasVoted(1L, 7L)).isFalse();
+        votedAssociateIndex.close();
+    }
+
+    @Test
+    void claim_ShouldGrowBitset_WhenAssociateIdExceedsCapacity() {
+        when(voteRepository.findAssociateIdsByVotingSessionId(1L)).thenReturn(Collections.emptyList());
+
+        assertThat(votedAssociateIndex.claim(1L, 5_000_000L)).isTrue();
+        assertThat(votedAssociateIndex.hasVoted(1L, 5_000_000L)).isTrue();
+        assertThat(votedAssociateIndex.hasVoted(1L, 4_999_999L)).isFalse();
+        votedAssociateIndex.close();
+    }
+
+    @Test
+    void hasVoted_ShouldQueryDatabase_WhenSessionHasNoIndexFile() {
+        when(voteRepository.existsByVotingSessionIdAndAssociateId(3L, 1L)).thenReturn(true);
+
+        assertThat(votedAssociateIndex.hasVoted(3L, 1L)).isTrue();
+
+        verify(voteRepository, never()).findAssociateIdsByVotingSessionId(any());
+    }
+
+    @Test
+    void open_ShouldReuseFileWithoutRebuild_AfterCleanClose() {
+        when(voteRepository.findAssociateIdsByVotingSessionId(1L)).thenReturn(List.of(2L, 3L));
+        votedAssociateIndex.claim(1L, 10L);
+        votedAssociateIndex.close();
+
+        VotedAssociateIndex reopened = newIndex();
+
+        assertThat(reopened.hasVoted(1L, 10L)).isTrue();
+        assertThat(reopened.hasVoted(1L, 2L)).isTrue();
+        verify(voteRepository, times(1)).findAssociateIdsByVotingSessionId(1L);
+        verify(voteRepository, never()).existsByVotingSessionIdAndAssociateId(any(), any());
+        reopened.close();
+    }
+
+    @Test
+    void open_ShouldRebuildFromDatabase_WhenFileWasNotClosedCleanly() {
+        when(voteRepository.findAssociateIdsByVotingSessionId(1L)).thenReturn(Collections.emptyList(), List.of(4L));
+        votedAssociateIndex.claim(1L, 9L);
+
+        VotedAssociateIndex reopened = newIndex();
+
+        assertThat(reopened.hasVoted(1L, 4L)).isTrue();
+        assertThat(reopened.hasVoted(1L, 9L)).isFalse();
+        reopened.close();
+        votedAssociateIndex.close();
+    }
+
+    @Test
+    void evictAfterCommit_ShouldDropSetAndAnswerFromDatabase() {
+        when(voteRepository.findAssociateIdsByVotingSessionId(1L)).thenReturn(Collections.emptyList());
+        votedAssociateIndex.claim(1L, 7L);
+
+        votedAssociateIndex.evictAfterCommit(1L);
+
+        assertThat(directory.resolve("session-1.bits")).doesNotExist();
+        when(voteRepository.existsByVotingSessionIdAndAssociateId(1L, 7L)).thenReturn(true);
+        assertThat(votedAssociateIndex.hasVoted(1L, 7L)).isTrue();
+        verify(voteRepository).existsByVotingSessionIdAndAssociateId(1L, 7L);
+        votedAssociateIndex.close();
+    }
+
+    private VotedAssociateIndex newIndex() {
+        VotedAssociateIndex index = new VotedAssociateIndex(voteRepository);
+        ReflectionTestUtils.setField(index, "directory", directory.toString());
+        return index;
+    }
+}